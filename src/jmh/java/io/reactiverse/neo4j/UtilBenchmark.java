@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2018-2020 Olympe S.A.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.reactiverse.neo4j;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+/**
+ * Measures the callbacks/sec dispatched by {@link Util#wrapCallback} from a driver thread to a Vert.x context, for
+ * succeeded and failed results.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UtilBenchmark {
+
+    private static final int CALLBACKS = 10_000;
+
+    private static final RuntimeException ERROR = new RuntimeException("failure", new IllegalStateException("cause"));
+
+    private Vertx vertx;
+    private Context context;
+
+    @Setup
+    public void setUp() {
+        vertx = Vertx.vertx();
+        context = vertx.getOrCreateContext();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        CompletableFuture<Void> closed = new CompletableFuture<>();
+        vertx.close(ar -> closed.complete(null));
+        closed.get(10, TimeUnit.SECONDS);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CALLBACKS)
+    public void wrapCallbackSucceeded() throws InterruptedException {
+        CountDownLatch end = new CountDownLatch(CALLBACKS);
+        Handler<AsyncResult<String>> handler = ar -> end.countDown();
+        for (int i = 0; i < CALLBACKS; i++) {
+            BiConsumer<String, Throwable> callback = Util.wrapCallback(context, handler);
+            callback.accept("result", null);
+        }
+        end.await();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CALLBACKS)
+    public void wrapCallbackFailed() throws InterruptedException {
+        CountDownLatch end = new CountDownLatch(CALLBACKS);
+        Handler<AsyncResult<String>> handler = ar -> end.countDown();
+        for (int i = 0; i < CALLBACKS; i++) {
+            BiConsumer<String, Throwable> callback = Util.wrapCallback(context, handler);
+            callback.accept(null, ERROR);
+        }
+        end.await();
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2018-2020 Olympe S.A.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.reactiverse.neo4j.impl;
+
+import io.reactiverse.neo4j.Neo4jClient;
+import io.reactiverse.neo4j.options.Neo4jClientAuthOptions;
+import io.reactiverse.neo4j.options.Neo4jClientOptions;
+import io.vertx.core.Vertx;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static io.reactiverse.neo4j.options.AuthSchemeOption.NONE;
+
+/**
+ * Measures the rows/sec received by the client from a {@link BoltStubServer}, through the driver and the network but
+ * without the noise of a database, streamed with {@code queryStream} or collected with {@code find}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BoltStubServerBenchmark {
+
+    private static final int ROWS = 100_000;
+    private static final String QUERY = "MATCH (n) RETURN n.value AS value";
+
+    @Param({"16", "1024"})
+    public int rowSize;
+
+    private Vertx vertx;
+    private Neo4jClient neo4jClient;
+
+    @Setup
+    public void setUp() throws Exception {
+        vertx = Vertx.vertx();
+        BoltStubServer server = new BoltStubServer(vertx).script(QUERY, StubResult.generated(ROWS, rowSize));
+        CompletableFuture<Integer> port = new CompletableFuture<>();
+        server.listen(ar -> {
+            if (ar.succeeded()) {
+                port.complete(ar.result());
+            } else {
+                port.completeExceptionally(ar.cause());
+            }
+        });
+        neo4jClient = Neo4jClient.createNonShared(vertx, new Neo4jClientOptions()
+                .setAuthOptions(new Neo4jClientAuthOptions().setAuthScheme(NONE))
+                .setHost("localhost")
+                .setPort(port.get(10, TimeUnit.SECONDS))
+        );
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        neo4jClient.close();
+        CompletableFuture<Void> closed = new CompletableFuture<>();
+        vertx.close(ar -> closed.complete(null));
+        closed.get(10, TimeUnit.SECONDS);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public long streamRecords() throws Exception {
+        CompletableFuture<Long> end = new CompletableFuture<>();
+        AtomicLong received = new AtomicLong();
+        neo4jClient.queryStream(QUERY, ar -> {
+            if (ar.failed()) {
+                end.completeExceptionally(ar.cause());
+                return;
+            }
+            ar.result()
+                    .exceptionHandler(end::completeExceptionally)
+                    .endHandler(ignore -> end.complete(received.get()))
+                    .handler(record -> received.incrementAndGet());
+        });
+        return end.get(1, TimeUnit.MINUTES);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public int findRecords() throws Exception {
+        CompletableFuture<Integer> end = new CompletableFuture<>();
+        neo4jClient.find(QUERY, ar -> {
+            if (ar.succeeded()) {
+                end.complete(ar.result().size());
+            } else {
+                end.completeExceptionally(ar.cause());
+            }
+        });
+        return end.get(1, TimeUnit.MINUTES);
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2018-2020 Olympe S.A.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.reactiverse.neo4j.impl;
+
+import org.neo4j.driver.Query;
+import org.neo4j.driver.Values;
+import org.neo4j.driver.async.AsyncTransaction;
+import org.neo4j.driver.async.ResultCursor;
+import org.neo4j.driver.internal.summary.InternalSummaryCounters;
+import org.neo4j.driver.summary.ResultSummary;
+import org.neo4j.driver.summary.SummaryCounters;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+import static org.neo4j.driver.internal.summary.InternalSummaryCounters.EMPTY_STATS;
+
+/**
+ * Measures the pipelined bulk writes/sec of {@link Neo4jClientImpl} over a transaction answering
+ * right away, i.e. the cost of the chaining and of the aggregation of the counters without any network, and the cost of
+ * the aggregation of as many counters with {@link Neo4jClientImpl#AGGREGATE_COUNTERS} alone.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BulkWriteBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int queryCount;
+
+    private AsyncTransaction tx;
+    private List<Query> queries;
+    private List<SummaryCounters> counters;
+
+    @Setup
+    public void setUp() {
+        SummaryCounters queryCounters = new InternalSummaryCounters(1, 0, 1, 0, 2, 1, 0, 0, 0, 0, 0, 0);
+        ResultSummary summary = mock(ResultSummary.class, withSettings().stubOnly());
+        when(summary.counters()).thenReturn(queryCounters);
+        CompletableFuture<ResultSummary> consumed = completedFuture(summary);
+        ResultCursor cursor = mock(ResultCursor.class, withSettings().stubOnly());
+        when(cursor.consumeAsync()).thenReturn(consumed);
+        CompletableFuture<ResultCursor> run = completedFuture(cursor);
+        tx = mock(AsyncTransaction.class, withSettings().stubOnly());
+        when(tx.runAsync(any(Query.class))).thenReturn(run);
+        queries = new ArrayList<>(queryCount);
+        for (int i = 0; i < queryCount; i++) {
+            queries.add(new Query("CREATE (n:Node {id: $id})-[:LINK]->(:Node)", Values.parameters("id", i)));
+        }
+        counters = new ArrayList<>(queryCount);
+        for (int i = 0; i < queryCount; i++) {
+            counters.add(queryCounters);
+        }
+    }
+
+    @Benchmark
+    public SummaryCounters runPipelined() {
+        return Neo4jClientImpl.runPipelined(tx, queries).toCompletableFuture().join();
+    }
+
+    @Benchmark
+    public SummaryCounters aggregateCounters() {
+        SummaryCounters aggregated = EMPTY_STATS;
+        for (SummaryCounters queryCounters : counters) {
+            aggregated = Neo4jClientImpl.AGGREGATE_COUNTERS.apply(aggregated, queryCounters);
+        }
+        return aggregated;
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2018-2020 Olympe S.A.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.reactiverse.neo4j.impl;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import org.neo4j.driver.Record;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.Values;
+import org.neo4j.driver.async.AsyncSession;
+import org.neo4j.driver.async.AsyncTransaction;
+import org.neo4j.driver.async.ResultCursor;
+import org.neo4j.driver.internal.InternalRecord;
+import org.neo4j.driver.summary.ResultSummary;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Measures the rows/sec delivered by a {@link Neo4jRecordStreamImpl} over a driver cursor which receives its records
+ * by chunks of {@link #FETCH_SIZE} on a separate thread, like the driver does. A batch size of 1 is the record per
+ * record delivery path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class Neo4jRecordStreamBenchmark {
+
+    private static final int ROWS = 100_000;
+    private static final int FETCH_SIZE = 1000;
+
+    @Param({"1", "100", "1000"})
+    public int batchSize;
+
+    private Vertx vertx;
+    private Context context;
+    private ExecutorService driverThread;
+    private AsyncTransaction tx;
+    private AsyncSession session;
+    private Record[] records;
+
+    @Setup
+    public void setUp() {
+        vertx = Vertx.vertx();
+        context = vertx.getOrCreateContext();
+        driverThread = Executors.newSingleThreadExecutor();
+        tx = mock(AsyncTransaction.class);
+        when(tx.commitAsync()).thenReturn(completedFuture(null));
+        session = mock(AsyncSession.class);
+        when(session.closeAsync()).thenReturn(completedFuture(null));
+        List<String> keys = Collections.singletonList("n");
+        records = new Record[ROWS];
+        for (int i = 0; i < ROWS; i++) {
+            records[i] = new InternalRecord(keys, new Value[]{Values.value(i)});
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        driverThread.shutdownNow();
+        CompletableFuture<Void> closed = new CompletableFuture<>();
+        vertx.close(ar -> closed.complete(null));
+        closed.get(10, TimeUnit.SECONDS);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public long streamRecords() throws InterruptedException {
+        CountDownLatch end = new CountDownLatch(1);
+        AtomicLong received = new AtomicLong();
+        context.runOnContext(v -> {
+            ResultCursor cursor = new ChunkedResultCursor(records, FETCH_SIZE, driverThread);
+            new Neo4jRecordStreamImpl(context, tx, session, new ResultCursorImpl(cursor, context), batchSize)
+                    .endHandler(ignore -> end.countDown())
+                    .handler(record -> received.incrementAndGet());
+        });
+        end.await();
+        return received.get();
+    }
+
+    /**
+     * Serves buffered records right away, and completes the first record of each chunk from the driver thread.
+     */
+    static class ChunkedResultCursor implements ResultCursor {
+
+        private final Record[] records;
+        private final int fetchSize;
+        private final Executor driverThread;
+        private int index;
+
+        ChunkedResultCursor(Record[] records, int fetchSize, Executor driverThread) {
+            this.records = records;
+            this.fetchSize = fetchSize;
+            this.driverThread = driverThread;
+        }
+
+        @Override
+        public CompletionStage<Record> nextAsync() {
+            if (index == records.length) {
+                return completedFuture(null);
+            }
+            Record record = records[index];
+            if (index++ % fetchSize == 0) {
+                return CompletableFuture.supplyAsync(() -> record, driverThread);
+            }
+            return completedFuture(record);
+        }
+
+        @Override
+        public List<String> keys() {
+            return Collections.singletonList("n");
+        }
+
+        @Override
+        public CompletionStage<ResultSummary> consumeAsync() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CompletionStage<Record> peekAsync() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CompletionStage<Record> singleAsync() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CompletionStage<ResultSummary> forEachAsync(Consumer<Record> action) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CompletionStage<List<Record>> listAsync() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <T> CompletionStage<List<T>> listAsync(Function<Record, T> mapFunction) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
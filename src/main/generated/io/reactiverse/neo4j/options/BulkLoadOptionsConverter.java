@@ -0,0 +1,51 @@
+package io.reactiverse.neo4j.options;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.JsonArray;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Converter for {@link io.reactiverse.neo4j.options.BulkLoadOptions}.
+ * NOTE: This class has been automatically generated from the {@link io.reactiverse.neo4j.options.BulkLoadOptions} original class using Vert.x codegen.
+ */
+public class BulkLoadOptionsConverter {
+
+  public static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, BulkLoadOptions obj) {
+    for (java.util.Map.Entry<String, Object> member : json) {
+      switch (member.getKey()) {
+        case "chunkSize":
+          if (member.getValue() instanceof Number) {
+            obj.setChunkSize(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "concurrency":
+          if (member.getValue() instanceof Number) {
+            obj.setConcurrency(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "maxRetries":
+          if (member.getValue() instanceof Number) {
+            obj.setMaxRetries(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "retryDelayMillis":
+          if (member.getValue() instanceof Number) {
+            obj.setRetryDelayMillis(((Number)member.getValue()).longValue());
+          }
+          break;
+      }
+    }
+  }
+
+  public static void toJson(BulkLoadOptions obj, JsonObject json) {
+    toJson(obj, json.getMap());
+  }
+
+  public static void toJson(BulkLoadOptions obj, java.util.Map<String, Object> json) {
+    json.put("chunkSize", obj.getChunkSize());
+    json.put("concurrency", obj.getConcurrency());
+    json.put("maxRetries", obj.getMaxRetries());
+    json.put("retryDelayMillis", obj.getRetryDelayMillis());
+  }
+}
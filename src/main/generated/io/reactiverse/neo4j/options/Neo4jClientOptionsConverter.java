@@ -14,6 +14,11 @@ public class Neo4jClientOptionsConverter {
   public static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, Neo4jClientOptions obj) {
     for (java.util.Map.Entry<String, Object> member : json) {
       switch (member.getKey()) {
+        case "adaptiveInFlightLimit":
+          if (member.getValue() instanceof Boolean) {
+            obj.setAdaptiveInFlightLimit((Boolean)member.getValue());
+          }
+          break;
         case "authOptions":
           if (member.getValue() instanceof JsonObject) {
             obj.setAuthOptions(new io.reactiverse.neo4j.options.Neo4jClientAuthOptions((JsonObject)member.getValue()));
@@ -27,11 +32,21 @@ public class Neo4jClientOptionsConverter {
             });
           }
           break;
+        case "coalesceReads":
+          if (member.getValue() instanceof Boolean) {
+            obj.setCoalesceReads((Boolean)member.getValue());
+          }
+          break;
         case "connectionAcquisitionTimeoutMillis":
           if (member.getValue() instanceof Number) {
             obj.setConnectionAcquisitionTimeoutMillis(((Number)member.getValue()).longValue());
           }
           break;
+        case "connectionTimeoutMillis":
+          if (member.getValue() instanceof Number) {
+            obj.setConnectionTimeoutMillis(((Number)member.getValue()).longValue());
+          }
+          break;
         case "encrypted":
           if (member.getValue() instanceof Boolean) {
             obj.setEncrypted((Boolean)member.getValue());
@@ -57,11 +72,26 @@ public class Neo4jClientOptionsConverter {
             obj.setHost((String)member.getValue());
           }
           break;
+        case "idleSessionTimeoutMillis":
+          if (member.getValue() instanceof Number) {
+            obj.setIdleSessionTimeoutMillis(((Number)member.getValue()).longValue());
+          }
+          break;
         case "idleTimeBeforeConnectionTest":
           if (member.getValue() instanceof Number) {
             obj.setIdleTimeBeforeConnectionTest(((Number)member.getValue()).longValue());
           }
           break;
+        case "latencyTrackingEnabled":
+          if (member.getValue() instanceof Boolean) {
+            obj.setLatencyTrackingEnabled((Boolean)member.getValue());
+          }
+          break;
+        case "latencyTrackingMaxQueries":
+          if (member.getValue() instanceof Number) {
+            obj.setLatencyTrackingMaxQueries(((Number)member.getValue()).intValue());
+          }
+          break;
         case "logLeakedSessions":
           if (member.getValue() instanceof Boolean) {
             obj.setLogLeakedSessions((Boolean)member.getValue());
@@ -77,6 +107,21 @@ public class Neo4jClientOptionsConverter {
             obj.setMaxConnectionPoolSize(((Number)member.getValue()).intValue());
           }
           break;
+        case "maxIdleSessions":
+          if (member.getValue() instanceof Number) {
+            obj.setMaxIdleSessions(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "maxInFlightRequests":
+          if (member.getValue() instanceof Number) {
+            obj.setMaxInFlightRequests(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "maxQueuedRequests":
+          if (member.getValue() instanceof Number) {
+            obj.setMaxQueuedRequests(((Number)member.getValue()).intValue());
+          }
+          break;
         case "metricsEnabled":
           if (member.getValue() instanceof Boolean) {
             obj.setMetricsEnabled((Boolean)member.getValue());
@@ -87,6 +132,69 @@ public class Neo4jClientOptionsConverter {
             obj.setPort(((Number)member.getValue()).intValue());
           }
           break;
+        case "queryTimeoutMillis":
+          if (member.getValue() instanceof Number) {
+            obj.setQueryTimeoutMillis(((Number)member.getValue()).longValue());
+          }
+          break;
+        case "resultCacheMaxSize":
+          if (member.getValue() instanceof Number) {
+            obj.setResultCacheMaxSize(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "resultCacheTtlMillis":
+          if (member.getValue() instanceof Number) {
+            obj.setResultCacheTtlMillis(((Number)member.getValue()).longValue());
+          }
+          break;
+        case "retryInitialDelayMillis":
+          if (member.getValue() instanceof Number) {
+            obj.setRetryInitialDelayMillis(((Number)member.getValue()).longValue());
+          }
+          break;
+        case "retryJitterFactor":
+          if (member.getValue() instanceof Number) {
+            obj.setRetryJitterFactor(((Number)member.getValue()).doubleValue());
+          }
+          break;
+        case "retryMaxAttempts":
+          if (member.getValue() instanceof Number) {
+            obj.setRetryMaxAttempts(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "retryMaxDelayMillis":
+          if (member.getValue() instanceof Number) {
+            obj.setRetryMaxDelayMillis(((Number)member.getValue()).longValue());
+          }
+          break;
+        case "routers":
+          if (member.getValue() instanceof JsonArray) {
+            ((Iterable<Object>)member.getValue()).forEach( item -> {
+              if (item instanceof String)
+                obj.addRouter((String)item);
+            });
+          }
+          break;
+        case "routingTablePurgeDelayMillis":
+          if (member.getValue() instanceof Number) {
+            obj.setRoutingTablePurgeDelayMillis(((Number)member.getValue()).longValue());
+          }
+          break;
+        case "transactionMetadata":
+          if (member.getValue() instanceof JsonObject) {
+            obj.setTransactionMetadata(((JsonObject)member.getValue()).copy());
+          }
+          break;
+        case "writeBatchMaxSize":
+          if (member.getValue() instanceof Number) {
+            obj.setWriteBatchMaxSize(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "writeBatchWindowMillis":
+          if (member.getValue() instanceof Number) {
+            obj.setWriteBatchWindowMillis(((Number)member.getValue()).longValue());
+          }
+          break;
       }
     }
   }
@@ -96,6 +204,7 @@ public class Neo4jClientOptionsConverter {
   }
 
   public static void toJson(Neo4jClientOptions obj, java.util.Map<String, Object> json) {
+    json.put("adaptiveInFlightLimit", obj.isAdaptiveInFlightLimit());
     if (obj.getAuthOptions() != null) {
       json.put("authOptions", obj.getAuthOptions().toJson());
     }
@@ -104,7 +213,9 @@ public class Neo4jClientOptionsConverter {
       obj.getClusterNodeURIs().forEach(item -> array.add(item));
       json.put("clusterNodeURIs", array);
     }
+    json.put("coalesceReads", obj.isCoalesceReads());
     json.put("connectionAcquisitionTimeoutMillis", obj.getConnectionAcquisitionTimeoutMillis());
+    json.put("connectionTimeoutMillis", obj.getConnectionTimeoutMillis());
     json.put("encrypted", obj.isEncrypted());
     if (obj.getEncryptionOptions() != null) {
       json.put("encryptionOptions", obj.getEncryptionOptions().toJson());
@@ -114,11 +225,35 @@ public class Neo4jClientOptionsConverter {
     if (obj.getHost() != null) {
       json.put("host", obj.getHost());
     }
+    json.put("idleSessionTimeoutMillis", obj.getIdleSessionTimeoutMillis());
     json.put("idleTimeBeforeConnectionTest", obj.getIdleTimeBeforeConnectionTest());
+    json.put("latencyTrackingEnabled", obj.isLatencyTrackingEnabled());
+    json.put("latencyTrackingMaxQueries", obj.getLatencyTrackingMaxQueries());
     json.put("logLeakedSessions", obj.isLogLeakedSessions());
     json.put("maxConnectionLifetimeMillis", obj.getMaxConnectionLifetimeMillis());
     json.put("maxConnectionPoolSize", obj.getMaxConnectionPoolSize());
+    json.put("maxIdleSessions", obj.getMaxIdleSessions());
+    json.put("maxInFlightRequests", obj.getMaxInFlightRequests());
+    json.put("maxQueuedRequests", obj.getMaxQueuedRequests());
     json.put("metricsEnabled", obj.isMetricsEnabled());
     json.put("port", obj.getPort());
+    json.put("queryTimeoutMillis", obj.getQueryTimeoutMillis());
+    json.put("resultCacheMaxSize", obj.getResultCacheMaxSize());
+    json.put("resultCacheTtlMillis", obj.getResultCacheTtlMillis());
+    json.put("retryInitialDelayMillis", obj.getRetryInitialDelayMillis());
+    json.put("retryJitterFactor", obj.getRetryJitterFactor());
+    json.put("retryMaxAttempts", obj.getRetryMaxAttempts());
+    json.put("retryMaxDelayMillis", obj.getRetryMaxDelayMillis());
+    if (obj.getRouters() != null) {
+      JsonArray array = new JsonArray();
+      obj.getRouters().forEach(item -> array.add(item));
+      json.put("routers", array);
+    }
+    json.put("routingTablePurgeDelayMillis", obj.getRoutingTablePurgeDelayMillis());
+    if (obj.getTransactionMetadata() != null) {
+      json.put("transactionMetadata", obj.getTransactionMetadata());
+    }
+    json.put("writeBatchMaxSize", obj.getWriteBatchMaxSize());
+    json.put("writeBatchWindowMillis", obj.getWriteBatchWindowMillis());
   }
 }
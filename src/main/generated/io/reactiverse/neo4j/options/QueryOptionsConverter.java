@@ -0,0 +1,41 @@
+package io.reactiverse.neo4j.options;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.JsonArray;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Converter for {@link io.reactiverse.neo4j.options.QueryOptions}.
+ * NOTE: This class has been automatically generated from the {@link io.reactiverse.neo4j.options.QueryOptions} original class using Vert.x codegen.
+ */
+public class QueryOptionsConverter {
+
+  public static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, QueryOptions obj) {
+    for (java.util.Map.Entry<String, Object> member : json) {
+      switch (member.getKey()) {
+        case "metadata":
+          if (member.getValue() instanceof JsonObject) {
+            obj.setMetadata(((JsonObject)member.getValue()).copy());
+          }
+          break;
+        case "timeoutMillis":
+          if (member.getValue() instanceof Number) {
+            obj.setTimeoutMillis(((Number)member.getValue()).longValue());
+          }
+          break;
+      }
+    }
+  }
+
+  public static void toJson(QueryOptions obj, JsonObject json) {
+    toJson(obj, json.getMap());
+  }
+
+  public static void toJson(QueryOptions obj, java.util.Map<String, Object> json) {
+    if (obj.getMetadata() != null) {
+      json.put("metadata", obj.getMetadata());
+    }
+    json.put("timeoutMillis", obj.getTimeoutMillis());
+  }
+}
@@ -19,18 +19,27 @@ package examples;
 import io.reactiverse.neo4j.Neo4jClient;
 import io.reactiverse.neo4j.Neo4jRecordStream;
 import io.reactiverse.neo4j.Neo4jTransaction;
+import io.reactiverse.neo4j.RowMapper;
+import io.reactiverse.neo4j.options.BulkLoadOptions;
 import io.reactiverse.neo4j.options.Neo4jClientAuthOptions;
 import io.reactiverse.neo4j.options.Neo4jClientEncryptionOptions;
 import io.reactiverse.neo4j.options.Neo4jClientOptions;
+import io.reactiverse.neo4j.options.QueryOptions;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.streams.ReadStream;
+import org.neo4j.driver.Bookmark;
 import org.neo4j.driver.Query;
 import org.neo4j.driver.Record;
+import org.neo4j.driver.Value;
 import org.neo4j.driver.Values;
 import org.neo4j.driver.summary.ResultSummary;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import static org.neo4j.driver.Config.TrustStrategy.Strategy.TRUST_CUSTOM_CA_SIGNED_CERTIFICATES;
 
@@ -67,6 +76,17 @@ public class Examples {
         Neo4jClient.createNonShared(vertx, config);
     }
 
+    public void asyncSharedClient(Vertx vertx, Neo4jClientOptions config) {
+        Neo4jClient.create(vertx, config, ar -> {
+            if (ar.succeeded()) {
+                Neo4jClient neo4jClient = ar.result();
+                // use the client
+            } else {
+                System.out.println("Could not connect to Neo4j: " + ar.cause().getMessage());
+            }
+        });
+    }
+
     public void simpleCreateNodesAndRelationship(Neo4jClient neo4jClient) {
 
         neo4jClient.execute("CREATE (you:Person {name:$name1})-[:FRIEND]->(him:Person {name:$name2})", Values.parameters("name1", "John", "name2", "Jack"), ar -> {
@@ -107,6 +127,28 @@ public class Examples {
         });
     }
 
+    public void boundedFindExample(Neo4jClient neo4jClient) {
+
+        neo4jClient.find("MATCH (p:Person) RETURN p", Values.parameters(), 1000, find -> {
+            if (find.succeeded()) {
+                List<Record> result = find.result();
+                System.out.println("Got " + result.size() + " persons");
+            } else {
+                Throwable error = find.cause();
+                System.out.println("Failure: " + error.getMessage());
+            }
+        });
+
+        neo4jClient.collect("MATCH (p:Person) RETURN p.age AS age", Values.parameters(), Collectors.averagingInt(record -> record.get("age").asInt()), find -> {
+            if (find.succeeded()) {
+                System.out.println("Average age is " + find.result());
+            } else {
+                Throwable error = find.cause();
+                System.out.println("Failure: " + error.getMessage());
+            }
+        });
+    }
+
     public void simpleFindOneExample(Neo4jClient neo4jClient) {
 
         neo4jClient.findOne("MATCH (p:Person {name:$name}) RETURN p", Values.parameters("name", "John"), findOne -> {
@@ -138,6 +180,34 @@ public class Examples {
         });
     }
 
+    public void mappingRows(Neo4jClient neo4jClient) {
+
+        neo4jClient.findMapped("MATCH (you {name:$name})-[:FRIEND]->(yourFriend) RETURN yourFriend.name AS name", Values.parameters("name", "John"), RowMapper.json(), find -> {
+            if (find.succeeded()) {
+                List<JsonObject> friends = find.result();
+                friends.forEach(friend -> System.out.println("Got friend " + friend.getString("name")));
+            } else {
+                Throwable error = find.cause();
+                System.out.println("Failure: " + error.getMessage());
+            }
+        });
+
+        neo4jClient.queryStreamMapped("MATCH (you {name:$name})-[:FRIEND]->(yourFriend) RETURN yourFriend", Values.parameters("name", "John"), record -> record.get("yourFriend").get("name").asString(), queryStream -> {
+            if (queryStream.succeeded()) {
+                ReadStream<String> names = queryStream.result();
+
+                names.handler(name -> System.out.println("Got friend " + name));
+
+                names.endHandler(v -> System.out.println("All friends streamed"));
+
+                names.exceptionHandler(error -> System.out.println("Failure: " + error.getMessage()));
+            } else {
+                Throwable error = queryStream.cause();
+                System.out.println("Failure: " + error.getMessage());
+            }
+        });
+    }
+
     public void executeQueriesInTransaction(Neo4jClient neo4jClient) {
 
         neo4jClient.begin(beginTx -> {
@@ -175,6 +245,25 @@ public class Examples {
         });
     }
 
+    public void inTransaction(Neo4jClient neo4jClient) {
+
+        neo4jClient.inTransaction(tx -> {
+            Promise<ResultSummary> createJanePromise = Promise.promise();
+            tx.query("MERGE (you:Person {name:$name}) RETURN you", Values.parameters("name", "Jane"), createJanePromise);
+            return createJanePromise.future().compose(ignore -> {
+                Promise<ResultSummary> createRelationshipPromise = Promise.promise();
+                tx.query("MATCH (p1:Person {name:$name1}), (p2:Person {name:$name2}) MERGE (p1)-[:FRIEND]->(p2)", Values.parameters("name1", "John", "name2", "Jane"), createRelationshipPromise);
+                return createRelationshipPromise.future();
+            });
+        }, result -> {
+            if (result.succeeded()) {
+                System.out.println("Relationships created: " + result.result().counters().relationshipsCreated());
+            } else {
+                System.out.println("Transaction rollbacked because: " + result.cause().getMessage());
+            }
+        });
+    }
+
     public void shouldWriteInBatch(Neo4jClient neo4jClient) {
 
         List<Query> queries = new ArrayList<Query>() {{
@@ -192,4 +281,142 @@ public class Examples {
             }
         });
     }
+
+    public void batchWrite(Neo4jClient neo4jClient) {
+
+        List<Value> rows = new ArrayList<>();
+        rows.add(Values.parameters("name", "John"));
+        rows.add(Values.parameters("name", "Jane"));
+
+        neo4jClient.batchWrite("CREATE (:Person {name: row.name})", rows, 1000, batchWrite -> {
+            if (batchWrite.succeeded()) {
+                System.out.println("Got " + batchWrite.result().nodesCreated() + " new nodes created");
+            } else {
+                Throwable error = batchWrite.cause();
+                System.out.println("Transaction rollbacked because: " + error.getMessage());
+            }
+        });
+    }
+
+    public void bulkLoad(Neo4jClient neo4jClient) {
+
+        List<Query> queries = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            queries.add(new Query("CREATE (:Item {id: $id})", Values.parameters("id", i)));
+        }
+
+        BulkLoadOptions options = new BulkLoadOptions()
+                .setChunkSize(5000)
+                .setConcurrency(8)
+                .setMaxRetries(3);
+
+        neo4jClient.bulkLoad(queries, options, committed -> System.out.println(committed + " queries committed"), bulkLoad -> {
+            if (bulkLoad.succeeded()) {
+                System.out.println("Got " + bulkLoad.result().nodesCreated() + " new nodes created");
+            } else {
+                Throwable error = bulkLoad.cause();
+                System.out.println("Load stopped because: " + error.getMessage());
+            }
+        });
+    }
+
+    public void writeStream(Neo4jClient neo4jClient, ReadStream<Query> queries) {
+
+        queries.pipeTo(neo4jClient.writeStream(1000), pipe -> {
+            if (pipe.succeeded()) {
+                System.out.println("All the queries have been committed");
+            } else {
+                Throwable error = pipe.cause();
+                System.out.println("Stream stopped because: " + error.getMessage());
+            }
+        });
+    }
+
+    public void cachedFind(Vertx vertx) {
+
+        Neo4jClient neo4jClient = Neo4jClient.createShared(vertx, new Neo4jClientOptions()
+                .setResultCacheMaxSize(1000)
+                .setResultCacheTtlMillis(30_000));
+
+        neo4jClient.findCached("MATCH (c:Country) RETURN c", Values.parameters(), "countries", find -> {
+            if (find.succeeded()) {
+                List<Record> countries = find.result();
+                System.out.println("Got " + countries.size() + " countries");
+            } else {
+                Throwable error = find.cause();
+                System.out.println("Failure: " + error.getMessage());
+            }
+        });
+
+        neo4jClient.executeAndInvalidate("CREATE (:Country {name:$name})", Values.parameters("name", "Utopia"), "countries", execute -> {
+            if (execute.succeeded()) {
+                System.out.println("Country created, cached countries invalidated");
+            } else {
+                Throwable error = execute.cause();
+                System.out.println("Failure: " + error.getMessage());
+            }
+        });
+    }
+
+    public void queryOptions(Neo4jClient neo4jClient) {
+
+        QueryOptions options = new QueryOptions()
+                .setTimeoutMillis(2_000)
+                .setMetadata(new JsonObject().put("requestId", "c0ffee"));
+
+        neo4jClient.find("MATCH (p:Person)-[:KNOWS*1..6]-(f:Person) RETURN DISTINCT f", Values.parameters(), options, find -> {
+            if (find.succeeded()) {
+                List<Record> friends = find.result();
+                System.out.println("Got " + friends.size() + " friends of friends");
+            } else {
+                Throwable error = find.cause();
+                System.out.println("Failure: " + error.getMessage());
+            }
+        });
+    }
+
+    public void readYourWrites(Neo4jClient neo4jClient) {
+
+        neo4jClient.executeWithBookmark("CREATE (:Person {name: $name})", Values.parameters("name", "John"), null, created -> {
+            if (created.succeeded()) {
+                Bookmark bookmark = created.result();
+                neo4jClient.findWithBookmark("MATCH (person:Person) RETURN person", Values.parameters(), bookmark, found -> {
+                    if (found.succeeded()) {
+                        System.out.println("Got " + found.result().size() + " persons, including John");
+                    }
+                });
+            }
+        });
+    }
+
+    public void metrics(Neo4jClient neo4jClient) {
+
+        JsonObject metrics = neo4jClient.metrics();
+        System.out.println("Sessions in flight: " + metrics.getInteger("inFlightSessions"));
+        metrics.getJsonArray("connectionPools", new JsonArray()).forEach(pool -> {
+            JsonObject connectionPool = (JsonObject) pool;
+            System.out.println("Connections in use: " + connectionPool.getInteger("inUse") + ", waiting for a connection: " + connectionPool.getInteger("acquiring"));
+        });
+    }
+
+    public void queryLatencies(Neo4jClient neo4jClient) {
+
+        JsonObject latencies = neo4jClient.queryLatencies();
+        latencies.fieldNames().forEach(fingerprint -> {
+            JsonObject latency = latencies.getJsonObject(fingerprint);
+            System.out.println(fingerprint + " p99: " + latency.getJsonObject("total").getLong("p99Micros") + " us"
+                    + ", server p99: " + latency.getJsonObject("server").getLong("p99Micros") + " us"
+                    + ", delivery p99: " + latency.getJsonObject("delivery").getLong("p99Micros") + " us");
+        });
+    }
+
+    public void createClusterOptions() {
+        Neo4jClientOptions neo4jClientOptions = new Neo4jClientOptions()
+                .addClusterNodeURI("neo4j://cluster.example.com:7687")
+                .addRouter("core1.example.com:7687")
+                .addRouter("core2.example.com:7687")
+                .addRouter("core3.example.com:7687")
+                .setRoutingTablePurgeDelayMillis(10000)
+                .setConnectionTimeoutMillis(2000);
+    }
 }
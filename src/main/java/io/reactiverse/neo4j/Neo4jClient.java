@@ -17,13 +17,20 @@
 package io.reactiverse.neo4j;
 
 import io.reactiverse.neo4j.impl.Neo4jClientImpl;
+import io.reactiverse.neo4j.options.BulkLoadOptions;
 import io.reactiverse.neo4j.options.Neo4jClientOptions;
+import io.reactiverse.neo4j.options.QueryOptions;
 import io.vertx.codegen.annotations.Fluent;
 import io.vertx.codegen.annotations.GenIgnore;
+import io.vertx.codegen.annotations.Nullable;
 import io.vertx.codegen.annotations.VertxGen;
 import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.streams.ReadStream;
+import org.neo4j.driver.Bookmark;
 import org.neo4j.driver.Query;
 import org.neo4j.driver.Record;
 import org.neo4j.driver.Value;
@@ -32,6 +39,8 @@ import org.neo4j.driver.summary.SummaryCounters;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collector;
 
 @VertxGen
 public interface Neo4jClient {
@@ -79,6 +88,32 @@ public interface Neo4jClient {
         return new Neo4jClientImpl(vertx, config, UUID.randomUUID().toString());
     }
 
+    /**
+     * Same as {@link #create(Vertx, Neo4jClientOptions, String, Handler)} but with a default data source name
+     *
+     * @param vertx  the Vert.x instance
+     * @param config  the driver configuration
+     * @param resultHandler  the handler to be called when the client has been created
+     */
+    static void create(Vertx vertx, Neo4jClientOptions config, Handler<AsyncResult<Neo4jClient>> resultHandler) {
+        Neo4jClientImpl.create(vertx, config, DEFAULT_POOL_NAME, resultHandler);
+    }
+
+    /**
+     * Same as {@link #createShared(Vertx, Neo4jClientOptions, String)} but without blocking the calling thread.
+     * <p>
+     * The connectivity of a new driver session is verified asynchronously, and clients created concurrently with the same name
+     * wait for the same driver session.
+     *
+     * @param vertx  the Vert.x instance
+     * @param config  the driver configuration
+     * @param dataSourceName  the data source name
+     * @param resultHandler  the handler to be called when the client has been created
+     */
+    static void create(Vertx vertx, Neo4jClientOptions config, String dataSourceName, Handler<AsyncResult<Neo4jClient>> resultHandler) {
+        Neo4jClientImpl.create(vertx, config, dataSourceName, resultHandler);
+    }
+
     /**
      * Executes a write transaction
      *
@@ -102,6 +137,38 @@ public interface Neo4jClient {
     @Fluent
     Neo4jClient execute(String query, Value parameters, Handler<AsyncResult<ResultSummary>> resultHandler);
 
+    /**
+     * Executes a write transaction with options, e.g. a timeout or transaction metadata
+     * <p>
+     * When the timeout elapses, the handler is failed with a {@link java.util.concurrent.TimeoutException}, and the session is
+     * closed straight away, which rolls back the transaction. The timeout is also given to the server as the transaction timeout.
+     *
+     * @param query  the cypher query
+     * @param parameters  the cypher parameters
+     * @param options  the options of this call
+     * @param resultHandler  the handler to be called when the query has completed
+     * @return the current Neo4jClient instance
+     */
+    @GenIgnore(GenIgnore.PERMITTED_TYPE)
+    @Fluent
+    Neo4jClient execute(String query, Value parameters, QueryOptions options, Handler<AsyncResult<ResultSummary>> resultHandler);
+
+    /**
+     * Executes a write transaction after the transaction identified by a bookmark, and returns the bookmark of this new transaction
+     * <p>
+     * Passing the returned bookmark to a read, e.g. {@link #findWithBookmark(String, Value, Bookmark, Handler)}, ensures that the read
+     * observes this write, even when the read is routed to a cluster follower.
+     *
+     * @param query  the cypher query
+     * @param parameters  the cypher parameters
+     * @param bookmark  the bookmark of a transaction that must be visible to this one, can be {@code null}
+     * @param resultHandler  the handler to be called with the bookmark of the transaction when the query has completed
+     * @return the current Neo4jClient instance
+     */
+    @GenIgnore(GenIgnore.PERMITTED_TYPE)
+    @Fluent
+    Neo4jClient executeWithBookmark(String query, Value parameters, @Nullable Bookmark bookmark, Handler<AsyncResult<Bookmark>> resultHandler);
+
     /**
      * Executes and returns deleted results
      *
@@ -125,6 +192,19 @@ public interface Neo4jClient {
     @Fluent
     Neo4jClient delete(String query, Value parameters, Handler<AsyncResult<List<Record>>> resultHandler);
 
+    /**
+     * Executes and returns deleted results, with options, e.g. a timeout or transaction metadata
+     *
+     * @param query  the cypher query
+     * @param parameters  the cypher parameters
+     * @param options  the options of this call
+     * @param resultHandler  the handler to be called when the query has completed
+     * @return the current Neo4jClient instance
+     */
+    @GenIgnore(GenIgnore.PERMITTED_TYPE)
+    @Fluent
+    Neo4jClient delete(String query, Value parameters, QueryOptions options, Handler<AsyncResult<List<Record>>> resultHandler);
+
     /**
      * Finds exactly one record
      *
@@ -148,6 +228,33 @@ public interface Neo4jClient {
     @Fluent
     Neo4jClient findOne(String query, Value parameters, Handler<AsyncResult<Record>> resultHandler);
 
+    /**
+     * Executes a read transaction, after the transaction identified by a bookmark, for a query returning a single record
+     *
+     * @param query  the cypher query
+     * @param parameters  the cypher parameters
+     * @param bookmark  the bookmark of a transaction that must be visible to this one
+     * @param resultHandler  the handler to be called when the query has completed
+     * @return the current Neo4jClient instance
+     */
+    @GenIgnore(GenIgnore.PERMITTED_TYPE)
+    @Fluent
+    Neo4jClient findOneWithBookmark(String query, Value parameters, Bookmark bookmark, Handler<AsyncResult<Record>> resultHandler);
+
+    /**
+     * Finds exactly one record, with options, e.g. a timeout or transaction metadata
+     *
+     * @param query  the cypher query
+     * @param parameters  the cypher parameters
+     * @param options  the options of this call
+     * @param resultHandler  the handler to be called when the query has completed
+     * @return the current Neo4jClient instance
+     * @see #execute(String, Value, QueryOptions, Handler)
+     */
+    @GenIgnore(GenIgnore.PERMITTED_TYPE)
+    @Fluent
+    Neo4jClient findOne(String query, Value parameters, QueryOptions options, Handler<AsyncResult<Record>> resultHandler);
+
     /**
      * Finds a list of records
      *
@@ -171,8 +278,179 @@ public interface Neo4jClient {
     @Fluent
     Neo4jClient find(String query, Value parameters, Handler<AsyncResult<List<Record>>> resultHandler);
 
+    /**
+     * Executes a read transaction after the transaction identified by a bookmark
+     *
+     * @param query  the cypher query
+     * @param parameters  the cypher parameters
+     * @param bookmark  the bookmark of a transaction that must be visible to this one
+     * @param resultHandler  the handler to be called when the query has completed
+     * @return the current Neo4jClient instance
+     */
+    @GenIgnore(GenIgnore.PERMITTED_TYPE)
+    @Fluent
+    Neo4jClient findWithBookmark(String query, Value parameters, Bookmark bookmark, Handler<AsyncResult<List<Record>>> resultHandler);
+
+    /**
+     * Finds a list of records, with options, e.g. a timeout or transaction metadata
+     *
+     * @param query  the cypher query
+     * @param parameters  the cypher parameters
+     * @param options  the options of this call
+     * @param resultHandler  the handler to be called when the query has completed
+     * @return the current Neo4jClient instance
+     * @see #execute(String, Value, QueryOptions, Handler)
+     */
+    @GenIgnore(GenIgnore.PERMITTED_TYPE)
+    @Fluent
+    Neo4jClient find(String query, Value parameters, QueryOptions options, Handler<AsyncResult<List<Record>>> resultHandler);
+
+    /**
+     * Finds a list of rows, each record being mapped as soon as it is received
+     * <p>
+     * Only the mapped rows are kept, e.g. with {@link RowMapper#json()} the records are read straight into JSON objects.
+     *
+     * @param query  the cypher query
+     * @param parameters  the cypher parameters
+     * @param mapper  the mapper of each record
+     * @param resultHandler  the handler to be called when the query has completed
+     * @return the current Neo4jClient instance
+     */
+    @GenIgnore(GenIgnore.PERMITTED_TYPE)
+    @Fluent
+    <T> Neo4jClient findMapped(String query, Value parameters, RowMapper<T> mapper, Handler<AsyncResult<List<T>>> resultHandler);
+
+    /**
+     * Finds a bounded list of records
+     * <p>
+     * The query fails as soon as more records than the maximum are received, without reading the rest of the result.
+     *
+     * @param query  the cypher query
+     * @param parameters  the cypher parameters
+     * @param maxRecords  the maximum number of records
+     * @param resultHandler  the handler to be called when the query has completed
+     * @return the current Neo4jClient instance
+     */
+    @GenIgnore(GenIgnore.PERMITTED_TYPE)
+    @Fluent
+    Neo4jClient find(String query, Value parameters, int maxRecords, Handler<AsyncResult<List<Record>>> resultHandler);
+
+    /**
+     * Finds the first records of a result
+     * <p>
+     * The rest of the result is not read once the maximum number of records has been received.
+     *
+     * @param query  the cypher query
+     * @param parameters  the cypher parameters
+     * @param maxRecords  the maximum number of records
+     * @param resultHandler  the handler to be called when the query has completed
+     * @return the current Neo4jClient instance
+     */
+    @GenIgnore(GenIgnore.PERMITTED_TYPE)
+    @Fluent
+    Neo4jClient findFirst(String query, Value parameters, int maxRecords, Handler<AsyncResult<List<Record>>> resultHandler);
+
+    /**
+     * Finds records and folds them with a collector while they are received, so that no list of records is built
+     *
+     * @param query  the cypher query
+     * @param parameters  the cypher parameters
+     * @param collector  the collector of the records
+     * @param resultHandler  the handler to be called with the result of the collector when the query has completed
+     * @return the current Neo4jClient instance
+     */
+    @GenIgnore(GenIgnore.PERMITTED_TYPE)
+    @Fluent
+    <A, R> Neo4jClient collect(String query, Value parameters, Collector<Record, A, R> collector, Handler<AsyncResult<R>> resultHandler);
+
+    /**
+     * Finds a list of records, reusing the result of a previous identical find when it is cached
+     * <p>
+     * Results are only cached when {@link Neo4jClientOptions#setResultCacheMaxSize} is positive, otherwise this is a plain find.
+     * A cached list of records is shared, so it cannot be modified.
+     *
+     * @param query  the cypher query
+     * @param parameters  the cypher parameters
+     * @param tag  the tag to invalidate the result with, can be {@code null}
+     * @param resultHandler  the handler to be called when the query has completed
+     * @return the current Neo4jClient instance
+     */
+    @GenIgnore(GenIgnore.PERMITTED_TYPE)
+    @Fluent
+    Neo4jClient findCached(String query, Value parameters, @Nullable String tag, Handler<AsyncResult<List<Record>>> resultHandler);
+
+    /**
+     * Finds a single record, reusing the result of a previous identical find when it is cached
+     * <p>
+     * Results are only cached when {@link Neo4jClientOptions#setResultCacheMaxSize} is positive, otherwise this is a plain find.
+     *
+     * @param query  the cypher query
+     * @param parameters  the cypher parameters
+     * @param tag  the tag to invalidate the result with, can be {@code null}
+     * @param resultHandler  the handler to be called when the query has completed
+     * @return the current Neo4jClient instance
+     */
+    @GenIgnore(GenIgnore.PERMITTED_TYPE)
+    @Fluent
+    Neo4jClient findOneCached(String query, Value parameters, @Nullable String tag, Handler<AsyncResult<Record>> resultHandler);
+
+    /**
+     * Executes a write transaction, then invalidates the cached results with the given tag
+     *
+     * @param query  the cypher query
+     * @param parameters  the cypher parameters
+     * @param tag  the tag of the cached results to invalidate
+     * @param resultHandler  the handler to be called when the query has completed
+     * @return the current Neo4jClient instance
+     */
+    @GenIgnore(GenIgnore.PERMITTED_TYPE)
+    @Fluent
+    Neo4jClient executeAndInvalidate(String query, Value parameters, String tag, Handler<AsyncResult<ResultSummary>> resultHandler);
+
+    /**
+     * Invalidates the cached results of a query
+     *
+     * @param query  the cypher query
+     * @param parameters  the cypher parameters
+     * @return the current Neo4jClient instance
+     */
+    @GenIgnore(GenIgnore.PERMITTED_TYPE)
+    @Fluent
+    Neo4jClient invalidate(String query, Value parameters);
+
+    /**
+     * Invalidates the cached results with the given tag
+     *
+     * @param tag  the tag of the cached results
+     * @return the current Neo4jClient instance
+     */
+    @Fluent
+    Neo4jClient invalidateTag(String tag);
+
+    /**
+     * @return the number of cached results ({@code size}), and the number of {@code hits}, {@code misses} and {@code evictions} of the result cache
+     */
+    JsonObject resultCacheStats();
+
+    /**
+     * @return the number of {@code calls} by client method, the number of {@code inFlightSessions} and {@code openStreams},
+     * and, when the {@link Neo4jClientOptions#setMetricsEnabled driver metrics} are enabled, the {@code connectionPools}
+     * of the driver with their number of connections {@code inUse}, {@code idle} and {@code acquiring}, and their acquisition counters and times
+     */
+    JsonObject metrics();
+
+    /**
+     * @return the latency histograms of the calls by query fingerprint, i.e. the query with its literals replaced by
+     * {@code ?}, when {@link Neo4jClientOptions#setLatencyTrackingEnabled tracked} : the {@code total} latency, and its
+     * split in {@code queue}, {@code server}, {@code driver} and {@code delivery} time, each with its {@code count}, and
+     * its mean, percentiles and max in microseconds
+     */
+    JsonObject queryLatencies();
+
     /**
      * Executes a list of queries in one transaction
+     * <p>
+     * The queries are pipelined : they are all sent before their summaries are collected.
      *
      * @param queries  the list of queries to execute
      * @param resultHandler  the handler to be called when the query has completed
@@ -182,6 +460,103 @@ public interface Neo4jClient {
     @Fluent
     Neo4jClient bulkWrite(List<Query> queries, Handler<AsyncResult<SummaryCounters>> resultHandler);
 
+    /**
+     * Executes a list of queries in one transaction, with options, e.g. a timeout or transaction metadata
+     *
+     * @param queries  the list of queries to execute
+     * @param options  the options of this call
+     * @param resultHandler  the handler to be called when the query has completed
+     * @return the current Neo4jClient instance
+     */
+    @GenIgnore(GenIgnore.PERMITTED_TYPE)
+    @Fluent
+    Neo4jClient bulkWrite(List<Query> queries, QueryOptions options, Handler<AsyncResult<SummaryCounters>> resultHandler);
+
+    /**
+     * Executes the same write query for each row of a list in one transaction
+     * <p>
+     * The rows are sent by chunks : each chunk is run as a single {@code UNWIND $rows AS row <query>} statement,
+     * so the query refers to the current row through the {@code row} variable,
+     * e.g. {@code CREATE (:Person {name: row.name})}.
+     *
+     * @param query  the cypher query to run for each row
+     * @param rows  the rows, usually maps of values
+     * @param chunkSize  the maximum number of rows per statement
+     * @param resultHandler  the handler to be called when the query has completed
+     * @return the current Neo4jClient instance
+     */
+    @GenIgnore(GenIgnore.PERMITTED_TYPE)
+    @Fluent
+    Neo4jClient batchWrite(String query, List<Value> rows, int chunkSize, Handler<AsyncResult<SummaryCounters>> resultHandler);
+
+    /**
+     * Executes a write query for each row, in one transaction, with options, e.g. a timeout or transaction metadata
+     *
+     * @param query  the cypher query to run for each row
+     * @param rows  the rows, usually maps of values
+     * @param chunkSize  the maximum number of rows per statement
+     * @param options  the options of this call
+     * @param resultHandler  the handler to be called when the query has completed
+     * @return the current Neo4jClient instance
+     */
+    @GenIgnore(GenIgnore.PERMITTED_TYPE)
+    @Fluent
+    Neo4jClient batchWrite(String query, List<Value> rows, int chunkSize, QueryOptions options, Handler<AsyncResult<SummaryCounters>> resultHandler);
+
+    /**
+     * Executes a large list of queries by chunks, each chunk in its own write transaction
+     * <p>
+     * Up to {@link BulkLoadOptions#getConcurrency() concurrency} chunks are written at the same time, each one in its own session,
+     * and a failed chunk is written again up to {@link BulkLoadOptions#getMaxRetries() max retries} times.
+     * Unlike {@link #bulkWrite}, the load is not atomic : when a chunk finally fails, no more chunks are started,
+     * the chunks already committed stay committed and the result handler is called with the failure.
+     *
+     * @param queries  the list of queries to execute
+     * @param options  the chunk size, concurrency and retry options
+     * @param progressHandler  the handler called with the total number of committed queries after each chunk, can be {@code null}
+     * @param resultHandler  the handler to be called with the aggregated counters when all the chunks have completed
+     * @return the current Neo4jClient instance
+     */
+    @GenIgnore(GenIgnore.PERMITTED_TYPE)
+    @Fluent
+    Neo4jClient bulkLoad(List<Query> queries, BulkLoadOptions options, @Nullable Handler<Long> progressHandler, Handler<AsyncResult<SummaryCounters>> resultHandler);
+
+    /**
+     * Executes a large list of queries by chunks, with options applied to the transaction of each chunk, e.g. a timeout or transaction metadata
+     *
+     * @param queries  the list of queries to execute
+     * @param options  the chunk size, concurrency and retry options
+     * @param queryOptions  the options of the transaction of each chunk
+     * @param progressHandler  the handler called with the total number of committed queries after each chunk, can be {@code null}
+     * @param resultHandler  the handler to be called with the aggregated counters when all the chunks have completed
+     * @return the current Neo4jClient instance
+     */
+    @GenIgnore(GenIgnore.PERMITTED_TYPE)
+    @Fluent
+    Neo4jClient bulkLoad(List<Query> queries, BulkLoadOptions options, QueryOptions queryOptions, @Nullable Handler<Long> progressHandler, Handler<AsyncResult<SummaryCounters>> resultHandler);
+
+    /**
+     * Creates a stream of write queries, committed by chunks
+     * <p>
+     * Each chunk of queries is committed in its own write transaction, one chunk at a time, so the
+     * queries can be piped from a {@link io.vertx.core.streams.ReadStream} in constant memory.
+     * When a chunk fails, the stream fails : the following writes and the end of the stream are failed too.
+     *
+     * @param chunkSize  the maximum number of queries committed in a single transaction
+     * @return the stream of queries
+     */
+    Neo4jWriteStream writeStream(int chunkSize);
+
+    /**
+     * Creates a stream of write queries, committed by chunks, with options applied to the transaction of each chunk,
+     * e.g. a timeout or transaction metadata
+     *
+     * @param chunkSize  the maximum number of queries committed in a single transaction
+     * @param options  the options of the transaction of each chunk
+     * @return the stream of queries
+     */
+    Neo4jWriteStream writeStream(int chunkSize, QueryOptions options);
+
     /**
      * Begins a new transaction
      *
@@ -191,6 +566,49 @@ public interface Neo4jClient {
     @Fluent
     Neo4jClient begin(Handler<AsyncResult<Neo4jTransaction>> resultHandler);
 
+    /**
+     * Begins a new transaction, with options, e.g. a timeout or transaction metadata
+     * <p>
+     * The timeout is only enforced by the server, as the transaction lasts until it is committed or rolled back.
+     *
+     * @param options  the options of the transaction
+     * @param resultHandler  the handler to be called when the transaction has begun
+     * @return the current Neo4jClient instance
+     */
+    @Fluent
+    Neo4jClient begin(QueryOptions options, Handler<AsyncResult<Neo4jTransaction>> resultHandler);
+
+    /**
+     * Runs a unit of work in a new transaction, committed when the future returned by the work succeeds and rolled back
+     * when it fails
+     * <p>
+     * When the transaction fails with a transient error, e.g. a deadlock or a leader switch, the whole unit of work is
+     * run again in a new transaction, after a jittered exponential backoff, up to
+     * {@link Neo4jClientOptions#getRetryMaxAttempts()} attempts. The work must therefore be idempotent outside of the
+     * transaction.
+     *
+     * @param work  the unit of work, given the transaction it runs in
+     * @param resultHandler  the handler to be called with the result of the work once the transaction is committed
+     * @return the current Neo4jClient instance
+     */
+    @GenIgnore(GenIgnore.PERMITTED_TYPE)
+    @Fluent
+    <T> Neo4jClient inTransaction(Function<Neo4jTransaction, Future<T>> work, Handler<AsyncResult<T>> resultHandler);
+
+    /**
+     * Runs a unit of work in a new transaction with options, e.g. a timeout or transaction metadata, retrying it on
+     * transient errors
+     *
+     * @param options  the options of each transaction
+     * @param work  the unit of work, given the transaction it runs in
+     * @param resultHandler  the handler to be called with the result of the work once the transaction is committed
+     * @return the current Neo4jClient instance
+     * @see #inTransaction(Function, Handler)
+     */
+    @GenIgnore(GenIgnore.PERMITTED_TYPE)
+    @Fluent
+    <T> Neo4jClient inTransaction(QueryOptions options, Function<Neo4jTransaction, Future<T>> work, Handler<AsyncResult<T>> resultHandler);
+
     /**
      * Opens a new stream of records
      *
@@ -213,6 +631,49 @@ public interface Neo4jClient {
     @Fluent
     Neo4jClient queryStream(String query, Value parameters, Handler<AsyncResult<Neo4jRecordStream>> recordStreamHandler);
 
+    /**
+     * Opens a new stream of records, read after the transaction identified by a bookmark
+     *
+     * @param query  the cypher query
+     * @param parameters  the cypher parameters
+     * @param bookmark  the bookmark of a transaction that must be visible to this one
+     * @param recordStreamHandler  the handler to be called when the stream of records is available
+     * @return the current Neo4jClient instance
+     */
+    @GenIgnore(GenIgnore.PERMITTED_TYPE)
+    @Fluent
+    Neo4jClient queryStreamWithBookmark(String query, Value parameters, Bookmark bookmark, Handler<AsyncResult<Neo4jRecordStream>> recordStreamHandler);
+
+    /**
+     * Opens a new stream of records, with options, e.g. a timeout or transaction metadata
+     * <p>
+     * The timeout is only enforced by the server, as the transaction lasts until the stream ends.
+     *
+     * @param query  the cypher query
+     * @param parameters  the cypher parameters
+     * @param options  the options of the transaction
+     * @param recordStreamHandler  the handler to be called when the stream of records is available
+     * @return the current Neo4jClient instance
+     */
+    @GenIgnore(GenIgnore.PERMITTED_TYPE)
+    @Fluent
+    Neo4jClient queryStream(String query, Value parameters, QueryOptions options, Handler<AsyncResult<Neo4jRecordStream>> recordStreamHandler);
+
+    /**
+     * Opens a new stream of rows, each record being mapped when it is emitted
+     * <p>
+     * When the mapper fails, the stream is stopped and the failure is reported to its exception handler.
+     *
+     * @param query  the cypher query
+     * @param parameters  the cypher parameters
+     * @param mapper  the mapper of each record
+     * @param rowStreamHandler  the handler to be called when the stream of rows is available
+     * @return the current Neo4jClient instance
+     */
+    @GenIgnore(GenIgnore.PERMITTED_TYPE)
+    @Fluent
+    <T> Neo4jClient queryStreamMapped(String query, Value parameters, RowMapper<T> mapper, Handler<AsyncResult<ReadStream<T>>> rowStreamHandler);
+
     /**
      * Closes this client
      */
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2018-2020 Olympe S.A.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.reactiverse.neo4j;
+
+import io.vertx.codegen.annotations.GenIgnore;
+import io.vertx.codegen.annotations.VertxGen;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Handler;
+import io.vertx.core.streams.WriteStream;
+import org.neo4j.driver.Query;
+import org.neo4j.driver.summary.SummaryCounters;
+
+/**
+ * A {@link WriteStream} for {@link Query} ingestion.
+ * <p>
+ * The written queries are committed by chunks, each chunk in its own write transaction.
+ * The write queue is full while the queries buffered and being committed reach the
+ * {@link #setWriteQueueMaxSize write queue max size}, which defaults to twice the chunk size.
+ * A write queue max size smaller than the chunk size also bounds the size of the chunks.
+ */
+@VertxGen
+public interface Neo4jWriteStream extends WriteStream<Query> {
+
+    @Override
+    Neo4jWriteStream exceptionHandler(Handler<Throwable> handler);
+
+    @GenIgnore(GenIgnore.PERMITTED_TYPE)
+    @Override
+    Neo4jWriteStream write(Query data);
+
+    @GenIgnore(GenIgnore.PERMITTED_TYPE)
+    @Override
+    Neo4jWriteStream write(Query data, Handler<AsyncResult<Void>> handler);
+
+    /**
+     * Commits the queries remaining in the write queue and ends the stream
+     *
+     * @param handler  the handler to be called when all the queries have been committed
+     */
+    @Override
+    void end(Handler<AsyncResult<Void>> handler);
+
+    @GenIgnore(GenIgnore.PERMITTED_TYPE)
+    @Override
+    void end(Query data);
+
+    @GenIgnore(GenIgnore.PERMITTED_TYPE)
+    @Override
+    void end(Query data, Handler<AsyncResult<Void>> handler);
+
+    @Override
+    Neo4jWriteStream setWriteQueueMaxSize(int maxSize);
+
+    @Override
+    Neo4jWriteStream drainHandler(Handler<Void> handler);
+
+    /**
+     * @return the aggregated counters of the chunks committed so far
+     */
+    @GenIgnore(GenIgnore.PERMITTED_TYPE)
+    SummaryCounters counters();
+}
@@ -20,7 +20,19 @@ import io.vertx.core.AsyncResult;
 import io.vertx.core.Handler;
 import org.neo4j.driver.Record;
 
+import java.util.List;
+
 public interface ResultCursor {
 
     ResultCursor one(Handler<AsyncResult<Record>> handler);
+
+    /**
+     * Fetches up to {@code max} records in one go: waits for the next record, then drains the records already
+     * buffered by the driver without waiting any further. An empty list means the cursor is exhausted.
+     *
+     * @param max  the maximum number of records to deliver
+     * @param handler  the handler to be called with the fetched records
+     * @return the current ResultCursor instance
+     */
+    ResultCursor next(int max, Handler<AsyncResult<List<Record>>> handler);
 }
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2018-2020 Olympe S.A.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.reactiverse.neo4j;
+
+import io.reactiverse.neo4j.impl.JsonRowMapper;
+import io.vertx.core.json.JsonObject;
+import org.neo4j.driver.Record;
+
+/**
+ * Maps each {@link Record} of a result as soon as it is received, so that the records themselves are not kept.
+ *
+ * @param <T> the type of the mapped rows
+ */
+@FunctionalInterface
+public interface RowMapper<T> {
+
+    /**
+     * A mapper of each record to a {@link JsonObject} with one entry per returned key.
+     * <p>
+     * Nodes, relationships and maps are mapped to JSON objects of their properties, lists to JSON arrays,
+     * and temporal, spatial and path values to their string representation.
+     *
+     * @return the JSON row mapper
+     */
+    static RowMapper<JsonObject> json() {
+        return JsonRowMapper.INSTANCE;
+    }
+
+    /**
+     * Maps a record
+     *
+     * @param record  the record to map
+     * @return the mapped row
+     */
+    T map(Record record);
+}
@@ -21,7 +21,8 @@ import io.vertx.core.Context;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 
-import java.util.Optional;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
 import java.util.function.BiConsumer;
 
 public final class Util {
@@ -32,11 +33,21 @@ public final class Util {
         return (result, error) -> {
             context.runOnContext(v -> {
                 if (error != null) {
-                    resultHandler.handle(Future.failedFuture(Optional.ofNullable(error.getCause()).orElse(error)));
+                    resultHandler.handle(Future.failedFuture(unwrap(error)));
                 } else {
                     resultHandler.handle(Future.succeededFuture(result));
                 }
             });
         };
     }
+
+    /**
+     * Only the wrappers added by the futures are removed, so that a driver error keeps its own type whatever its cause.
+     */
+    private static Throwable unwrap(Throwable error) {
+        while ((error instanceof CompletionException || error instanceof ExecutionException) && error.getCause() != null) {
+            error = error.getCause();
+        }
+        return error;
+    }
 }
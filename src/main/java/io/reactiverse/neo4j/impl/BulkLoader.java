@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2018-2020 Olympe S.A.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.reactiverse.neo4j.impl;
+
+import io.reactiverse.neo4j.options.BulkLoadOptions;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import org.neo4j.driver.Query;
+import org.neo4j.driver.summary.SummaryCounters;
+
+import java.util.List;
+import java.util.function.BiConsumer;
+
+import static io.reactiverse.neo4j.impl.Neo4jClientImpl.AGGREGATE_COUNTERS;
+import static org.neo4j.driver.internal.summary.InternalSummaryCounters.EMPTY_STATS;
+
+/**
+ * Writes a list of queries by chunks, each chunk being committed in its own write transaction,
+ * with at most {@link BulkLoadOptions#getConcurrency()} chunks in flight.
+ * <p>
+ * Only the chunks failed by a {@link RetryPolicy#isRetryable retryable} error are written again : the other errors,
+ * e.g. a syntax error or a constraint violation, would fail again.
+ * <p>
+ * All the state is confined to the context the load has been started on.
+ */
+class BulkLoader {
+
+    private final Vertx vertx;
+    private final Context context;
+    private final BiConsumer<List<Query>, Handler<AsyncResult<SummaryCounters>>> chunkWriter;
+    private final List<Query> queries;
+    private final BulkLoadOptions options;
+    private final Handler<Long> progressHandler;
+    private final Handler<AsyncResult<SummaryCounters>> resultHandler;
+
+    private int next;
+    private int inFlight;
+    private long committed;
+    private SummaryCounters counters = EMPTY_STATS;
+    private Throwable failure;
+
+    BulkLoader(Vertx vertx, Context context, BiConsumer<List<Query>, Handler<AsyncResult<SummaryCounters>>> chunkWriter,
+               List<Query> queries, BulkLoadOptions options, Handler<Long> progressHandler,
+               Handler<AsyncResult<SummaryCounters>> resultHandler) {
+        if (options.getChunkSize() <= 0) {
+            throw new IllegalArgumentException("Chunk size should be positive");
+        }
+        if (options.getConcurrency() <= 0) {
+            throw new IllegalArgumentException("Concurrency should be positive");
+        }
+        if (options.getMaxRetries() < 0) {
+            throw new IllegalArgumentException("Max retries should not be negative");
+        }
+        this.vertx = vertx;
+        this.context = context;
+        this.chunkWriter = chunkWriter;
+        this.queries = queries;
+        this.options = options;
+        this.progressHandler = progressHandler;
+        this.resultHandler = resultHandler;
+    }
+
+    void start() {
+        context.runOnContext(v -> {
+            if (queries.isEmpty()) {
+                resultHandler.handle(Future.succeededFuture(counters));
+                return;
+            }
+            while (failure == null && inFlight < options.getConcurrency() && next < queries.size()) {
+                writeNextChunk();
+            }
+        });
+    }
+
+    private void writeNextChunk() {
+        int from = next;
+        next = Math.min(queries.size(), from + options.getChunkSize());
+        inFlight++;
+        write(queries.subList(from, next), 0);
+    }
+
+    private void write(List<Query> chunk, int attempt) {
+        chunkWriter.accept(chunk, ar -> {
+            if (ar.succeeded()) {
+                inFlight--;
+                counters = AGGREGATE_COUNTERS.apply(counters, ar.result());
+                committed += chunk.size();
+                if (progressHandler != null) {
+                    progressHandler.handle(committed);
+                }
+                if (failure == null && next < queries.size()) {
+                    writeNextChunk();
+                } else {
+                    completeIfDone();
+                }
+            } else if (failure == null && attempt < options.getMaxRetries() && RetryPolicy.isRetryable(ar.cause())) {
+                long delay = options.getRetryDelayMillis();
+                if (delay > 0) {
+                    vertx.setTimer(delay, id -> write(chunk, attempt + 1));
+                } else {
+                    write(chunk, attempt + 1);
+                }
+            } else {
+                inFlight--;
+                if (failure == null) {
+                    failure = ar.cause();
+                }
+                completeIfDone();
+            }
+        });
+    }
+
+    private void completeIfDone() {
+        if (inFlight > 0) {
+            return;
+        }
+        if (failure != null) {
+            resultHandler.handle(Future.failedFuture(failure));
+        } else {
+            resultHandler.handle(Future.succeededFuture(counters));
+        }
+    }
+}
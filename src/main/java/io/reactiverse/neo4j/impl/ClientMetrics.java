@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2018-2020 Olympe S.A.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.reactiverse.neo4j.impl;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.impl.VertxInternal;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.spi.metrics.PoolMetrics;
+import io.vertx.core.spi.metrics.VertxMetrics;
+import org.neo4j.driver.ConnectionPoolMetrics;
+import org.neo4j.driver.Metrics;
+
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Counts the calls of a data source by client method, its sessions in flight, including the sessions of the explicit
+ * transactions and record streams until they end, and its open record streams.
+ * <p>
+ * When the Vert.x metrics are enabled, the requests are also reported to the Vert.x metrics SPI as the tasks of a
+ * {@value #POOL_TYPE} pool named after the data source : a request is pending while it waits for the request limiter,
+ * and in use from the time it starts until it completes.
+ */
+class ClientMetrics {
+
+    static final String POOL_TYPE = "neo4j";
+
+    private static final Object NOT_BEGUN = new Object();
+
+    private final PoolMetrics<Object> poolMetrics;
+    private final ConcurrentMap<String, LongAdder> calls = new ConcurrentHashMap<>();
+    private final AtomicInteger inFlightSessions = new AtomicInteger();
+    private final AtomicInteger openStreams = new AtomicInteger();
+
+    @SuppressWarnings("unchecked")
+    ClientMetrics(PoolMetrics<?> poolMetrics) {
+        this.poolMetrics = (PoolMetrics<Object>) poolMetrics;
+    }
+
+    static ClientMetrics create(Vertx vertx, String dataSourceName, int maxPoolSize) {
+        VertxMetrics vertxMetrics = vertx instanceof VertxInternal ? ((VertxInternal) vertx).metricsSPI() : null;
+        return new ClientMetrics(vertxMetrics != null ? vertxMetrics.createPoolMetrics(POOL_TYPE, dataSourceName, maxPoolSize) : null);
+    }
+
+    void called(String method) {
+        calls.computeIfAbsent(method, key -> new LongAdder()).increment();
+    }
+
+    void sessionAcquired() {
+        inFlightSessions.incrementAndGet();
+    }
+
+    void sessionReleased() {
+        inFlightSessions.decrementAndGet();
+    }
+
+    void streamOpened() {
+        openStreams.incrementAndGet();
+    }
+
+    void streamClosed() {
+        openStreams.decrementAndGet();
+    }
+
+    /**
+     * @param admission  the admission of the request, which may delay it, or reject it without starting it
+     * @return the result of the admitted request
+     */
+    <T> CompletionStage<T> measure(Function<Supplier<CompletionStage<T>>, CompletionStage<T>> admission, Supplier<CompletionStage<T>> request) {
+        if (poolMetrics == null) {
+            return admission.apply(request);
+        }
+        Object submitted = poolMetrics.submitted();
+        AtomicReference<Object> begun = new AtomicReference<>(NOT_BEGUN);
+        CompletionStage<T> result;
+        try {
+            result = admission.apply(() -> {
+                begun.set(poolMetrics.begin(submitted));
+                return request.get();
+            });
+        } catch (RuntimeException e) {
+            // the request has failed before returning a stage to complete the measure
+            completed(submitted, begun.get(), false);
+            throw e;
+        }
+        return result.whenComplete((value, error) -> completed(submitted, begun.get(), error == null));
+    }
+
+    private void completed(Object submitted, Object begun, boolean succeeded) {
+        if (begun == NOT_BEGUN) {
+            poolMetrics.rejected(submitted);
+        } else {
+            poolMetrics.end(begun, succeeded);
+        }
+    }
+
+    JsonObject snapshot() {
+        JsonObject callsByMethod = new JsonObject();
+        calls.forEach((method, count) -> callsByMethod.put(method, count.sum()));
+        return new JsonObject()
+                .put("calls", callsByMethod)
+                .put("inFlightSessions", inFlightSessions.get())
+                .put("openStreams", openStreams.get());
+    }
+
+    static JsonArray connectionPools(Metrics driverMetrics) {
+        JsonArray pools = new JsonArray();
+        for (ConnectionPoolMetrics pool : driverMetrics.connectionPoolMetrics()) {
+            pools.add(new JsonObject()
+                    .put("id", pool.id())
+                    .put("inUse", pool.inUse())
+                    .put("idle", pool.idle())
+                    .put("creating", pool.creating())
+                    .put("acquiring", pool.acquiring())
+                    .put("created", pool.created())
+                    .put("failedToCreate", pool.failedToCreate())
+                    .put("closed", pool.closed())
+                    .put("acquired", pool.acquired())
+                    .put("timedOutToAcquire", pool.timedOutToAcquire())
+                    .put("totalAcquisitionTimeMillis", pool.totalAcquisitionTime()));
+        }
+        return pools;
+    }
+
+    void close() {
+        if (poolMetrics != null) {
+            poolMetrics.close();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2018-2020 Olympe S.A.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.reactiverse.neo4j.impl;
+
+import io.reactiverse.neo4j.RowMapper;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import org.neo4j.driver.Record;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.types.TypeSystem;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.neo4j.driver.internal.types.InternalTypeSystem.TYPE_SYSTEM;
+
+/**
+ * Reads the values of a record straight into JSON types, without going through the generic {@link Value#asObject()} graph.
+ */
+public final class JsonRowMapper implements RowMapper<JsonObject> {
+
+    public static final JsonRowMapper INSTANCE = new JsonRowMapper();
+
+    private JsonRowMapper() {}
+
+    @Override
+    public JsonObject map(Record record) {
+        List<String> keys = record.keys();
+        Map<String, Object> row = new LinkedHashMap<>(capacity(keys.size()));
+        for (int i = 0; i < keys.size(); i++) {
+            row.put(keys.get(i), toJson(record.get(i)));
+        }
+        return new JsonObject(row);
+    }
+
+    static Object toJson(Value value) {
+        TypeSystem types = TYPE_SYSTEM;
+        if (value.isNull()) {
+            return null;
+        } else if (value.hasType(types.STRING())) {
+            return value.asString();
+        } else if (value.hasType(types.INTEGER())) {
+            return value.asLong();
+        } else if (value.hasType(types.FLOAT())) {
+            return value.asDouble();
+        } else if (value.hasType(types.BOOLEAN())) {
+            return value.asBoolean();
+        } else if (value.hasType(types.BYTES())) {
+            return value.asByteArray();
+        } else if (value.hasType(types.LIST())) {
+            JsonArray array = new JsonArray();
+            for (Value element : value.values()) {
+                array.add(toJson(element));
+            }
+            return array;
+        } else if (value.hasType(types.MAP()) || value.hasType(types.NODE()) || value.hasType(types.RELATIONSHIP())) {
+            // node and relationship values expose their properties as keys
+            Map<String, Object> map = new LinkedHashMap<>(capacity(value.size()));
+            for (String key : value.keys()) {
+                map.put(key, toJson(value.get(key)));
+            }
+            return new JsonObject(map);
+        } else {
+            return value.asObject().toString();
+        }
+    }
+
+    private static int capacity(int size) {
+        return (int) (size / 0.75f) + 1;
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2018-2020 Olympe S.A.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.reactiverse.neo4j.impl;
+
+import io.reactiverse.neo4j.Util;
+import io.reactiverse.neo4j.VisibleForTesting;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+import io.vertx.core.json.JsonObject;
+import org.neo4j.driver.async.ResultCursor;
+import org.neo4j.driver.summary.ResultSummary;
+
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.regex.Pattern;
+
+/**
+ * Tracks the latency of the calls by query fingerprint, i.e. the query with its literals replaced by {@code ?} and its
+ * whitespaces collapsed, and splits it in :
+ * <ul>
+ *     <li>{@code queue} : from the call until the request is admitted by the request limiter</li>
+ *     <li>{@code server} : the time to the first record and to the consumption of the result reported by the server</li>
+ *     <li>{@code driver} : the rest of the round-trip, i.e. the connection acquisition, the network and the driver</li>
+ *     <li>{@code delivery} : from the completion of the request until its handler is run on the context of the call</li>
+ * </ul>
+ * The fingerprints beyond the maximum number tracked are counted together, under {@value #OTHER_QUERIES}.
+ */
+class LatencyTracker {
+
+    static final String OTHER_QUERIES = "other";
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^'\\\\]|\\\\.)*'|\"(?:[^\"\\\\]|\\\\.)*\"");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w$])\\d+(?:\\.\\d+)?(?:[eE][+-]?\\d+)?\\b");
+    private static final Pattern LIST_LITERAL = Pattern.compile("\\[\\s*\\?(?:\\s*,\\s*\\?)*\\s*]");
+    private static final Pattern WHITESPACES = Pattern.compile("\\s+");
+
+    private final int maxQueries;
+    private final LongSupplier nanoClock;
+    private final ConcurrentMap<String, QueryLatency> latencies = new ConcurrentHashMap<>();
+    // the queries already fingerprinted, bounded as the queries with inline literals are unbounded
+    private final ConcurrentMap<String, QueryLatency> latenciesByQuery = new ConcurrentHashMap<>();
+
+    LatencyTracker(int maxQueries) {
+        this(maxQueries, System::nanoTime);
+    }
+
+    @VisibleForTesting
+    LatencyTracker(int maxQueries, LongSupplier nanoClock) {
+        this.maxQueries = maxQueries;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Starts tracking a call.
+     */
+    Call start(String query) {
+        return new Call(latency(query), nanoClock.getAsLong());
+    }
+
+    JsonObject snapshot() {
+        JsonObject snapshot = new JsonObject();
+        latencies.forEach((fingerprint, latency) -> snapshot.put(fingerprint, latency.toJson()));
+        return snapshot;
+    }
+
+    /**
+     * @return the result function, also reading the server time of the call from the summary of the result once done
+     */
+    static <T> Function<ResultCursor, CompletionStage<T>> timed(Call call, Function<ResultCursor, CompletionStage<T>> resultFunction) {
+        if (call == null) {
+            return resultFunction;
+        }
+        return cursor -> resultFunction.apply(cursor).thenCompose(result -> cursor.consumeAsync().thenApply(summary -> {
+            call.summary(summary);
+            return result;
+        }));
+    }
+
+    /**
+     * Same as {@link Util#wrapCallback}, also recording the call when its handler is run on the context.
+     */
+    static <T> BiConsumer<T, Throwable> timedCallback(Context context, Call call, Handler<AsyncResult<T>> resultHandler) {
+        if (call == null) {
+            return Util.wrapCallback(context, resultHandler);
+        }
+        BiConsumer<T, Throwable> callback = Util.wrapCallback(context, ar -> {
+            call.delivered();
+            resultHandler.handle(ar);
+        });
+        return (result, error) -> {
+            call.completed();
+            callback.accept(result, error);
+        };
+    }
+
+    @VisibleForTesting
+    static String fingerprint(String query) {
+        String fingerprint = STRING_LITERAL.matcher(query).replaceAll("?");
+        fingerprint = NUMBER_LITERAL.matcher(fingerprint).replaceAll("?");
+        fingerprint = LIST_LITERAL.matcher(fingerprint).replaceAll("[?]");
+        return WHITESPACES.matcher(fingerprint).replaceAll(" ").trim();
+    }
+
+    private QueryLatency latency(String query) {
+        QueryLatency latency = latenciesByQuery.get(query);
+        if (latency != null) {
+            return latency;
+        }
+        String fingerprint = fingerprint(query);
+        latency = latencies.get(fingerprint);
+        if (latency == null) {
+            latency = latencies.size() < maxQueries
+                    ? latencies.computeIfAbsent(fingerprint, key -> new QueryLatency())
+                    : latencies.computeIfAbsent(OTHER_QUERIES, key -> new QueryLatency());
+        }
+        if (latenciesByQuery.size() < 4 * maxQueries) {
+            latenciesByQuery.put(query, latency);
+        }
+        return latency;
+    }
+
+    /**
+     * The timestamps of a call, recorded once it is delivered. A call completed before being admitted, e.g. a read
+     * sharing the result of an identical read in flight, has no queue, server and driver time.
+     */
+    final class Call {
+
+        private static final long NOT_YET = Long.MIN_VALUE;
+
+        private final QueryLatency latency;
+        private final long startedAt;
+        private volatile long admittedAt = NOT_YET;
+        private volatile long serverNanos = -1;
+        private volatile long completedAt = NOT_YET;
+
+        private Call(QueryLatency latency, long startedAt) {
+            this.latency = latency;
+            this.startedAt = startedAt;
+        }
+
+        void admitted() {
+            admittedAt = nanoClock.getAsLong();
+        }
+
+        void summary(ResultSummary summary) {
+            long availableAfter = summary.resultAvailableAfter(TimeUnit.NANOSECONDS);
+            long consumedAfter = summary.resultConsumedAfter(TimeUnit.NANOSECONDS);
+            if (availableAfter >= 0 && consumedAfter >= 0) {
+                serverNanos = availableAfter + consumedAfter;
+            }
+        }
+
+        void completed() {
+            completedAt = nanoClock.getAsLong();
+        }
+
+        void delivered() {
+            long deliveredAt = nanoClock.getAsLong();
+            latency.total.recordNanos(deliveredAt - startedAt);
+            if (completedAt != NOT_YET) {
+                latency.delivery.recordNanos(deliveredAt - completedAt);
+            }
+            if (admittedAt != NOT_YET) {
+                latency.queue.recordNanos(admittedAt - startedAt);
+                if (completedAt != NOT_YET) {
+                    long roundTrip = completedAt - admittedAt;
+                    if (serverNanos >= 0) {
+                        latency.server.recordNanos(serverNanos);
+                        latency.driver.recordNanos(Math.max(0, roundTrip - serverNanos));
+                    } else {
+                        latency.driver.recordNanos(roundTrip);
+                    }
+                }
+            }
+        }
+    }
+
+    private static final class QueryLatency {
+
+        final LatencyHistogram total = new LatencyHistogram();
+        final LatencyHistogram queue = new LatencyHistogram();
+        final LatencyHistogram server = new LatencyHistogram();
+        final LatencyHistogram driver = new LatencyHistogram();
+        final LatencyHistogram delivery = new LatencyHistogram();
+
+        JsonObject toJson() {
+            return new JsonObject()
+                    .put("total", total.toJson())
+                    .put("queue", queue.toJson())
+                    .put("server", server.toJson())
+                    .put("driver", driver.toJson())
+                    .put("delivery", delivery.toJson());
+        }
+    }
+}
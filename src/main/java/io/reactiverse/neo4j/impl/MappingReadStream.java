@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2018-2020 Olympe S.A.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.reactiverse.neo4j.impl;
+
+import io.reactiverse.neo4j.RowMapper;
+import io.vertx.core.Handler;
+import io.vertx.core.streams.ReadStream;
+import org.neo4j.driver.Record;
+
+/**
+ * A stream of rows mapped from a stream of records, each record being mapped when it is emitted.
+ * <p>
+ * A failing mapper stops the underlying stream, which commits its transaction, and the failure is reported to the exception handler.
+ */
+public class MappingReadStream<T> implements ReadStream<T> {
+
+    private final ReadStream<Record> records;
+    private final RowMapper<T> mapper;
+
+    private Handler<Throwable> exceptionHandler;
+
+    public MappingReadStream(ReadStream<Record> records, RowMapper<T> mapper) {
+        this.records = records;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public ReadStream<T> exceptionHandler(Handler<Throwable> handler) {
+        exceptionHandler = handler;
+        records.exceptionHandler(handler);
+        return this;
+    }
+
+    @Override
+    public ReadStream<T> handler(Handler<T> handler) {
+        if (handler == null) {
+            records.handler(null);
+        } else {
+            records.handler(record -> {
+                T row;
+                try {
+                    row = mapper.map(record);
+                } catch (Exception e) {
+                    records.endHandler(null).handler(null);
+                    if (exceptionHandler != null) {
+                        exceptionHandler.handle(e);
+                    }
+                    return;
+                }
+                handler.handle(row);
+            });
+        }
+        return this;
+    }
+
+    @Override
+    public ReadStream<T> pause() {
+        records.pause();
+        return this;
+    }
+
+    @Override
+    public ReadStream<T> resume() {
+        records.resume();
+        return this;
+    }
+
+    @Override
+    public ReadStream<T> fetch(long amount) {
+        records.fetch(amount);
+        return this;
+    }
+
+    @Override
+    public ReadStream<T> endHandler(Handler<Void> endHandler) {
+        records.endHandler(endHandler);
+        return this;
+    }
+}
@@ -19,26 +19,50 @@ package io.reactiverse.neo4j.impl;
 import io.reactiverse.neo4j.Neo4jClient;
 import io.reactiverse.neo4j.Neo4jRecordStream;
 import io.reactiverse.neo4j.Neo4jTransaction;
+import io.reactiverse.neo4j.Neo4jWriteStream;
+import io.reactiverse.neo4j.RowMapper;
 import io.reactiverse.neo4j.VisibleForTesting;
+import io.reactiverse.neo4j.options.BulkLoadOptions;
 import io.reactiverse.neo4j.options.Neo4jClientOptions;
+import io.reactiverse.neo4j.options.QueryOptions;
 import io.vertx.core.*;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
 import io.vertx.core.shareddata.LocalMap;
 import io.vertx.core.shareddata.Shareable;
+import io.vertx.core.streams.ReadStream;
 import org.neo4j.driver.*;
 import org.neo4j.driver.async.AsyncSession;
+import org.neo4j.driver.async.AsyncTransaction;
 import org.neo4j.driver.async.ResultCursor;
 import org.neo4j.driver.internal.summary.InternalSummaryCounters;
 import org.neo4j.driver.summary.ResultSummary;
 import org.neo4j.driver.summary.SummaryCounters;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiFunction;
 import java.util.function.BinaryOperator;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
 
 import static io.reactiverse.neo4j.Util.wrapCallback;
+import static io.reactiverse.neo4j.impl.LatencyTracker.timed;
+import static io.reactiverse.neo4j.impl.LatencyTracker.timedCallback;
 import static java.util.Objects.requireNonNull;
 import static org.neo4j.driver.AccessMode.READ;
 import static org.neo4j.driver.AccessMode.WRITE;
@@ -56,16 +80,60 @@ public class Neo4jClientImpl implements Neo4jClient {
 
     private Driver driver;
 
+    private SessionPool unpooledReadSessions;
+
+    private SessionPool unpooledWriteSessions;
+
     private static final Value EMPTY = Values.parameters();
 
+    private static final QueryOptions DEFAULT_QUERY_OPTIONS = new QueryOptions();
+
+    private static final String UNWIND_ROWS_PARAMETER = "rows";
+
     public Neo4jClientImpl(Vertx vertx, Neo4jClientOptions config, String dataSourceName) {
         requireNonNull(vertx);
         requireNonNull(config);
         requireNonNull(dataSourceName);
 
         this.vertx = vertx;
-        this.neo4jHolder = lookupHolder(config, dataSourceName);
-        this.driver = this.neo4jHolder.neo4jDriver();
+        this.neo4jHolder = lookupHolder(vertx, config, dataSourceName);
+        try {
+            this.driver = this.neo4jHolder.neo4jDriver();
+        } catch (RuntimeException e) {
+            this.neo4jHolder.close();
+            throw e;
+        }
+        this.unpooledReadSessions = new SessionPool(driver, DEFAULT_READ_SESSION_CONFIG);
+        this.unpooledWriteSessions = new SessionPool(driver, DEFAULT_WRITE_SESSION_CONFIG);
+    }
+
+    private Neo4jClientImpl(Vertx vertx, Neo4jHolder neo4jHolder, Driver driver) {
+        this.vertx = vertx;
+        this.neo4jHolder = neo4jHolder;
+        this.driver = driver;
+        this.unpooledReadSessions = new SessionPool(driver, DEFAULT_READ_SESSION_CONFIG);
+        this.unpooledWriteSessions = new SessionPool(driver, DEFAULT_WRITE_SESSION_CONFIG);
+    }
+
+    /**
+     * Creates a client without blocking the calling thread : the connectivity of a new driver is verified asynchronously,
+     * and the clients created concurrently with the same data source name wait for the same driver.
+     */
+    public static void create(Vertx vertx, Neo4jClientOptions config, String dataSourceName, Handler<AsyncResult<Neo4jClient>> resultHandler) {
+        requireNonNull(vertx);
+        requireNonNull(config);
+        requireNonNull(dataSourceName);
+
+        Context context = vertx.getOrCreateContext();
+        Neo4jHolder holder = lookupHolder(vertx, config, dataSourceName);
+        holder.neo4jDriverAsync()
+                .whenComplete((driver, error) -> {
+                    if (error != null) {
+                        holder.close();
+                    }
+                })
+                .thenApply(driver -> (Neo4jClient) new Neo4jClientImpl(vertx, holder, driver))
+                .whenComplete(wrapCallback(context, resultHandler));
     }
 
     @Override
@@ -76,7 +144,33 @@ public class Neo4jClientImpl implements Neo4jClient {
 
     @Override
     public Neo4jClient execute(String query, Value parameters, Handler<AsyncResult<ResultSummary>> resultHandler) {
-        executeWriteTransaction(query, parameters, ResultCursor::consumeAsync, resultHandler);
+        neo4jHolder.metrics.called("execute");
+        Context context = Vertx.currentContext();
+        if (context != null && neo4jHolder.config.getWriteBatchMaxSize() > 1) {
+            neo4jHolder.writeBatcher(context, this).write(new Query(query, parameters), resultHandler);
+        } else {
+            executeWriteTransaction(query, parameters, ResultCursor::consumeAsync, resultHandler);
+        }
+        return this;
+    }
+
+    @Override
+    public Neo4jClient execute(String query, Value parameters, QueryOptions options, Handler<AsyncResult<ResultSummary>> resultHandler) {
+        neo4jHolder.metrics.called("execute");
+        requireNonNull(options);
+        executeWriteTransaction(query, parameters, options, ResultCursor::consumeAsync, resultHandler);
+        return this;
+    }
+
+    @Override
+    public Neo4jClient executeWithBookmark(String query, Value parameters, Bookmark bookmark, Handler<AsyncResult<Bookmark>> resultHandler) {
+        neo4jHolder.metrics.called("executeWithBookmark");
+        Context context = vertx.getOrCreateContext();
+        LatencyTracker.Call call = track(query);
+        admit(call, () -> inWriteSession(sessionPool(WRITE, bookmark), DEFAULT_QUERY_OPTIONS, session -> session.writeTransactionAsync(tx -> tx.runAsync(query, parameters)
+                .thenCompose(timed(call, ResultCursor::consumeAsync)), transactionConfig(DEFAULT_QUERY_OPTIONS))
+                .thenApply(summary -> session.lastBookmark())))
+                .whenComplete(timedCallback(context, call, resultHandler));
         return this;
     }
 
@@ -87,10 +181,19 @@ public class Neo4jClientImpl implements Neo4jClient {
 
     @Override
     public Neo4jClient delete(String query, Value parameters, Handler<AsyncResult<List<Record>>> resultHandler) {
+        neo4jHolder.metrics.called("delete");
         executeWriteTransaction(query, parameters, ResultCursor::listAsync, resultHandler);
         return this;
     }
 
+    @Override
+    public Neo4jClient delete(String query, Value parameters, QueryOptions options, Handler<AsyncResult<List<Record>>> resultHandler) {
+        neo4jHolder.metrics.called("delete");
+        requireNonNull(options);
+        executeWriteTransaction(query, parameters, options, ResultCursor::listAsync, resultHandler);
+        return this;
+    }
+
     @Override
     public Neo4jClient findOne(String query, Handler<AsyncResult<Record>> resultHandler) {
         findOne(query, EMPTY, resultHandler);
@@ -99,7 +202,23 @@ public class Neo4jClientImpl implements Neo4jClient {
 
     @Override
     public Neo4jClient findOne(String query, Value parameters, Handler<AsyncResult<Record>> resultHandler) {
-        executeReadTransaction(query, parameters, ResultCursor::singleAsync, resultHandler);
+        neo4jHolder.metrics.called("findOne");
+        executeCoalescedReadTransaction(new ReadKey(query, parameters, true), query, parameters, ResultCursor::singleAsync, UnaryOperator.identity(), resultHandler);
+        return this;
+    }
+
+    @Override
+    public Neo4jClient findOneWithBookmark(String query, Value parameters, Bookmark bookmark, Handler<AsyncResult<Record>> resultHandler) {
+        neo4jHolder.metrics.called("findOne");
+        executeReadTransaction(query, parameters, bookmark, DEFAULT_QUERY_OPTIONS, ResultCursor::singleAsync, resultHandler);
+        return this;
+    }
+
+    @Override
+    public Neo4jClient findOne(String query, Value parameters, QueryOptions options, Handler<AsyncResult<Record>> resultHandler) {
+        neo4jHolder.metrics.called("findOne");
+        requireNonNull(options);
+        executeReadTransaction(query, parameters, null, options, ResultCursor::singleAsync, resultHandler);
         return this;
     }
 
@@ -111,45 +230,253 @@ public class Neo4jClientImpl implements Neo4jClient {
 
     @Override
     public Neo4jClient find(String query, Value parameters, Handler<AsyncResult<List<Record>>> resultHandler) {
-        executeReadTransaction(query, parameters, ResultCursor::listAsync, resultHandler);
+        neo4jHolder.metrics.called("find");
+        executeCoalescedReadTransaction(new ReadKey(query, parameters, false), query, parameters, ResultCursor::listAsync, ArrayList::new, resultHandler);
         return this;
     }
 
+    @Override
+    public Neo4jClient findWithBookmark(String query, Value parameters, Bookmark bookmark, Handler<AsyncResult<List<Record>>> resultHandler) {
+        neo4jHolder.metrics.called("find");
+        executeReadTransaction(query, parameters, bookmark, DEFAULT_QUERY_OPTIONS, ResultCursor::listAsync, resultHandler);
+        return this;
+    }
+
+    @Override
+    public Neo4jClient find(String query, Value parameters, QueryOptions options, Handler<AsyncResult<List<Record>>> resultHandler) {
+        neo4jHolder.metrics.called("find");
+        requireNonNull(options);
+        executeReadTransaction(query, parameters, null, options, ResultCursor::listAsync, resultHandler);
+        return this;
+    }
+
+    @Override
+    public <T> Neo4jClient findMapped(String query, Value parameters, RowMapper<T> mapper, Handler<AsyncResult<List<T>>> resultHandler) {
+        neo4jHolder.metrics.called("find");
+        executeReadTransaction(query, parameters, cursor -> mapRecords(cursor, mapper), resultHandler);
+        return this;
+    }
+
+    @Override
+    public Neo4jClient find(String query, Value parameters, int maxRecords, Handler<AsyncResult<List<Record>>> resultHandler) {
+        neo4jHolder.metrics.called("find");
+        if (maxRecords < 0) {
+            throw new IllegalArgumentException("Max records should not be negative");
+        }
+        executeReadTransaction(query, parameters, cursor -> RecordCollector.collect(cursor, Collectors.toList(), maxRecords, false), resultHandler);
+        return this;
+    }
+
+    @Override
+    public Neo4jClient findFirst(String query, Value parameters, int maxRecords, Handler<AsyncResult<List<Record>>> resultHandler) {
+        neo4jHolder.metrics.called("findFirst");
+        if (maxRecords < 0) {
+            throw new IllegalArgumentException("Max records should not be negative");
+        }
+        executeReadTransaction(query, parameters, cursor -> RecordCollector.collect(cursor, Collectors.toList(), maxRecords, true), resultHandler);
+        return this;
+    }
+
+    @Override
+    public <A, R> Neo4jClient collect(String query, Value parameters, Collector<Record, A, R> collector, Handler<AsyncResult<R>> resultHandler) {
+        neo4jHolder.metrics.called("find");
+        executeReadTransaction(query, parameters, cursor -> RecordCollector.collect(cursor, collector, Long.MAX_VALUE, false), resultHandler);
+        return this;
+    }
+
+    @Override
+    public Neo4jClient findCached(String query, Value parameters, String tag, Handler<AsyncResult<List<Record>>> resultHandler) {
+        neo4jHolder.metrics.called("findCached");
+        executeCachedReadTransaction(new ReadKey(query, parameters, false), tag, query, parameters,
+                cursor -> cursor.listAsync().thenApply(Collections::unmodifiableList),
+                records -> Collections.unmodifiableList(new ArrayList<>(records)), resultHandler);
+        return this;
+    }
+
+    @Override
+    public Neo4jClient findOneCached(String query, Value parameters, String tag, Handler<AsyncResult<Record>> resultHandler) {
+        neo4jHolder.metrics.called("findOneCached");
+        executeCachedReadTransaction(new ReadKey(query, parameters, true), tag, query, parameters, ResultCursor::singleAsync, UnaryOperator.identity(), resultHandler);
+        return this;
+    }
+
+    @Override
+    public Neo4jClient executeAndInvalidate(String query, Value parameters, String tag, Handler<AsyncResult<ResultSummary>> resultHandler) {
+        neo4jHolder.metrics.called("executeAndInvalidate");
+        requireNonNull(tag);
+        executeWriteTransaction(query, parameters, ResultCursor::consumeAsync, ar -> {
+            if (ar.succeeded()) {
+                invalidateTag(tag);
+            }
+            resultHandler.handle(ar);
+        });
+        return this;
+    }
+
+    @Override
+    public Neo4jClient invalidate(String query, Value parameters) {
+        if (neo4jHolder.resultCache != null) {
+            neo4jHolder.resultCache.invalidate(query, parameters);
+        }
+        return this;
+    }
+
+    @Override
+    public Neo4jClient invalidateTag(String tag) {
+        requireNonNull(tag);
+        if (neo4jHolder.resultCache != null) {
+            neo4jHolder.resultCache.invalidateTag(tag);
+        }
+        return this;
+    }
+
+    @Override
+    public JsonObject resultCacheStats() {
+        if (neo4jHolder.resultCache == null) {
+            return new JsonObject().put("size", 0).put("hits", 0L).put("misses", 0L).put("evictions", 0L);
+        }
+        return neo4jHolder.resultCache.stats();
+    }
+
+    @Override
+    public JsonObject metrics() {
+        JsonObject metrics = neo4jHolder.metrics.snapshot();
+        if (neo4jHolder.config.isMetricsEnabled()) {
+            metrics.put("connectionPools", ClientMetrics.connectionPools(driver.metrics()));
+        }
+        return metrics;
+    }
+
+    @Override
+    public JsonObject queryLatencies() {
+        if (neo4jHolder.latencyTracker == null) {
+            return new JsonObject();
+        }
+        return neo4jHolder.latencyTracker.snapshot();
+    }
+
     @Override
     public Neo4jClient bulkWrite(List<Query> queries, Handler<AsyncResult<SummaryCounters>> resultHandler) {
-        AsyncSession session = driver.asyncSession(DEFAULT_WRITE_SESSION_CONFIG);
+        return bulkWrite(queries, DEFAULT_QUERY_OPTIONS, resultHandler);
+    }
+
+    @Override
+    public Neo4jClient bulkWrite(List<Query> queries, QueryOptions options, Handler<AsyncResult<SummaryCounters>> resultHandler) {
+        neo4jHolder.metrics.called("bulkWrite");
+        requireNonNull(options);
+        writeChunk(queries, options, resultHandler);
+        return this;
+    }
+
+    /**
+     * Writes the queries in a single transaction, without counting a call : the batch writes, bulk loads and write
+     * streams write their chunks with it, so that they are counted once.
+     */
+    private void writeChunk(List<Query> queries, QueryOptions options, Handler<AsyncResult<SummaryCounters>> resultHandler) {
         Context context = vertx.getOrCreateContext();
-        session.writeTransactionAsync(tx -> {
-            CompletionStage<SummaryCounters> stage = CompletableFuture.completedFuture(EMPTY_STATS);
-
-            for (Query query : queries) {
-                stage = stage.thenCompose(previousCounter -> tx.runAsync(query)
-                        .thenCompose(ResultCursor::consumeAsync)
-                        .thenApply(ResultSummary::counters)
-                        .thenApply(nextCounter -> AGGREGATE_COUNTERS.apply(previousCounter, nextCounter)));
-            }
+        admit(() -> inWriteSession(sessionPool(WRITE), options, session -> session.writeTransactionAsync(tx -> runPipelined(tx, queries),
+                transactionConfig(options))))
+                .whenComplete(wrapCallback(context, resultHandler));
+    }
+
+    @Override
+    public Neo4jClient batchWrite(String query, List<Value> rows, int chunkSize, Handler<AsyncResult<SummaryCounters>> resultHandler) {
+        return batchWrite(query, rows, chunkSize, DEFAULT_QUERY_OPTIONS, resultHandler);
+    }
+
+    @Override
+    public Neo4jClient batchWrite(String query, List<Value> rows, int chunkSize, QueryOptions options, Handler<AsyncResult<SummaryCounters>> resultHandler) {
+        neo4jHolder.metrics.called("batchWrite");
+        writeChunk(unwindQueries(query, rows, chunkSize), options, resultHandler);
+        return this;
+    }
 
-            return stage;
-        })
-        .whenComplete(wrapCallback(context, resultHandler))
-        .thenCompose(ignore -> session.closeAsync());
+    @Override
+    public Neo4jClient bulkLoad(List<Query> queries, BulkLoadOptions options, Handler<Long> progressHandler, Handler<AsyncResult<SummaryCounters>> resultHandler) {
+        return bulkLoad(queries, options, DEFAULT_QUERY_OPTIONS, progressHandler, resultHandler);
+    }
+
+    @Override
+    public Neo4jClient bulkLoad(List<Query> queries, BulkLoadOptions options, QueryOptions queryOptions, Handler<Long> progressHandler, Handler<AsyncResult<SummaryCounters>> resultHandler) {
+        neo4jHolder.metrics.called("bulkLoad");
+        new BulkLoader(vertx, vertx.getOrCreateContext(), (chunk, handler) -> writeChunk(chunk, queryOptions, handler), queries, options,
+                progressHandler, resultHandler).start();
         return this;
     }
 
+    @Override
+    public Neo4jWriteStream writeStream(int chunkSize) {
+        return writeStream(chunkSize, DEFAULT_QUERY_OPTIONS);
+    }
+
+    @Override
+    public Neo4jWriteStream writeStream(int chunkSize, QueryOptions options) {
+        neo4jHolder.metrics.called("writeStream");
+        return new Neo4jWriteStreamImpl(vertx.getOrCreateContext(), (chunk, handler) -> writeChunk(chunk, options, handler), chunkSize);
+    }
+
     @Override
     public Neo4jClient begin(Handler<AsyncResult<Neo4jTransaction>> resultHandler) {
+        return begin(DEFAULT_QUERY_OPTIONS, resultHandler);
+    }
+
+    @Override
+    public Neo4jClient begin(QueryOptions options, Handler<AsyncResult<Neo4jTransaction>> resultHandler) {
+        neo4jHolder.metrics.called("begin");
+        requireNonNull(options);
         AsyncSession session = driver.asyncSession(DEFAULT_WRITE_SESSION_CONFIG);
+        neo4jHolder.metrics.sessionAcquired();
         Context context = vertx.getOrCreateContext();
-        session.beginTransactionAsync().thenAccept(tx -> {
-            context.runOnContext(v -> resultHandler.handle(Future.succeededFuture(new Neo4jTransactionImpl(vertx, tx, session))));
+        session.beginTransactionAsync(transactionConfig(options)).thenAccept(tx -> {
+            context.runOnContext(v -> resultHandler.handle(Future.succeededFuture(new Neo4jTransactionImpl(vertx, tx, session, neo4jHolder.latencyTracker, () -> {
+                writeCompleted();
+                neo4jHolder.metrics.sessionReleased();
+            }))));
         }).exceptionally(error -> {
             context.runOnContext(v -> resultHandler.handle(Future.failedFuture(error)));
+            neo4jHolder.metrics.sessionReleased();
             session.closeAsync();
             return null;
         });
         return this;
     }
 
+    @Override
+    public <T> Neo4jClient inTransaction(Function<Neo4jTransaction, Future<T>> work, Handler<AsyncResult<T>> resultHandler) {
+        return inTransaction(DEFAULT_QUERY_OPTIONS, work, resultHandler);
+    }
+
+    @Override
+    public <T> Neo4jClient inTransaction(QueryOptions options, Function<Neo4jTransaction, Future<T>> work, Handler<AsyncResult<T>> resultHandler) {
+        neo4jHolder.metrics.called("inTransaction");
+        requireNonNull(options);
+        requireNonNull(work);
+        neo4jHolder.retryPolicy.execute(vertx, () -> runInTransaction(options, work), resultHandler);
+        return this;
+    }
+
+    private <T> Future<T> runInTransaction(QueryOptions options, Function<Neo4jTransaction, Future<T>> work) {
+        Promise<Neo4jTransaction> begun = Promise.promise();
+        begin(options, begun);
+        return begun.future().compose(tx -> {
+            Promise<T> result = Promise.promise();
+            Future<T> workResult;
+            try {
+                workResult = work.apply(tx);
+            } catch (RuntimeException e) {
+                workResult = Future.failedFuture(e);
+            }
+            workResult.onComplete(ar -> {
+                if (ar.succeeded()) {
+                    tx.commit(commit -> result.handle(commit.map(ar.result())));
+                } else {
+                    tx.rollback(rollback -> result.fail(ar.cause()));
+                }
+            });
+            return result.future();
+        });
+    }
+
     @Override
     public Neo4jClient queryStream(String query, Handler<AsyncResult<Neo4jRecordStream>> recordStreamHandler) {
         return queryStream(query, EMPTY, recordStreamHandler);
@@ -157,36 +484,380 @@ public class Neo4jClientImpl implements Neo4jClient {
 
     @Override
     public Neo4jClient queryStream(String query, Value parameters, Handler<AsyncResult<Neo4jRecordStream>> recordStreamHandler) {
-        AsyncSession session = driver.asyncSession(DEFAULT_READ_SESSION_CONFIG);
+        return queryStream(query, parameters, null, DEFAULT_QUERY_OPTIONS, recordStreamHandler);
+    }
+
+    @Override
+    public Neo4jClient queryStreamWithBookmark(String query, Value parameters, Bookmark bookmark, Handler<AsyncResult<Neo4jRecordStream>> recordStreamHandler) {
+        return queryStream(query, parameters, bookmark, DEFAULT_QUERY_OPTIONS, recordStreamHandler);
+    }
+
+    @Override
+    public Neo4jClient queryStream(String query, Value parameters, QueryOptions options, Handler<AsyncResult<Neo4jRecordStream>> recordStreamHandler) {
+        requireNonNull(options);
+        return queryStream(query, parameters, null, options, recordStreamHandler);
+    }
+
+    /**
+     * No record has been handed to the caller until the stream is opened, so opening it is retried like a unit of work.
+     */
+    private Neo4jClient queryStream(String query, Value parameters, Bookmark bookmark, QueryOptions options, Handler<AsyncResult<Neo4jRecordStream>> recordStreamHandler) {
+        neo4jHolder.metrics.called("queryStream");
+        neo4jHolder.retryPolicy.execute(vertx, () -> {
+            Promise<Neo4jRecordStream> opened = Promise.promise();
+            openRecordStream(query, parameters, bookmark, options, opened);
+            return opened.future();
+        }, recordStreamHandler);
+        return this;
+    }
+
+    private void openRecordStream(String query, Value parameters, Bookmark bookmark, QueryOptions options, Handler<AsyncResult<Neo4jRecordStream>> recordStreamHandler) {
+        AsyncSession session = driver.asyncSession(sessionConfig(READ, bookmark));
+        neo4jHolder.metrics.sessionAcquired();
         Context context = vertx.getOrCreateContext();
-        session.beginTransactionAsync().thenAccept(tx -> tx.runAsync(query, parameters).thenAccept(cursor -> {
-            context.runOnContext(v -> recordStreamHandler.handle(Future.succeededFuture(new Neo4jRecordStreamImpl(context, tx, session, new ResultCursorImpl(cursor, vertx)))));
-        }))
-        .exceptionally(error -> {
-            context.runOnContext(v -> recordStreamHandler.handle(Future.failedFuture(error)));
-            session.closeAsync();
-            return null;
+        beginAndRun(session, transactionConfig(options), query, parameters, (tx, cursor) -> {
+            neo4jHolder.metrics.streamOpened();
+            return (Neo4jRecordStream) new Neo4jRecordStreamImpl(context, tx, session, new ResultCursorImpl(cursor, context), streamBatchSize())
+                    .stopHandler(() -> {
+                        neo4jHolder.metrics.streamClosed();
+                        neo4jHolder.metrics.sessionReleased();
+                    });
+        }).whenComplete((stream, error) -> {
+            if (error != null) {
+                neo4jHolder.metrics.sessionReleased();
+            }
+        }).whenComplete(wrapCallback(context, recordStreamHandler));
+    }
+
+    /**
+     * Begins a transaction in the session and runs the query in it. When either fails, the transaction is rolled back
+     * and the session is closed before the failure is reported.
+     */
+    @VisibleForTesting
+    static <T> CompletionStage<T> beginAndRun(AsyncSession session, TransactionConfig config, String query, Value parameters, BiFunction<AsyncTransaction, ResultCursor, T> onRun) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        session.beginTransactionAsync(config).whenComplete((tx, beginError) -> {
+            if (beginError != null) {
+                session.closeAsync().whenComplete((ignore, closeError) -> result.completeExceptionally(beginError));
+                return;
+            }
+            tx.runAsync(query, parameters).whenComplete((cursor, runError) -> {
+                if (runError != null) {
+                    rollbackAndClose(session, tx, runError, result);
+                    return;
+                }
+                try {
+                    result.complete(onRun.apply(tx, cursor));
+                } catch (RuntimeException e) {
+                    rollbackAndClose(session, tx, e, result);
+                }
+            });
         });
-        return this;
+        return result;
+    }
+
+    private static void rollbackAndClose(AsyncSession session, AsyncTransaction tx, Throwable error, CompletableFuture<?> result) {
+        tx.rollbackAsync()
+                .exceptionally(ignore -> null)
+                .thenCompose(ignore -> session.closeAsync())
+                .whenComplete((ignore, closeError) -> result.completeExceptionally(error));
+    }
 
+    @Override
+    public <T> Neo4jClient queryStreamMapped(String query, Value parameters, RowMapper<T> mapper, Handler<AsyncResult<ReadStream<T>>> rowStreamHandler) {
+        return queryStream(query, parameters, ar -> rowStreamHandler.handle(ar.map(records -> new MappingReadStream<>(records, mapper))));
+    }
+
+    /**
+     * Records buffered by the driver are pulled by chunks of fetch size, which is thus the natural batch size
+     * of a record stream. An unlimited fetch size means the whole result is buffered anyway.
+     */
+    private int streamBatchSize() {
+        long fetchSize = neo4jHolder.config.getFetchSize();
+        return fetchSize > 0 && fetchSize < Integer.MAX_VALUE ? (int) fetchSize : Integer.MAX_VALUE;
     }
 
     private <T> void executeWriteTransaction(String query, Value parameters, Function<ResultCursor, CompletionStage<T>> resultFunction, Handler<AsyncResult<T>> resultHandler) {
-        AsyncSession session = driver.asyncSession(DEFAULT_WRITE_SESSION_CONFIG);
+        executeWriteTransaction(query, parameters, DEFAULT_QUERY_OPTIONS, resultFunction, resultHandler);
+    }
+
+    private <T> void executeWriteTransaction(String query, Value parameters, QueryOptions options, Function<ResultCursor, CompletionStage<T>> resultFunction, Handler<AsyncResult<T>> resultHandler) {
         Context context = vertx.getOrCreateContext();
-        session.writeTransactionAsync(tx -> tx.runAsync(query, parameters)
-                .thenCompose(resultFunction))
-                .whenComplete(wrapCallback(context, resultHandler))
-                .thenCompose(ignore -> session.closeAsync());
+        LatencyTracker.Call call = track(query);
+        admit(call, () -> inWriteSession(sessionPool(WRITE), options, session -> session.writeTransactionAsync(tx -> tx.runAsync(query, parameters)
+                .thenCompose(timed(call, resultFunction)), transactionConfig(options))))
+                .whenComplete(timedCallback(context, call, resultHandler));
+    }
+
+    private CompletionStage<ResultSummary> writeTransaction(Query query) {
+        return admit(() -> inWriteSession(sessionPool(WRITE), DEFAULT_QUERY_OPTIONS, session -> session.writeTransactionAsync(tx -> tx.runAsync(query)
+                .thenCompose(ResultCursor::consumeAsync), transactionConfig(DEFAULT_QUERY_OPTIONS))));
+    }
+
+    private CompletionStage<List<ResultSummary>> writeTransaction(List<Query> queries) {
+        return admit(() -> inWriteSession(sessionPool(WRITE), DEFAULT_QUERY_OPTIONS, session -> session.writeTransactionAsync(tx -> runAllPipelined(tx, queries),
+                transactionConfig(DEFAULT_QUERY_OPTIONS))));
     }
 
     private <T> void executeReadTransaction(String query, Value parameters, Function<ResultCursor, CompletionStage<T>> resultFunction, Handler<AsyncResult<T>> resultHandler) {
-        AsyncSession session = driver.asyncSession(DEFAULT_READ_SESSION_CONFIG);
+        executeReadTransaction(query, parameters, null, DEFAULT_QUERY_OPTIONS, resultFunction, resultHandler);
+    }
+
+    private <T> void executeReadTransaction(String query, Value parameters, Bookmark bookmark, QueryOptions options, Function<ResultCursor, CompletionStage<T>> resultFunction, Handler<AsyncResult<T>> resultHandler) {
         Context context = vertx.getOrCreateContext();
-        session.readTransactionAsync(tx -> tx.runAsync(query, parameters)
-                .thenCompose(resultFunction))
-                .whenComplete(wrapCallback(context, resultHandler))
-                .thenCompose(ignore -> session.closeAsync());
+        LatencyTracker.Call call = track(query);
+        readTransaction(query, parameters, bookmark, options, resultFunction, call)
+                .whenComplete(timedCallback(context, call, resultHandler));
+    }
+
+    private <T> CompletionStage<T> readTransaction(String query, Value parameters, Bookmark bookmark, QueryOptions options, Function<ResultCursor, CompletionStage<T>> resultFunction, LatencyTracker.Call call) {
+        return admit(call, () -> inSession(sessionPool(READ, bookmark), options, session -> session.readTransactionAsync(tx -> tx.runAsync(query, parameters)
+                .thenCompose(timed(call, resultFunction)), transactionConfig(options))));
+    }
+
+    /**
+     * Runs the work in a session of the pool, and releases the session once done.
+     * <p>
+     * When the timeout of the call elapses first, the call is failed and the session is closed straight away, which
+     * rolls back its transaction and frees its connection, instead of waiting for the query to complete.
+     */
+    private <T> CompletionStage<T> inSession(SessionPool sessions, QueryOptions options, Function<AsyncSession, CompletionStage<T>> work) {
+        AsyncSession session = sessions.acquire();
+        neo4jHolder.metrics.sessionAcquired();
+        long timeoutMillis = timeoutMillis(options, neo4jHolder.config.getQueryTimeoutMillis());
+        if (timeoutMillis <= 0) {
+            return work.apply(session)
+                    .whenComplete((result, error) -> release(sessions, session, error));
+        }
+        CompletableFuture<T> result = new CompletableFuture<>();
+        TimeoutException timeout = new TimeoutException("The query has not completed within " + timeoutMillis + " ms");
+        long timerId = vertx.setTimer(timeoutMillis, id -> {
+            if (result.completeExceptionally(timeout)) {
+                release(sessions, session, timeout);
+            }
+        });
+        work.apply(session).whenComplete((value, error) -> {
+            vertx.cancelTimer(timerId);
+            // the session has already been closed when the call timed out
+            if (error != null ? result.completeExceptionally(error) : result.complete(value)) {
+                release(sessions, session, error);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Same as {@link #inSession}, also telling the read coalescer once the write has completed, so that the reads
+     * started afterwards read what it has written.
+     */
+    private <T> CompletionStage<T> inWriteSession(SessionPool sessions, QueryOptions options, Function<AsyncSession, CompletionStage<T>> work) {
+        return inSession(sessions, options, work).whenComplete((result, error) -> writeCompleted());
+    }
+
+    private void writeCompleted() {
+        if (neo4jHolder.readCoalescer != null) {
+            neo4jHolder.readCoalescer.writeCompleted();
+        }
+    }
+
+    private void release(SessionPool sessions, AsyncSession session, Throwable error) {
+        neo4jHolder.metrics.sessionReleased();
+        sessions.release(session, error);
+    }
+
+    /**
+     * A timeout of the call, even {@code 0}, overrides the default timeout of the client, and no timeout keeps it.
+     */
+    @VisibleForTesting
+    static long timeoutMillis(QueryOptions options, long defaultTimeoutMillis) {
+        return options.getTimeoutMillis() >= 0 ? options.getTimeoutMillis() : defaultTimeoutMillis;
+    }
+
+    /**
+     * The metadata of the call are added to the transaction metadata of the client, overriding the entries with the same key.
+     */
+    private TransactionConfig transactionConfig(QueryOptions options) {
+        if (options.getTimeoutMillis() < 0 && options.getMetadata() == null) {
+            return neo4jHolder.defaultTransactionConfig;
+        }
+        long timeoutMillis = timeoutMillis(options, neo4jHolder.config.getQueryTimeoutMillis());
+        TransactionConfig.Builder builder = TransactionConfig.builder().withMetadata(neo4jHolder.transactionMetadata);
+        if (timeoutMillis > 0) {
+            builder.withTimeout(Duration.ofMillis(timeoutMillis));
+        }
+        if (options.getMetadata() != null) {
+            Map<String, Object> metadata = new HashMap<>(neo4jHolder.transactionMetadata);
+            metadata.putAll(toMap(options.getMetadata()));
+            builder.withMetadata(metadata);
+        }
+        return builder.build();
+    }
+
+    /**
+     * The driver only accepts plain maps and lists as metadata values.
+     */
+    @VisibleForTesting
+    static Map<String, Object> toMap(JsonObject json) {
+        Map<String, Object> map = new HashMap<>(json.size());
+        json.forEach(entry -> map.put(entry.getKey(), toPlainValue(entry.getValue())));
+        return map;
+    }
+
+    private static Object toPlainValue(Object value) {
+        if (value instanceof JsonObject) {
+            return toMap((JsonObject) value);
+        }
+        if (value instanceof JsonArray) {
+            List<Object> list = new ArrayList<>(((JsonArray) value).size());
+            ((JsonArray) value).forEach(item -> list.add(toPlainValue(item)));
+            return list;
+        }
+        return value;
+    }
+
+    /**
+     * @param share  the copy of the result handed over to each read sharing the result of an identical read in flight
+     */
+    private <T> void executeCoalescedReadTransaction(ReadKey key, String query, Value parameters, Function<ResultCursor, CompletionStage<T>> resultFunction, UnaryOperator<T> share, Handler<AsyncResult<T>> resultHandler) {
+        Context context = vertx.getOrCreateContext();
+        LatencyTracker.Call call = track(query);
+        coalescedReadTransaction(key, query, parameters, resultFunction, share, call)
+                .whenComplete(timedCallback(context, call, resultHandler));
+    }
+
+    private <T> CompletionStage<T> coalescedReadTransaction(ReadKey key, String query, Value parameters, Function<ResultCursor, CompletionStage<T>> resultFunction, UnaryOperator<T> share, LatencyTracker.Call call) {
+        Supplier<CompletionStage<T>> read = () -> readTransaction(query, parameters, null, DEFAULT_QUERY_OPTIONS, resultFunction, call);
+        if (neo4jHolder.readCoalescer == null) {
+            return read.get();
+        }
+        return neo4jHolder.readCoalescer.read(key, read, share);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> void executeCachedReadTransaction(ReadKey key, String tag, String query, Value parameters, Function<ResultCursor, CompletionStage<T>> resultFunction, UnaryOperator<T> share, Handler<AsyncResult<T>> resultHandler) {
+        ResultCache cache = neo4jHolder.resultCache;
+        if (cache == null) {
+            executeCoalescedReadTransaction(key, query, parameters, resultFunction, share, resultHandler);
+            return;
+        }
+        T cached = (T) cache.get(key);
+        if (cached != null) {
+            vertx.getOrCreateContext().runOnContext(v -> resultHandler.handle(Future.succeededFuture(cached)));
+            return;
+        }
+        long generation = cache.generation();
+        executeCoalescedReadTransaction(key.cachedRead(), query, parameters, cursor -> resultFunction.apply(cursor).thenApply(result -> {
+            cache.put(key, result, tag, generation);
+            return result;
+        }), share, resultHandler);
+    }
+
+    /**
+     * @return the timestamps of a call of the query, or {@code null} when the latencies are not tracked
+     */
+    private LatencyTracker.Call track(String query) {
+        LatencyTracker tracker = neo4jHolder.latencyTracker;
+        return tracker != null ? tracker.start(query) : null;
+    }
+
+    /**
+     * Runs the request once admitted by the request limiter, if any. A queued request is started on the calling context,
+     * so that it still uses the session pool of this context.
+     */
+    private <T> CompletionStage<T> admit(LatencyTracker.Call call, Supplier<CompletionStage<T>> request) {
+        if (call == null) {
+            return admit(request);
+        }
+        return admit(() -> {
+            call.admitted();
+            return request.get();
+        });
+    }
+
+    private <T> CompletionStage<T> admit(Supplier<CompletionStage<T>> request) {
+        RequestLimiter limiter = neo4jHolder.requestLimiter;
+        if (limiter == null) {
+            return neo4jHolder.metrics.measure(Supplier::get, request);
+        }
+        Context context = Vertx.currentContext();
+        return neo4jHolder.metrics.measure(measured -> limiter.submit(context, measured), request);
+    }
+
+    /**
+     * Sessions are only pooled when running on a context : the pool of the current context is released on it before
+     * the result handler is called, so that a query chained in the handler reuses the same session.
+     */
+    private SessionPool sessionPool(AccessMode accessMode) {
+        Context context = Vertx.currentContext();
+        if (context == null || neo4jHolder.config.getMaxIdleSessions() <= 0) {
+            return accessMode == READ ? unpooledReadSessions : unpooledWriteSessions;
+        }
+        return neo4jHolder.sessionPool(context, driver, accessMode);
+    }
+
+    /**
+     * A pooled session cannot be given a bookmark, so a transaction waiting for one runs in its own session.
+     */
+    private SessionPool sessionPool(AccessMode accessMode, Bookmark bookmark) {
+        if (bookmark == null) {
+            return sessionPool(accessMode);
+        }
+        return new SessionPool(driver, sessionConfig(accessMode, bookmark));
+    }
+
+    private static SessionConfig sessionConfig(AccessMode accessMode, Bookmark bookmark) {
+        if (bookmark == null) {
+            return accessMode == READ ? DEFAULT_READ_SESSION_CONFIG : DEFAULT_WRITE_SESSION_CONFIG;
+        }
+        return SessionConfig.builder().withDefaultAccessMode(accessMode).withBookmarks(bookmark).build();
+    }
+
+    @VisibleForTesting
+    static List<Query> unwindQueries(String query, List<Value> rows, int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size should be positive");
+        }
+        String unwindQuery = "UNWIND $" + UNWIND_ROWS_PARAMETER + " AS row " + query;
+        List<Query> queries = new ArrayList<>((rows.size() + chunkSize - 1) / chunkSize);
+        for (int from = 0; from < rows.size(); from += chunkSize) {
+            List<Value> chunk = rows.subList(from, Math.min(rows.size(), from + chunkSize));
+            queries.add(new Query(unwindQuery, Values.parameters(UNWIND_ROWS_PARAMETER, chunk)));
+        }
+        return queries;
+    }
+
+    /**
+     * Sends all the queries back-to-back in the given transaction, without waiting for the summary of a query
+     * before sending the next one, and aggregates the counters once all the summaries have been received.
+     */
+    @VisibleForTesting
+    static CompletionStage<SummaryCounters> runPipelined(AsyncTransaction tx, List<Query> queries) {
+        return runAllPipelined(tx, queries)
+                .thenApply(summaries -> summaries.stream().map(ResultSummary::counters).reduce(EMPTY_STATS, AGGREGATE_COUNTERS));
+    }
+
+    /**
+     * Same as {@link #runPipelined} but returns the summary of each query, in the order of the queries.
+     */
+    @VisibleForTesting
+    static CompletionStage<List<ResultSummary>> runAllPipelined(AsyncTransaction tx, List<Query> queries) {
+        List<CompletableFuture<ResultSummary>> summaries = new ArrayList<>(queries.size());
+        for (Query query : queries) {
+            summaries.add(tx.runAsync(query)
+                    .thenCompose(ResultCursor::consumeAsync)
+                    .toCompletableFuture());
+        }
+        return CompletableFuture.allOf(summaries.toArray(new CompletableFuture<?>[0]))
+                .thenApply(ignore -> summaries.stream().map(CompletableFuture::join).collect(Collectors.toList()));
+    }
+
+    /**
+     * Maps each record of the cursor as soon as it is received, unlike {@link ResultCursor#listAsync(Function)} which
+     * pulls all the records before mapping them, so that only the mapped rows are kept.
+     */
+    @VisibleForTesting
+    static <T> CompletionStage<List<T>> mapRecords(ResultCursor cursor, RowMapper<T> mapper) {
+        return RecordCollector.collect(cursor, Collectors.mapping(mapper::map, Collectors.toList()), Long.MAX_VALUE, false);
     }
 
     @VisibleForTesting
@@ -211,25 +882,100 @@ public class Neo4jClientImpl implements Neo4jClient {
     }
 
     private static class Neo4jHolder implements Shareable {
-        Driver driver;
+        CompletableFuture<Driver> driverFuture;
         Neo4jClientOptions config;
         Runnable closeRunner;
         int refCount = 1;
+        final String sessionPoolKey = "__vertx.Neo4jClient.sessions." + UUID.randomUUID();
+        final Set<SessionPool> sessionPools = ConcurrentHashMap.newKeySet();
+        final ResultCache resultCache;
+        final ReadCoalescer readCoalescer;
+        final String writeBatcherKey = "__vertx.Neo4jClient.writeBatcher." + UUID.randomUUID();
+        final Set<WriteBatcher> writeBatchers = ConcurrentHashMap.newKeySet();
+        final RequestLimiter requestLimiter;
+        final Map<String, Object> transactionMetadata;
+        final TransactionConfig defaultTransactionConfig;
+        final RetryPolicy retryPolicy;
+        final ClientMetrics metrics;
+        final LatencyTracker latencyTracker;
 
-        Neo4jHolder(Neo4jClientOptions config, Runnable closeRunner) {
+        Neo4jHolder(Neo4jClientOptions config, ClientMetrics metrics, Runnable closeRunner) {
             this.config = config;
+            this.metrics = metrics;
             this.closeRunner = closeRunner;
+            this.resultCache = config.getResultCacheMaxSize() > 0 ? new ResultCache(config.getResultCacheMaxSize(), config.getResultCacheTtlMillis()) : null;
+            this.readCoalescer = config.isCoalesceReads() ? new ReadCoalescer() : null;
+            this.transactionMetadata = config.getTransactionMetadata() != null ? toMap(config.getTransactionMetadata()) : Collections.emptyMap();
+            TransactionConfig.Builder transactionConfig = TransactionConfig.builder().withMetadata(transactionMetadata);
+            if (config.getQueryTimeoutMillis() > 0) {
+                transactionConfig.withTimeout(Duration.ofMillis(config.getQueryTimeoutMillis()));
+            }
+            this.defaultTransactionConfig = transactionConfig.build();
+            this.requestLimiter = config.getMaxInFlightRequests() > 0
+                    ? new RequestLimiter(config.getMaxInFlightRequests(), config.getMaxQueuedRequests(), config.isAdaptiveInFlightLimit())
+                    : null;
+            this.latencyTracker = config.isLatencyTrackingEnabled() ? new LatencyTracker(config.getLatencyTrackingMaxQueries()) : null;
+            this.retryPolicy = new RetryPolicy(config.getRetryMaxAttempts(), config.getRetryInitialDelayMillis(),
+                    config.getRetryMaxDelayMillis(), config.getRetryJitterFactor());
+        }
+
+        Driver neo4jDriver() {
+            try {
+                return neo4jDriverAsync().join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw e;
+            }
         }
 
-        synchronized Driver neo4jDriver() {
-            if (driver == null) {
+        CompletableFuture<Driver> neo4jDriverAsync() {
+            CompletableFuture<Driver> future;
+            synchronized (this) {
+                if (driverFuture != null) {
+                    return driverFuture;
+                }
+                future = driverFuture = new CompletableFuture<>();
+            }
+            try {
                 Supplier<Driver> driverSupplier = new DriverSupplier(config);
                 Driver givenDriver = driverSupplier.get();
-                givenDriver.verifyConnectivity();
-                this.driver = givenDriver;
+                givenDriver.verifyConnectivityAsync().whenComplete((ignore, error) -> {
+                    if (error != null) {
+                        givenDriver.closeAsync();
+                        future.completeExceptionally(error);
+                    } else {
+                        future.complete(givenDriver);
+                    }
+                });
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+            return future;
+        }
+
+        SessionPool sessionPool(Context context, Driver driver, AccessMode accessMode) {
+            String key = sessionPoolKey + "." + accessMode;
+            SessionPool pool = context.get(key);
+            if (pool == null) {
+                SessionConfig sessionConfig = accessMode == READ ? DEFAULT_READ_SESSION_CONFIG : DEFAULT_WRITE_SESSION_CONFIG;
+                pool = new SessionPool(context, driver, sessionConfig, config.getMaxIdleSessions(), config.getIdleSessionTimeoutMillis());
+                context.put(key, pool);
+                sessionPools.add(pool);
             }
+            return pool;
+        }
 
-            return driver;
+        WriteBatcher writeBatcher(Context context, Neo4jClientImpl client) {
+            WriteBatcher batcher = context.get(writeBatcherKey);
+            if (batcher == null) {
+                batcher = new WriteBatcher(context, config.getWriteBatchMaxSize(), config.getWriteBatchWindowMillis(),
+                        client::writeTransaction, client::writeTransaction);
+                context.put(writeBatcherKey, batcher);
+                writeBatchers.add(batcher);
+            }
+            return batcher;
         }
 
         synchronized void incRefCount() {
@@ -238,8 +984,11 @@ public class Neo4jClientImpl implements Neo4jClient {
 
         synchronized void close() {
             if (--refCount == 0) {
-                if (driver != null) {
-                    driver.close();
+                writeBatchers.forEach(WriteBatcher::close);
+                sessionPools.forEach(SessionPool::close);
+                metrics.close();
+                if (driverFuture != null) {
+                    driverFuture.thenAccept(Driver::close);
                 }
                 if (closeRunner != null) {
                     closeRunner.run();
@@ -248,12 +997,13 @@ public class Neo4jClientImpl implements Neo4jClient {
         }
     }
 
-    private Neo4jHolder lookupHolder(Neo4jClientOptions config, String dataSourceName) {
+    private static Neo4jHolder lookupHolder(Vertx vertx, Neo4jClientOptions config, String dataSourceName) {
         synchronized (vertx) {
             LocalMap<String, Neo4jHolder> map = vertx.sharedData().getLocalMap(NEO4J_CLIENT_MAP_NAME);
             Neo4jHolder theHolder = map.get(dataSourceName);
             if (theHolder == null) {
-                theHolder = new Neo4jHolder(config, () -> removeFromMap(map, dataSourceName));
+                int maxPoolSize = config.getMaxInFlightRequests() > 0 ? config.getMaxInFlightRequests() : config.getMaxConnectionPoolSize();
+                theHolder = new Neo4jHolder(config, ClientMetrics.create(vertx, dataSourceName, maxPoolSize), () -> removeFromMap(vertx, map, dataSourceName));
                 map.put(dataSourceName, theHolder);
             } else {
                 theHolder.incRefCount();
@@ -262,7 +1012,7 @@ public class Neo4jClientImpl implements Neo4jClient {
         }
     }
 
-    private void removeFromMap(LocalMap<String, Neo4jHolder> map, String dataSourceName) {
+    private static void removeFromMap(Vertx vertx, LocalMap<String, Neo4jHolder> map, String dataSourceName) {
         synchronized (vertx) {
             map.remove(dataSourceName);
             if (map.isEmpty()) {
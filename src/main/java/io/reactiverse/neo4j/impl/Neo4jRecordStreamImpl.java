@@ -26,6 +26,8 @@ import org.neo4j.driver.Record;
 import org.neo4j.driver.async.AsyncSession;
 import org.neo4j.driver.async.AsyncTransaction;
 
+import java.util.List;
+
 public class Neo4jRecordStreamImpl implements Neo4jRecordStream {
 
     private enum State {
@@ -36,27 +38,52 @@ public class Neo4jRecordStreamImpl implements Neo4jRecordStream {
     private final AsyncTransaction tx;
     private final AsyncSession session;
     private final ResultCursor cursor;
+    private final int batchSize;
     private final InboundBuffer<Record> internalQueue;
 
     private State state;
     private int inFlight;
+    private boolean fetching;
+    private boolean refetch;
     private Handler<Record> handler;
     private Handler<Throwable> exceptionHandler;
     private Handler<Void> endHandler;
+    private Runnable stopHandler;
 
     public Neo4jRecordStreamImpl(Context context, AsyncTransaction tx, AsyncSession session, ResultCursor cursor) {
+        this(context, tx, session, cursor, 1);
+    }
+
+    /**
+     * @param batchSize  the maximum number of records handed over to the stream per fetch, records already
+     *                   buffered by the driver are delivered together in a single event-loop task
+     */
+    public Neo4jRecordStreamImpl(Context context, AsyncTransaction tx, AsyncSession session, ResultCursor cursor, int batchSize) {
         this.context = context;
         this.tx = tx;
         this.session = session;
         this.cursor = cursor;
+        this.batchSize = Math.max(1, batchSize);
         internalQueue = new InboundBuffer<Record>(context)
                 .exceptionHandler(this::handleException)
                 .drainHandler(v -> fetchRecord());
         state = State.IDLE;
     }
 
+    /**
+     * @param handler  the handler called once when the stream stops, and its session is closed
+     */
+    Neo4jRecordStreamImpl stopHandler(Runnable handler) {
+        stopHandler = handler;
+        return this;
+    }
+
     @Override
-    public synchronized Neo4jRecordStream exceptionHandler(Handler<Throwable> handler) {
+    public Neo4jRecordStream exceptionHandler(Handler<Throwable> handler) {
+        if (context != Vertx.currentContext()) {
+            context.runOnContext(v -> exceptionHandler(handler));
+            return this;
+        }
         if (state != State.STOPPED) {
             exceptionHandler = handler;
         }
@@ -64,34 +91,34 @@ public class Neo4jRecordStreamImpl implements Neo4jRecordStream {
     }
 
     @Override
-    public synchronized Neo4jRecordStream handler(Handler<Record> handler) {
+    public Neo4jRecordStream handler(Handler<Record> handler) {
+        if (context != Vertx.currentContext()) {
+            context.runOnContext(v -> handler(handler));
+            return this;
+        }
         if (state == State.STOPPED) {
             return this;
         }
         if (handler == null) {
             stop();
-            if (context != Vertx.currentContext()) {
-                context.runOnContext(v -> handleEnd());
-            } else {
-                handleEnd();
-            }
+            handleEnd();
         } else {
             this.handler = handler;
             internalQueue.handler(this::handleRecord);
             if (state == State.IDLE) {
                 state = State.STARTED;
-                if (context != Vertx.currentContext()) {
-                    context.runOnContext(v -> fetchRecord());
-                } else {
-                    fetchRecord();
-                }
+                fetchRecord();
             }
         }
         return this;
     }
 
     @Override
-    public synchronized Neo4jRecordStream pause() {
+    public Neo4jRecordStream pause() {
+        if (context != Vertx.currentContext()) {
+            context.runOnContext(v -> pause());
+            return this;
+        }
         if (state != State.STOPPED) {
             internalQueue.pause();
         }
@@ -99,7 +126,11 @@ public class Neo4jRecordStreamImpl implements Neo4jRecordStream {
     }
 
     @Override
-    public synchronized Neo4jRecordStream resume() {
+    public Neo4jRecordStream resume() {
+        if (context != Vertx.currentContext()) {
+            context.runOnContext(v -> resume());
+            return this;
+        }
         if (state != State.STOPPED) {
             internalQueue.resume();
         }
@@ -107,7 +138,11 @@ public class Neo4jRecordStreamImpl implements Neo4jRecordStream {
     }
 
     @Override
-    public synchronized Neo4jRecordStream endHandler(Handler<Void> handler) {
+    public Neo4jRecordStream endHandler(Handler<Void> handler) {
+        if (context != Vertx.currentContext()) {
+            context.runOnContext(v -> endHandler(handler));
+            return this;
+        }
         if (state != State.STOPPED) {
             endHandler = handler;
         }
@@ -116,33 +151,52 @@ public class Neo4jRecordStreamImpl implements Neo4jRecordStream {
 
     @Override
     public Neo4jRecordStream fetch(long l) {
+        if (context != Vertx.currentContext()) {
+            context.runOnContext(v -> fetch(l));
+            return this;
+        }
         if (state != State.STOPPED) {
             internalQueue.fetch(l);
         }
         return this;
     }
 
-    private synchronized void fetchRecord() {
-        if (state == State.STOPPED) {
+    // the methods below are only called on the stream context : from the public methods above, from the cursor
+    // callbacks and from the internal queue handlers
+
+    private void fetchRecord() {
+        // the cursor calls back synchronously when records are already buffered : loop instead of recursing
+        if (fetching) {
+            refetch = true;
             return;
         }
-
-        cursor.one(ar -> {
-            if (ar.succeeded()) {
-                handleFetched(ar.result());
-            } else {
-                handleException(ar.cause());
-            }
-        });
+        fetching = true;
+        try {
+            do {
+                refetch = false;
+                if (state == State.STOPPED) {
+                    return;
+                }
+                cursor.next(batchSize, ar -> {
+                    if (ar.succeeded()) {
+                        handleFetched(ar.result());
+                    } else {
+                        handleException(ar.cause());
+                    }
+                });
+            } while (refetch);
+        } finally {
+            fetching = false;
+        }
     }
 
-    private synchronized void handleFetched(Record record) {
+    private void handleFetched(List<Record> records) {
         if (state == State.STOPPED) {
             return;
         }
-        if (record != null) {
-            inFlight++;
-            if (internalQueue.write(record)) {
+        if (!records.isEmpty()) {
+            inFlight += records.size();
+            if (internalQueue.write(records)) {
                 fetchRecord();
             }
         } else {
@@ -155,49 +209,39 @@ public class Neo4jRecordStreamImpl implements Neo4jRecordStream {
     }
 
     private void handleRecord(Record record) {
-        synchronized (this) {
-            if (state == State.STOPPED) {
-                return;
-            }
-            inFlight--;
+        if (state == State.STOPPED) {
+            return;
         }
+        inFlight--;
         handler.handle(record);
-        synchronized (this) {
-            if (state == State.EXHAUSTED && inFlight == 0) {
-                stop();
-                handleEnd();
-            }
+        if (state == State.EXHAUSTED && inFlight == 0) {
+            stop();
+            handleEnd();
         }
     }
 
     private void handleException(Throwable cause) {
-        Handler<Throwable> h;
-        synchronized (this) {
-            if (state != State.STOPPED) {
-                stop();
-                h = exceptionHandler;
-            } else {
-                h = null;
-            }
+        if (state == State.STOPPED) {
+            return;
         }
-        if (h != null) {
-            h.handle(cause);
+        stop();
+        if (exceptionHandler != null) {
+            exceptionHandler.handle(cause);
         }
     }
 
-    private synchronized void handleEnd() {
-        Handler<Void> h;
-        synchronized (this) {
-            h = endHandler;
-        }
-        if (h != null) {
-            h.handle(null);
+    private void handleEnd() {
+        if (endHandler != null) {
+            endHandler.handle(null);
         }
     }
 
-    private synchronized void stop() {
+    private void stop() {
         state = State.STOPPED;
         internalQueue.handler(null).drainHandler(null);
-        tx.commitAsync().thenCompose(ignore -> session.closeAsync());
+        tx.commitAsync().whenComplete((ignore, error) -> session.closeAsync());
+        if (stopHandler != null) {
+            stopHandler.run();
+        }
     }
 }
@@ -27,20 +27,34 @@ import org.neo4j.driver.async.ResultCursor;
 import org.neo4j.driver.summary.ResultSummary;
 
 import java.util.List;
-import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static io.reactiverse.neo4j.Util.wrapCallback;
+import static io.reactiverse.neo4j.impl.LatencyTracker.timed;
+import static io.reactiverse.neo4j.impl.LatencyTracker.timedCallback;
 
 public class Neo4jTransactionImpl implements Neo4jTransaction {
 
     private final Vertx vertx;
     private final AsyncTransaction tx;
     private final AsyncSession session;
+    private final LatencyTracker latencyTracker;
+    private final Runnable endHandler;
+    private final AtomicBoolean ended = new AtomicBoolean();
 
     public Neo4jTransactionImpl(Vertx vertx, AsyncTransaction tx, AsyncSession session) {
+        this(vertx, tx, session, null, () -> {});
+    }
+
+    /**
+     * @param endHandler  called once, when the transaction has been committed or rolled back and before the result is handed over
+     */
+    Neo4jTransactionImpl(Vertx vertx, AsyncTransaction tx, AsyncSession session, LatencyTracker latencyTracker, Runnable endHandler) {
         this.vertx = vertx;
         this.tx = tx;
         this.session = session;
+        this.latencyTracker = latencyTracker;
+        this.endHandler = endHandler;
     }
 
     @Override
@@ -52,40 +66,54 @@ public class Neo4jTransactionImpl implements Neo4jTransaction {
     @Override
     public Neo4jTransaction query(Query query, Handler<AsyncResult<ResultSummary>> resultHandler) {
         Context context = vertx.getOrCreateContext();
-        tx.runAsync(query).thenCompose(ResultCursor::consumeAsync)
-        .thenAccept(resultSummary -> context.runOnContext(v -> resultHandler.handle(Future.succeededFuture(resultSummary))))
-        .exceptionally(error -> {
-            context.runOnContext(v -> resultHandler.handle(Future.failedFuture(Optional.ofNullable(error.getCause()).orElse(error))));
-            return null;
-        });
+        LatencyTracker.Call call = track(query);
+        tx.runAsync(query).thenCompose(timed(call, ResultCursor::consumeAsync))
+        .whenComplete(timedCallback(context, call, resultHandler));
         return this;
     }
 
     @Override
     public Neo4jTransaction readQuery(Query query, Handler<AsyncResult<List<Record>>> resultHandler) {
         Context context = vertx.getOrCreateContext();
-        tx.runAsync(query).thenCompose(ResultCursor::listAsync)
-        .thenAccept(records -> context.runOnContext(v -> resultHandler.handle(Future.succeededFuture(records))))
-        .exceptionally(error -> {
-            context.runOnContext(v -> resultHandler.handle(Future.failedFuture(Optional.ofNullable(error.getCause()).orElse(error))));
-            return null;
-        });
+        LatencyTracker.Call call = track(query);
+        tx.runAsync(query).thenCompose(timed(call, ResultCursor::listAsync))
+        .whenComplete(timedCallback(context, call, resultHandler));
         return this;
     }
 
     @Override
     public Neo4jTransaction commit(Handler<AsyncResult<Void>> resultHandler) {
         Context context = vertx.getOrCreateContext();
-        tx.commitAsync().whenComplete(wrapCallback(context, resultHandler))
-            .thenCompose(ignore -> session.closeAsync());
+        tx.commitAsync().whenComplete((ignore, error) -> end())
+            .whenComplete(wrapCallback(context, resultHandler))
+            .whenComplete((ignore, error) -> session.closeAsync());
         return this;
     }
 
     @Override
     public Neo4jTransaction rollback(Handler<AsyncResult<Void>> resultHandler) {
         Context context = vertx.getOrCreateContext();
-        tx.rollbackAsync().whenComplete(wrapCallback(context, resultHandler))
-        .thenCompose(ignore -> session.closeAsync());
+        tx.rollbackAsync().whenComplete((ignore, error) -> end())
+        .whenComplete(wrapCallback(context, resultHandler))
+        .whenComplete((ignore, error) -> session.closeAsync());
         return this;
     }
+
+    private void end() {
+        if (ended.compareAndSet(false, true)) {
+            endHandler.run();
+        }
+    }
+
+    /**
+     * A query of a transaction runs straight away, so the call is admitted as soon as it is made.
+     */
+    private LatencyTracker.Call track(Query query) {
+        if (latencyTracker == null) {
+            return null;
+        }
+        LatencyTracker.Call call = latencyTracker.start(query.text());
+        call.admitted();
+        return call;
+    }
 }
@@ -0,0 +1,234 @@
+/*
+ * Copyright (c) 2018-2020 Olympe S.A.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.reactiverse.neo4j.impl;
+
+import io.reactiverse.neo4j.Neo4jWriteStream;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import org.neo4j.driver.Query;
+import org.neo4j.driver.summary.SummaryCounters;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+import static io.reactiverse.neo4j.impl.Neo4jClientImpl.AGGREGATE_COUNTERS;
+import static org.neo4j.driver.internal.summary.InternalSummaryCounters.EMPTY_STATS;
+
+public class Neo4jWriteStreamImpl implements Neo4jWriteStream {
+
+    private final Context context;
+    private final BiConsumer<List<Query>, Handler<AsyncResult<SummaryCounters>>> chunkWriter;
+    private final int chunkSize;
+
+    // updated from the writing threads, so that the write queue is full as soon as a query has been written
+    private final AtomicInteger queued = new AtomicInteger();
+    private volatile int maxSize;
+    private volatile SummaryCounters counters = EMPTY_STATS;
+
+    private List<Query> pending;
+    private List<Handler<AsyncResult<Void>>> pendingHandlers;
+    private boolean committing;
+    private boolean ended;
+    private Throwable failure;
+    private Handler<Throwable> exceptionHandler;
+    private Handler<Void> drainHandler;
+    private Handler<AsyncResult<Void>> endHandler;
+
+    public Neo4jWriteStreamImpl(Context context, BiConsumer<List<Query>, Handler<AsyncResult<SummaryCounters>>> chunkWriter, int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size should be positive");
+        }
+        this.context = context;
+        this.chunkWriter = chunkWriter;
+        this.chunkSize = chunkSize;
+        this.maxSize = 2 * chunkSize;
+        this.pending = new ArrayList<>(chunkSize);
+        this.pendingHandlers = new ArrayList<>(chunkSize);
+    }
+
+    @Override
+    public Neo4jWriteStream exceptionHandler(Handler<Throwable> handler) {
+        if (context != Vertx.currentContext()) {
+            context.runOnContext(v -> exceptionHandler(handler));
+            return this;
+        }
+        exceptionHandler = handler;
+        return this;
+    }
+
+    @Override
+    public Neo4jWriteStream write(Query data) {
+        return write(data, null);
+    }
+
+    @Override
+    public Neo4jWriteStream write(Query data, Handler<AsyncResult<Void>> handler) {
+        queued.incrementAndGet();
+        if (context != Vertx.currentContext()) {
+            context.runOnContext(v -> handleWrite(data, handler));
+        } else {
+            handleWrite(data, handler);
+        }
+        return this;
+    }
+
+    @Override
+    public void end() {
+        end((Handler<AsyncResult<Void>>) null);
+    }
+
+    @Override
+    public void end(Handler<AsyncResult<Void>> handler) {
+        if (context != Vertx.currentContext()) {
+            context.runOnContext(v -> end(handler));
+            return;
+        }
+        if (ended) {
+            throw new IllegalStateException("Stream already ended");
+        }
+        ended = true;
+        endHandler = handler;
+        if (failure != null) {
+            handleEnd();
+        } else if (!committing) {
+            if (pending.isEmpty()) {
+                handleEnd();
+            } else {
+                commit();
+            }
+        }
+    }
+
+    @Override
+    public void end(Query data) {
+        end(data, null);
+    }
+
+    @Override
+    public void end(Query data, Handler<AsyncResult<Void>> handler) {
+        write(data);
+        end(handler);
+    }
+
+    @Override
+    public Neo4jWriteStream setWriteQueueMaxSize(int maxSize) {
+        this.maxSize = maxSize;
+        return this;
+    }
+
+    @Override
+    public boolean writeQueueFull() {
+        return queued.get() >= maxSize;
+    }
+
+    @Override
+    public Neo4jWriteStream drainHandler(Handler<Void> handler) {
+        if (context != Vertx.currentContext()) {
+            context.runOnContext(v -> drainHandler(handler));
+            return this;
+        }
+        drainHandler = handler;
+        return this;
+    }
+
+    @Override
+    public SummaryCounters counters() {
+        return counters;
+    }
+
+    // the methods below are only called on the stream context : from the public methods above and from the
+    // commit callbacks
+
+    private void handleWrite(Query query, Handler<AsyncResult<Void>> handler) {
+        if (ended || failure != null) {
+            queued.decrementAndGet();
+            if (handler != null) {
+                handler.handle(Future.failedFuture(failure != null ? failure : new IllegalStateException("Stream already ended")));
+            }
+            return;
+        }
+        pending.add(query);
+        pendingHandlers.add(handler);
+        if (!committing && chunkFull()) {
+            commit();
+        }
+    }
+
+    private void commit() {
+        List<Query> chunk = pending;
+        List<Handler<AsyncResult<Void>>> handlers = pendingHandlers;
+        pending = new ArrayList<>(chunkSize);
+        pendingHandlers = new ArrayList<>(chunkSize);
+        committing = true;
+        chunkWriter.accept(chunk, ar -> {
+            committing = false;
+            queued.addAndGet(-chunk.size());
+            if (ar.succeeded()) {
+                counters = AGGREGATE_COUNTERS.apply(counters, ar.result());
+                complete(handlers, Future.succeededFuture());
+            } else {
+                failure = ar.cause();
+                complete(handlers, Future.failedFuture(failure));
+                complete(pendingHandlers, Future.failedFuture(failure));
+                queued.addAndGet(-pending.size());
+                pending.clear();
+                pendingHandlers.clear();
+                if (exceptionHandler != null) {
+                    exceptionHandler.handle(failure);
+                }
+            }
+            if (failure == null && (chunkFull() || (ended && !pending.isEmpty()))) {
+                commit();
+            } else if (ended && !committing) {
+                handleEnd();
+            }
+            Handler<Void> drain = drainHandler;
+            if (drain != null && !ended && failure == null && queued.get() <= maxSize / 2) {
+                drain.handle(null);
+            }
+        });
+    }
+
+    /**
+     * A write queue smaller than the chunk size is full before a chunk is : the chunks are then bounded by the write
+     * queue max size, otherwise nothing would be committed and the stream would never be drained.
+     */
+    private boolean chunkFull() {
+        return !pending.isEmpty() && pending.size() >= Math.min(chunkSize, maxSize);
+    }
+
+    private static void complete(List<Handler<AsyncResult<Void>>> handlers, AsyncResult<Void> result) {
+        for (Handler<AsyncResult<Void>> handler : handlers) {
+            if (handler != null) {
+                handler.handle(result);
+            }
+        }
+    }
+
+    private void handleEnd() {
+        Handler<AsyncResult<Void>> handler = endHandler;
+        endHandler = null;
+        if (handler != null) {
+            handler.handle(failure != null ? Future.failedFuture(failure) : Future.succeededFuture());
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2018-2020 Olympe S.A.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.reactiverse.neo4j.impl;
+
+import io.reactiverse.neo4j.VisibleForTesting;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Shares the result of a read with the identical reads started while it is in flight, so that they do not run
+ * their own transaction.
+ * <p>
+ * A read is only shared with the reads started before any write has completed since it started : a read following
+ * a write of the data source, e.g. to read back what it has written, runs its own transaction instead of getting a
+ * result which may miss the write. Nothing is kept once the result has been received. The coalescer is shared by
+ * several event loops.
+ */
+class ReadCoalescer {
+
+    private final Map<ReadKey, InFlightRead> inFlightReads = new ConcurrentHashMap<>();
+    private final AtomicLong completedWrites = new AtomicLong();
+
+    /**
+     * @param read  the read to run when no identical read is in flight
+     * @param share  the copy of the result handed over to each read sharing the result of the read in flight
+     */
+    @SuppressWarnings("unchecked")
+    <T> CompletionStage<T> read(ReadKey key, Supplier<CompletionStage<T>> read, UnaryOperator<T> share) {
+        InFlightRead started = new InFlightRead(completedWrites.get());
+        InFlightRead inFlight = inFlightReads.compute(key, (k, current) -> current != null && current.writes == started.writes ? current : started);
+        if (inFlight != started) {
+            return inFlight.result.thenApply(shared -> share.apply((T) shared));
+        }
+        CompletionStage<T> stage;
+        try {
+            stage = read.get();
+        } catch (RuntimeException e) {
+            inFlightReads.remove(key, started);
+            started.result.completeExceptionally(e);
+            throw e;
+        }
+        stage.whenComplete((value, error) -> {
+            inFlightReads.remove(key, started);
+            if (error != null) {
+                started.result.completeExceptionally(error);
+            } else {
+                started.result.complete(value);
+            }
+        });
+        return started.result.thenApply(value -> (T) value);
+    }
+
+    /**
+     * Called once a write has completed, before its result is handed over, so that the reads started afterwards do
+     * not share the result of a read started before.
+     */
+    void writeCompleted() {
+        completedWrites.incrementAndGet();
+    }
+
+    @VisibleForTesting
+    int inFlight() {
+        return inFlightReads.size();
+    }
+
+    private static final class InFlightRead {
+
+        final CompletableFuture<Object> result = new CompletableFuture<>();
+        // the number of writes completed when the read started
+        final long writes;
+
+        InFlightRead(long writes) {
+            this.writes = writes;
+        }
+    }
+}
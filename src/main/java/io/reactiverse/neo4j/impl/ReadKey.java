@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2018-2020 Olympe S.A.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.reactiverse.neo4j.impl;
+
+import org.neo4j.driver.Value;
+
+import java.util.Objects;
+
+/**
+ * Identifies a read by its query text and parameters, to share its result between identical reads.
+ * <p>
+ * The parameter values compare their content, maps regardless of the order of their entries, so equal parameters
+ * built in different ways share the same key.
+ */
+final class ReadKey {
+
+    private final String query;
+    private final Value parameters;
+    private final boolean single;
+    private final boolean cached;
+
+    /**
+     * @param single  whether the result is a single record rather than a list of records
+     */
+    ReadKey(String query, Value parameters, boolean single) {
+        this(query, parameters, single, false);
+    }
+
+    private ReadKey(String query, Value parameters, boolean single, boolean cached) {
+        this.query = query;
+        this.parameters = parameters;
+        this.single = single;
+        this.cached = cached;
+    }
+
+    /**
+     * @return the key of the same read run to fill the result cache, so that it is only shared with the reads which
+     * fill the cache too, the others not storing the result they have read
+     */
+    ReadKey cachedRead() {
+        return new ReadKey(query, parameters, single, true);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ReadKey)) {
+            return false;
+        }
+        ReadKey key = (ReadKey) o;
+        return single == key.single && cached == key.cached && query.equals(key.query) && Objects.equals(parameters, key.parameters);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(query, parameters, single, cached);
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2018-2020 Olympe S.A.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.reactiverse.neo4j.impl;
+
+import org.neo4j.driver.Record;
+import org.neo4j.driver.async.ResultCursor;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.function.BiConsumer;
+import java.util.stream.Collector;
+
+/**
+ * Folds the records of a cursor while they are received, so that the records themselves are not kept,
+ * and stops reading the cursor once a maximum number of records has been collected.
+ */
+class RecordCollector<A, R> {
+
+    private final ResultCursor cursor;
+    private final Collector<Record, A, R> collector;
+    private final BiConsumer<A, Record> accumulator;
+    private final long maxRecords;
+    private final boolean truncate;
+    private final A container;
+    private final CompletableFuture<R> result = new CompletableFuture<>();
+
+    private long count;
+
+    private RecordCollector(ResultCursor cursor, Collector<Record, A, R> collector, long maxRecords, boolean truncate) {
+        this.cursor = cursor;
+        this.collector = collector;
+        this.accumulator = collector.accumulator();
+        this.maxRecords = maxRecords;
+        this.truncate = truncate;
+        this.container = collector.supplier().get();
+    }
+
+    /**
+     * @param maxRecords  the maximum number of records to collect
+     * @param truncate  whether the records beyond the maximum are ignored, otherwise the collect fails with an
+     *                  {@link IllegalStateException} as soon as one more record is received
+     */
+    static <A, R> CompletionStage<R> collect(ResultCursor cursor, Collector<Record, A, R> collector, long maxRecords, boolean truncate) {
+        RecordCollector<A, R> recordCollector = new RecordCollector<>(cursor, collector, maxRecords, truncate);
+        recordCollector.pull();
+        return recordCollector.result;
+    }
+
+    private void pull() {
+        // the cursor completes synchronously when records are already buffered : loop instead of recursing
+        while (true) {
+            if (truncate && count == maxRecords) {
+                finish();
+                return;
+            }
+            CompletableFuture<Record> next = cursor.nextAsync().toCompletableFuture();
+            if (!next.isDone()) {
+                next.whenComplete((record, error) -> {
+                    if (handle(record, error)) {
+                        pull();
+                    }
+                });
+                return;
+            }
+            Record record;
+            try {
+                record = next.join();
+            } catch (CompletionException e) {
+                handle(null, e.getCause());
+                return;
+            }
+            if (!handle(record, null)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * @return whether the next record should be pulled
+     */
+    private boolean handle(Record record, Throwable error) {
+        if (error != null) {
+            result.completeExceptionally(error);
+            return false;
+        }
+        if (record == null) {
+            finish();
+            return false;
+        }
+        if (count == maxRecords) {
+            result.completeExceptionally(new IllegalStateException("The result has more than " + maxRecords + " records"));
+            return false;
+        }
+        try {
+            accumulator.accept(container, record);
+        } catch (RuntimeException e) {
+            result.completeExceptionally(e);
+            return false;
+        }
+        count++;
+        return true;
+    }
+
+    private void finish() {
+        try {
+            result.complete(collector.finisher().apply(container));
+        } catch (RuntimeException e) {
+            result.completeExceptionally(e);
+        }
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2018-2020 Olympe S.A.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.reactiverse.neo4j.impl;
+
+import io.reactiverse.neo4j.VisibleForTesting;
+import io.vertx.core.Context;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Bounds the number of requests in flight. The requests beyond the limit wait in a bounded queue, and are rejected
+ * right away when the queue is full, instead of piling up in the driver until its connection acquisition timeout.
+ * <p>
+ * In adaptive mode, the limit is lowered by 10% when the recent latency gets higher than 1.5 times the long term latency,
+ * at most once per request round-trip, and raised by one when the requests in flight reach the limit while the latency
+ * is normal. It never exceeds the maximum limit given at creation.
+ * <p>
+ * The limiter is shared by the clients of a data source, hence by several event loops : the state is guarded by the limiter lock,
+ * and the requests are started outside of it.
+ */
+class RequestLimiter {
+
+    private static final double RECENT_LATENCY_WEIGHT = 0.2;
+    private static final double LONG_TERM_LATENCY_WEIGHT = 0.01;
+    private static final double LATENCY_TOLERANCE = 1.5;
+    private static final double LIMIT_DECREASE_FACTOR = 0.9;
+
+    private final int maxLimit;
+    private final int maxQueued;
+    private final boolean adaptive;
+    private final LongSupplier nanoClock;
+    private final Deque<Runnable> queue = new ArrayDeque<>();
+
+    private int limit;
+    private int inFlight;
+    private double recentLatency;
+    private double longTermLatency;
+    private long lastDecreaseNanos = Long.MIN_VALUE;
+
+    RequestLimiter(int maxLimit, int maxQueued, boolean adaptive) {
+        this(maxLimit, maxQueued, adaptive, System::nanoTime);
+    }
+
+    @VisibleForTesting
+    RequestLimiter(int maxLimit, int maxQueued, boolean adaptive, LongSupplier nanoClock) {
+        this.maxLimit = maxLimit;
+        this.maxQueued = maxQueued;
+        this.adaptive = adaptive;
+        this.nanoClock = nanoClock;
+        this.limit = maxLimit;
+    }
+
+    /**
+     * @param context  the context to start the request on when it has been queued, can be {@code null}
+     * @return the result of the request, or a stage failed with an {@link IllegalStateException} when the queue is full
+     */
+    <T> CompletionStage<T> submit(Context context, Supplier<CompletionStage<T>> request) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Runnable start = () -> start(request, result);
+        synchronized (this) {
+            if (inFlight >= limit) {
+                if (queue.size() >= maxQueued) {
+                    result.completeExceptionally(new IllegalStateException("Too many in-flight requests"));
+                } else {
+                    queue.add(context == null ? start : () -> context.runOnContext(v -> start.run()));
+                }
+                return result;
+            }
+            inFlight++;
+        }
+        start.run();
+        return result;
+    }
+
+    @VisibleForTesting
+    synchronized int limit() {
+        return limit;
+    }
+
+    @VisibleForTesting
+    synchronized int inFlight() {
+        return inFlight;
+    }
+
+    @VisibleForTesting
+    synchronized int queued() {
+        return queue.size();
+    }
+
+    private <T> void start(Supplier<CompletionStage<T>> request, CompletableFuture<T> result) {
+        long startedAt = nanoClock.getAsLong();
+        CompletionStage<T> stage;
+        try {
+            stage = request.get();
+        } catch (RuntimeException e) {
+            release(startedAt);
+            result.completeExceptionally(e);
+            return;
+        }
+        stage.whenComplete((value, error) -> {
+            release(startedAt);
+            if (error != null) {
+                result.completeExceptionally(error);
+            } else {
+                result.complete(value);
+            }
+        });
+    }
+
+    private void release(long startedAt) {
+        List<Runnable> admitted = new ArrayList<>(1);
+        synchronized (this) {
+            inFlight--;
+            if (adaptive) {
+                adapt(startedAt, nanoClock.getAsLong());
+            }
+            while (inFlight < limit && !queue.isEmpty()) {
+                inFlight++;
+                admitted.add(queue.poll());
+            }
+        }
+        admitted.forEach(Runnable::run);
+    }
+
+    private void adapt(long startedAt, long now) {
+        double latency = now - startedAt;
+        if (longTermLatency == 0) {
+            recentLatency = longTermLatency = latency;
+            return;
+        }
+        recentLatency += RECENT_LATENCY_WEIGHT * (latency - recentLatency);
+        longTermLatency += LONG_TERM_LATENCY_WEIGHT * (latency - longTermLatency);
+        if (recentLatency > longTermLatency * LATENCY_TOLERANCE) {
+            // a request started before the last decrease does not show its effect yet
+            if (startedAt > lastDecreaseNanos) {
+                limit = Math.max(1, (int) (limit * LIMIT_DECREASE_FACTOR));
+                lastDecreaseNanos = now;
+            }
+        } else if (limit < maxLimit && (inFlight + 1 >= limit || !queue.isEmpty())) {
+            limit++;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2018-2020 Olympe S.A.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.reactiverse.neo4j.impl;
+
+import io.reactiverse.neo4j.VisibleForTesting;
+import io.vertx.core.json.JsonObject;
+import org.neo4j.driver.Value;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Keeps the results of read queries, keyed by query text and parameters, for a limited time.
+ * <p>
+ * The least recently used result is evicted when the cache is full, and expired results are evicted when they are looked up.
+ * A result read before an invalidation is not cached once the read completes, as it may be stale.
+ * <p>
+ * The cache is shared by the clients of a data source, hence by several event loops : all the methods are synchronized.
+ */
+class ResultCache {
+
+    private final int maxSize;
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+    private final Map<ReadKey, CachedResult> entries;
+
+    // incremented by each invalidation, so that a read started before cannot cache its result
+    private long generation;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    ResultCache(int maxSize, long ttlMillis) {
+        this(maxSize, ttlMillis, System::nanoTime);
+    }
+
+    @VisibleForTesting
+    ResultCache(int maxSize, long ttlMillis, LongSupplier nanoClock) {
+        this.maxSize = maxSize;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+        this.nanoClock = nanoClock;
+        this.entries = new LinkedHashMap<ReadKey, CachedResult>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ReadKey, CachedResult> eldest) {
+                if (size() > ResultCache.this.maxSize) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * @return the cached result, or {@code null} when the result is not cached or has expired
+     */
+    synchronized Object get(ReadKey key) {
+        CachedResult entry = entries.get(key);
+        if (entry != null && nanoClock.getAsLong() - entry.cachedAt >= ttlNanos) {
+            entries.remove(key);
+            evictions++;
+            entry = null;
+        }
+        if (entry == null) {
+            misses++;
+            return null;
+        }
+        hits++;
+        return entry.result;
+    }
+
+    /**
+     * @return the generation to give back to {@link #put} once the result has been read
+     */
+    synchronized long generation() {
+        return generation;
+    }
+
+    /**
+     * @param readGeneration  the generation of the cache when the result started to be read
+     * @param tag  the tag of the result, can be {@code null}
+     */
+    synchronized void put(ReadKey key, Object result, String tag, long readGeneration) {
+        if (readGeneration == generation) {
+            entries.put(key, new CachedResult(result, tag, nanoClock.getAsLong()));
+        }
+    }
+
+    synchronized void invalidate(String query, Value parameters) {
+        generation++;
+        entries.remove(new ReadKey(query, parameters, false));
+        entries.remove(new ReadKey(query, parameters, true));
+    }
+
+    synchronized void invalidateTag(String tag) {
+        generation++;
+        Iterator<CachedResult> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            if (tag.equals(iterator.next().tag)) {
+                iterator.remove();
+            }
+        }
+    }
+
+    synchronized JsonObject stats() {
+        return new JsonObject()
+                .put("size", entries.size())
+                .put("hits", hits)
+                .put("misses", misses)
+                .put("evictions", evictions);
+    }
+
+    private static final class CachedResult {
+
+        final Object result;
+        final String tag;
+        final long cachedAt;
+
+        CachedResult(Object result, String tag, long cachedAt) {
+            this.result = result;
+            this.tag = tag;
+            this.cachedAt = cachedAt;
+        }
+    }
+}
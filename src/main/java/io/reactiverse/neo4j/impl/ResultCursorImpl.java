@@ -20,27 +20,92 @@ import io.vertx.core.*;
 import org.neo4j.driver.Record;
 import org.neo4j.driver.async.ResultCursor;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
 public class ResultCursorImpl implements io.reactiverse.neo4j.ResultCursor {
 
+    private static final int INITIAL_BATCH_CAPACITY = 64;
+
     private final ResultCursor cursor;
-    private final Vertx vertx;
+    private final Context context;
 
-    public ResultCursorImpl(ResultCursor cursor, Vertx vertx) {
+    // a record requested while draining a batch but not yet received, handed over to the next batch
+    private CompletionStage<Record> pending;
+
+    /**
+     * @param context  the context the handlers are called on, directly when the driver already buffered the
+     *                 requested records and the cursor is used from this context, otherwise through a single task
+     */
+    public ResultCursorImpl(ResultCursor cursor, Context context) {
         this.cursor = cursor;
-        this.vertx = vertx;
+        this.context = context;
     }
 
     @Override
     public io.reactiverse.neo4j.ResultCursor one(Handler<AsyncResult<Record>> handler) {
-        Context context = vertx.getOrCreateContext();
-        cursor.nextAsync()
-                .thenAccept(record -> {
-                    context.runOnContext(v -> handler.handle(Future.succeededFuture(record)));
-                })
-                .exceptionally(error -> {
+        CompletableFuture<Record> next = cursor.nextAsync().toCompletableFuture();
+        if (next.isDone() && Vertx.currentContext() == context) {
+            handler.handle(result(next));
+        } else {
+            next.whenComplete((record, error) -> {
+                context.runOnContext(v -> handler.handle(error == null ? Future.succeededFuture(record) : Future.failedFuture(error)));
+            });
+        }
+        return this;
+    }
+
+    @Override
+    public io.reactiverse.neo4j.ResultCursor next(int max, Handler<AsyncResult<List<Record>>> handler) {
+        CompletableFuture<Record> first = (pending != null ? pending : cursor.nextAsync()).toCompletableFuture();
+        pending = null;
+        if (first.isDone() && Vertx.currentContext() == context) {
+            handler.handle(result(first).map(record -> batch(record, max)));
+        } else {
+            first.whenComplete((record, error) -> {
+                if (error == null) {
+                    List<Record> batch = batch(record, max);
+                    context.runOnContext(v -> handler.handle(Future.succeededFuture(batch)));
+                } else {
                     context.runOnContext(v -> handler.handle(Future.failedFuture(error)));
-                    return null;
-                });
+                }
+            });
+        }
         return this;
     }
+
+    private static AsyncResult<Record> result(CompletableFuture<Record> done) {
+        try {
+            return Future.succeededFuture(done.join());
+        } catch (CompletionException e) {
+            return Future.failedFuture(e.getCause());
+        }
+    }
+
+    private List<Record> batch(Record first, int max) {
+        return first == null ? Collections.emptyList() : drain(first, max);
+    }
+
+    private List<Record> drain(Record first, int max) {
+        List<Record> batch = new ArrayList<>(Math.min(max, INITIAL_BATCH_CAPACITY));
+        batch.add(first);
+        while (batch.size() < max) {
+            CompletableFuture<Record> next = cursor.nextAsync().toCompletableFuture();
+            if (!next.isDone() || next.isCompletedExceptionally()) {
+                // not buffered yet (or failed) : it will be the head of the next batch
+                pending = next;
+                break;
+            }
+            Record record = next.join();
+            if (record == null) {
+                break;
+            }
+            batch.add(record);
+        }
+        return batch;
+    }
 }
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2018-2020 Olympe S.A.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.reactiverse.neo4j.impl;
+
+import io.reactiverse.neo4j.VisibleForTesting;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import org.neo4j.driver.exceptions.ServiceUnavailableException;
+import org.neo4j.driver.exceptions.SessionExpiredException;
+import org.neo4j.driver.exceptions.TransientException;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Runs a unit of work again when it fails with an error the driver would retry in a managed transaction, after an
+ * exponential backoff with jitter.
+ * <p>
+ * The backoff is waited for with a Vert.x timer, so no thread is blocked between two attempts.
+ */
+class RetryPolicy {
+
+    private final int maxAttempts;
+    private final long initialDelayMillis;
+    private final long maxDelayMillis;
+    private final double jitterFactor;
+    private final DoubleSupplier random;
+
+    RetryPolicy(int maxAttempts, long initialDelayMillis, long maxDelayMillis, double jitterFactor) {
+        this(maxAttempts, initialDelayMillis, maxDelayMillis, jitterFactor, () -> ThreadLocalRandom.current().nextDouble());
+    }
+
+    @VisibleForTesting
+    RetryPolicy(int maxAttempts, long initialDelayMillis, long maxDelayMillis, double jitterFactor, DoubleSupplier random) {
+        this.maxAttempts = maxAttempts;
+        this.initialDelayMillis = initialDelayMillis;
+        this.maxDelayMillis = maxDelayMillis;
+        this.jitterFactor = jitterFactor;
+        this.random = random;
+    }
+
+    /**
+     * @param work  the unit of work, run once per attempt
+     * @param resultHandler  the handler called with the result of the last attempt
+     */
+    <T> void execute(Vertx vertx, Supplier<Future<T>> work, Handler<AsyncResult<T>> resultHandler) {
+        execute(vertx, work, 1, resultHandler);
+    }
+
+    private <T> void execute(Vertx vertx, Supplier<Future<T>> work, int attempt, Handler<AsyncResult<T>> resultHandler) {
+        Future<T> result;
+        try {
+            result = work.get();
+        } catch (RuntimeException e) {
+            result = Future.failedFuture(e);
+        }
+        result.onComplete(ar -> {
+            if (ar.failed() && attempt < maxAttempts && isRetryable(ar.cause())) {
+                vertx.setTimer(Math.max(1, delayMillis(attempt)), id -> execute(vertx, work, attempt + 1, resultHandler));
+            } else {
+                resultHandler.handle(ar);
+            }
+        });
+    }
+
+    /**
+     * @param attempt  the number of the failed attempt, starting at 1
+     * @return the delay before the next attempt: the initial delay doubled after each attempt, up to the max delay, and
+     * randomly spread by the jitter factor so that the clients failed by the same error do not retry all at once
+     */
+    @VisibleForTesting
+    long delayMillis(int attempt) {
+        double delay = Math.min(maxDelayMillis, initialDelayMillis * Math.pow(2, attempt - 1));
+        double jitter = delay * jitterFactor * (2 * random.getAsDouble() - 1);
+        return Math.round(delay + jitter);
+    }
+
+    /**
+     * Same classification as the driver retry logic: the lost connections and cluster role changes, and the transient
+     * errors which are not caused by the termination of the transaction by the user.
+     */
+    static boolean isRetryable(Throwable error) {
+        if (error instanceof CompletionException && error.getCause() != null) {
+            error = error.getCause();
+        }
+        if (error instanceof ServiceUnavailableException || error instanceof SessionExpiredException) {
+            return true;
+        }
+        if (error instanceof TransientException) {
+            String code = ((TransientException) error).code();
+            return !"Neo.TransientError.Transaction.Terminated".equals(code)
+                    && !"Neo.TransientError.Transaction.LockClientStopped".equals(code);
+        }
+        return false;
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2018-2020 Olympe S.A.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.reactiverse.neo4j.impl;
+
+import io.reactiverse.neo4j.VisibleForTesting;
+import io.vertx.core.Context;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.SessionConfig;
+import org.neo4j.driver.async.AsyncSession;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Keeps the sessions of a driver for reuse on a single context.
+ * <p>
+ * A session runs one transaction at a time, so a session is either handed out or idle in the pool. The most recently
+ * released session is reused first, and sessions idle for longer than the idle timeout are closed. A session whose
+ * transaction failed is closed instead of being released, as it may have lost its connection.
+ * <p>
+ * A reused session keeps the bookmark of its last transaction, so the next transaction it runs is causally chained
+ * after it : reusing sessions may only strengthen the ordering the caller would get with a new session, never weaken it.
+ * <p>
+ * {@link #acquire()} must be called on the pool context, the other methods can be called from any thread.
+ * A pool created without context does not keep any session : it opens a new session for each transaction and closes it afterwards.
+ */
+class SessionPool {
+
+    private final Context context;
+    private final Driver driver;
+    private final SessionConfig sessionConfig;
+    private final int maxIdle;
+    private final long idleTimeoutMillis;
+
+    // the first idle session is the most recently released one
+    private final Deque<IdleSession> idleSessions = new ArrayDeque<>();
+    private long evictionTimerId = -1;
+    private boolean closed;
+
+    SessionPool(Driver driver, SessionConfig sessionConfig) {
+        this(null, driver, sessionConfig, 0, 0);
+    }
+
+    SessionPool(Context context, Driver driver, SessionConfig sessionConfig, int maxIdle, long idleTimeoutMillis) {
+        this.context = context;
+        this.driver = driver;
+        this.sessionConfig = sessionConfig;
+        this.maxIdle = maxIdle;
+        this.idleTimeoutMillis = idleTimeoutMillis;
+    }
+
+    AsyncSession acquire() {
+        IdleSession idleSession = idleSessions.pollFirst();
+        return idleSession != null ? idleSession.session : driver.asyncSession(sessionConfig);
+    }
+
+    /**
+     * @param error  the failure of the last transaction run by the session, {@code null} if it succeeded
+     */
+    void release(AsyncSession session, Throwable error) {
+        if (error != null || context == null) {
+            session.closeAsync();
+        } else {
+            context.runOnContext(v -> handleRelease(session));
+        }
+    }
+
+    void close() {
+        if (context == null) {
+            return;
+        }
+        context.runOnContext(v -> {
+            closed = true;
+            if (evictionTimerId >= 0) {
+                context.owner().cancelTimer(evictionTimerId);
+                evictionTimerId = -1;
+            }
+            for (IdleSession idleSession : idleSessions) {
+                idleSession.session.closeAsync();
+            }
+            idleSessions.clear();
+        });
+    }
+
+    @VisibleForTesting
+    int idleSize() {
+        return idleSessions.size();
+    }
+
+    // the methods below are only called on the pool context
+
+    private void handleRelease(AsyncSession session) {
+        if (closed || idleSessions.size() >= maxIdle) {
+            session.closeAsync();
+            return;
+        }
+        idleSessions.addFirst(new IdleSession(session, System.currentTimeMillis()));
+        scheduleEviction();
+    }
+
+    private void scheduleEviction() {
+        if (idleTimeoutMillis <= 0 || evictionTimerId >= 0 || idleSessions.isEmpty()) {
+            return;
+        }
+        long delay = Math.max(1, idleSessions.peekLast().since + idleTimeoutMillis - System.currentTimeMillis());
+        evictionTimerId = context.owner().setTimer(delay, id -> {
+            evictionTimerId = -1;
+            evictIdleSessions();
+            scheduleEviction();
+        });
+    }
+
+    private void evictIdleSessions() {
+        long now = System.currentTimeMillis();
+        while (!idleSessions.isEmpty() && now - idleSessions.peekLast().since >= idleTimeoutMillis) {
+            idleSessions.pollLast().session.closeAsync();
+        }
+    }
+
+    private static class IdleSession {
+        final AsyncSession session;
+        final long since;
+
+        IdleSession(AsyncSession session, long since) {
+            this.session = session;
+            this.since = since;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2018-2020 Olympe S.A.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.reactiverse.neo4j.impl;
+
+import io.reactiverse.neo4j.VisibleForTesting;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import org.neo4j.driver.Query;
+import org.neo4j.driver.summary.ResultSummary;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+import static io.reactiverse.neo4j.Util.wrapCallback;
+
+/**
+ * Collects the independent writes of a context for a short window, and runs them in a single write transaction.
+ * <p>
+ * The writes are sent when the window elapses or as soon as the maximum batch size is reached. Each writer gets the
+ * summary of its own query. When the batch transaction fails, the batched queries are written again one by one,
+ * each in its own transaction, so that a failing query only fails its own writer.
+ * <p>
+ * {@link #write} must be called on the batcher context, {@link #close()} can be called from any thread.
+ */
+class WriteBatcher {
+
+    private final Context context;
+    private final int maxSize;
+    private final long windowMillis;
+    private final Function<List<Query>, CompletionStage<List<ResultSummary>>> batchWriter;
+    private final Function<Query, CompletionStage<ResultSummary>> singleWriter;
+
+    private List<PendingWrite> pending = new ArrayList<>();
+    private long windowTimerId = -1;
+    private boolean closed;
+
+    /**
+     * @param batchWriter  writes a list of queries in a single transaction, returning the summary of each query
+     * @param singleWriter  writes a query in its own transaction
+     */
+    WriteBatcher(Context context, int maxSize, long windowMillis,
+                 Function<List<Query>, CompletionStage<List<ResultSummary>>> batchWriter,
+                 Function<Query, CompletionStage<ResultSummary>> singleWriter) {
+        this.context = context;
+        this.maxSize = maxSize;
+        this.windowMillis = windowMillis;
+        this.batchWriter = batchWriter;
+        this.singleWriter = singleWriter;
+    }
+
+    void write(Query query, Handler<AsyncResult<ResultSummary>> resultHandler) {
+        if (closed) {
+            singleWriter.apply(query).whenComplete(wrapCallback(context, resultHandler));
+            return;
+        }
+        pending.add(new PendingWrite(query, resultHandler));
+        if (pending.size() >= maxSize) {
+            flush();
+        } else if (windowTimerId < 0) {
+            windowTimerId = context.owner().setTimer(Math.max(1, windowMillis), id -> {
+                windowTimerId = -1;
+                flush();
+            });
+        }
+    }
+
+    /**
+     * Fails the pending writes, as the driver is closed at the same time, and writes the next ones without batching them
+     */
+    void close() {
+        context.runOnContext(v -> {
+            closed = true;
+            if (windowTimerId >= 0) {
+                context.owner().cancelTimer(windowTimerId);
+                windowTimerId = -1;
+            }
+            List<PendingWrite> batch = pending;
+            pending = new ArrayList<>();
+            for (PendingWrite write : batch) {
+                write.resultHandler.handle(Future.failedFuture(new IllegalStateException("Client closed")));
+            }
+        });
+    }
+
+    @VisibleForTesting
+    int pendingSize() {
+        return pending.size();
+    }
+
+    // the methods below are only called on the batcher context
+
+    private void flush() {
+        if (windowTimerId >= 0) {
+            context.owner().cancelTimer(windowTimerId);
+            windowTimerId = -1;
+        }
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<PendingWrite> batch = pending;
+        pending = new ArrayList<>();
+        if (batch.size() == 1) {
+            PendingWrite write = batch.get(0);
+            singleWriter.apply(write.query).whenComplete(wrapCallback(context, write.resultHandler));
+            return;
+        }
+        List<Query> queries = new ArrayList<>(batch.size());
+        for (PendingWrite write : batch) {
+            queries.add(write.query);
+        }
+        batchWriter.apply(queries).whenComplete((summaries, error) -> context.runOnContext(v -> {
+            if (error == null) {
+                for (int i = 0; i < batch.size(); i++) {
+                    batch.get(i).resultHandler.handle(Future.succeededFuture(summaries.get(i)));
+                }
+            } else {
+                for (PendingWrite write : batch) {
+                    singleWriter.apply(write.query).whenComplete(wrapCallback(context, write.resultHandler));
+                }
+            }
+        }));
+    }
+
+    private static class PendingWrite {
+        final Query query;
+        final Handler<AsyncResult<ResultSummary>> resultHandler;
+
+        PendingWrite(Query query, Handler<AsyncResult<ResultSummary>> resultHandler) {
+            this.query = query;
+            this.resultHandler = resultHandler;
+        }
+    }
+}
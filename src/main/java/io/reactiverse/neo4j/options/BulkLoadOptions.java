@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2018-2020 Olympe S.A.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.reactiverse.neo4j.options;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.core.json.JsonObject;
+
+@DataObject(generateConverter = true)
+public class BulkLoadOptions {
+
+    public static final int DEFAULT_CHUNK_SIZE = 1000;
+    public static final int DEFAULT_CONCURRENCY = 4;
+    public static final int DEFAULT_MAX_RETRIES = 3;
+    public static final long DEFAULT_RETRY_DELAY_MILLIS = 1000;
+
+    private int chunkSize;
+    private int concurrency;
+    private int maxRetries;
+    private long retryDelayMillis;
+
+    public BulkLoadOptions() {
+        init();
+    }
+
+    public BulkLoadOptions(JsonObject json) {
+        this();
+        BulkLoadOptionsConverter.fromJson(json, this);
+    }
+
+    public JsonObject toJson() {
+        JsonObject json = new JsonObject();
+        BulkLoadOptionsConverter.toJson(this, json);
+        return json;
+    }
+
+    private void init() {
+        chunkSize = DEFAULT_CHUNK_SIZE;
+        concurrency = DEFAULT_CONCURRENCY;
+        maxRetries = DEFAULT_MAX_RETRIES;
+        retryDelayMillis = DEFAULT_RETRY_DELAY_MILLIS;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public BulkLoadOptions setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+        return this;
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    public BulkLoadOptions setConcurrency(int concurrency) {
+        this.concurrency = concurrency;
+        return this;
+    }
+
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    public BulkLoadOptions setMaxRetries(int maxRetries) {
+        this.maxRetries = maxRetries;
+        return this;
+    }
+
+    public long getRetryDelayMillis() {
+        return retryDelayMillis;
+    }
+
+    public BulkLoadOptions setRetryDelayMillis(long retryDelayMillis) {
+        this.retryDelayMillis = retryDelayMillis;
+        return this;
+    }
+}
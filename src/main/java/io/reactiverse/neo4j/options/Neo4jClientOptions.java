@@ -22,11 +22,15 @@ import org.neo4j.driver.AuthToken;
 import org.neo4j.driver.Config;
 import org.neo4j.driver.Config.ConfigBuilder;
 import org.neo4j.driver.Logging;
+import org.neo4j.driver.net.ServerAddress;
 
 import java.util.HashSet;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
+import static java.util.stream.Collectors.toSet;
+import static org.neo4j.driver.internal.cluster.RoutingSettings.STALE_ROUTING_TABLE_PURGE_DELAY_MS;
+
 @DataObject(generateConverter = true)
 public class Neo4jClientOptions {
 
@@ -36,6 +40,23 @@ public class Neo4jClientOptions {
 
     public static final String DEFAULT_SINGLE_NODE_HOST = "localhost";
     public static final int DEFAULT_SINGLE_NODE_PORT = 7687;
+    public static final int DEFAULT_MAX_IDLE_SESSIONS = 0;
+    public static final long DEFAULT_IDLE_SESSION_TIMEOUT_MILLIS = 60_000;
+    public static final boolean DEFAULT_COALESCE_READS = false;
+    public static final int DEFAULT_RESULT_CACHE_MAX_SIZE = 0;
+    public static final long DEFAULT_RESULT_CACHE_TTL_MILLIS = 60_000;
+    public static final int DEFAULT_WRITE_BATCH_MAX_SIZE = 0;
+    public static final long DEFAULT_WRITE_BATCH_WINDOW_MILLIS = 5;
+    public static final int DEFAULT_MAX_IN_FLIGHT_REQUESTS = 0;
+    public static final int DEFAULT_MAX_QUEUED_REQUESTS = 256;
+    public static final boolean DEFAULT_ADAPTIVE_IN_FLIGHT_LIMIT = false;
+    public static final long DEFAULT_QUERY_TIMEOUT_MILLIS = 0;
+    public static final int DEFAULT_RETRY_MAX_ATTEMPTS = 3;
+    public static final long DEFAULT_RETRY_INITIAL_DELAY_MILLIS = 100;
+    public static final long DEFAULT_RETRY_MAX_DELAY_MILLIS = 5_000;
+    public static final double DEFAULT_RETRY_JITTER_FACTOR = 0.2;
+    public static final boolean DEFAULT_LATENCY_TRACKING_ENABLED = false;
+    public static final int DEFAULT_LATENCY_TRACKING_MAX_QUERIES = 500;
 
     // single node parameters
     private String host;
@@ -43,6 +64,8 @@ public class Neo4jClientOptions {
 
     // cluster parameters
     private Set<String> clusterNodeURIs;
+    private Set<String> routers;
+    private long routingTablePurgeDelayMillis;
 
     private int maxConnectionPoolSize;
     private long connectionAcquisitionTimeoutMillis;
@@ -53,6 +76,41 @@ public class Neo4jClientOptions {
     private long fetchSize;
     private boolean encrypted;
     private boolean isMetricsEnabled;
+    private long connectionTimeoutMillis;
+
+    // session pool parameters
+    private int maxIdleSessions;
+    private long idleSessionTimeoutMillis;
+
+    // read coalescing parameters
+    private boolean coalesceReads;
+
+    // write batching parameters
+    private int writeBatchMaxSize;
+    private long writeBatchWindowMillis;
+
+    // result cache parameters
+    private int resultCacheMaxSize;
+    private long resultCacheTtlMillis;
+
+    // admission control parameters
+    private int maxInFlightRequests;
+    private int maxQueuedRequests;
+    private boolean adaptiveInFlightLimit;
+
+    // query parameters
+    private long queryTimeoutMillis;
+    private JsonObject transactionMetadata;
+
+    // retry parameters
+    private int retryMaxAttempts;
+    private long retryInitialDelayMillis;
+    private long retryMaxDelayMillis;
+    private double retryJitterFactor;
+
+    // latency parameters
+    private boolean latencyTrackingEnabled;
+    private int latencyTrackingMaxQueries;
 
     // auth parameters
     private Neo4jClientAuthOptions authOptions;
@@ -82,6 +140,9 @@ public class Neo4jClientOptions {
         host = DEFAULT_SINGLE_NODE_HOST;
         port = DEFAULT_SINGLE_NODE_PORT;
         clusterNodeURIs = new HashSet<>();
+        routers = new HashSet<>();
+        routingTablePurgeDelayMillis = STALE_ROUTING_TABLE_PURGE_DELAY_MS;
+        connectionTimeoutMillis = DEFAULT_CONFIG.connectionTimeoutMillis();
         maxConnectionPoolSize = DEFAULT_CONFIG.maxConnectionPoolSize();
         connectionAcquisitionTimeoutMillis = DEFAULT_CONFIG.connectionAcquisitionTimeoutMillis();
         eventLoopThreads = DEFAULT_CONFIG.eventLoopThreads();
@@ -91,6 +152,23 @@ public class Neo4jClientOptions {
         isMetricsEnabled = DEFAULT_CONFIG.isMetricsEnabled();
         idleTimeBeforeConnectionTest = DEFAULT_CONFIG.idleTimeBeforeConnectionTest();
         maxConnectionLifetimeMillis = DEFAULT_CONFIG.maxConnectionLifetimeMillis();
+        maxIdleSessions = DEFAULT_MAX_IDLE_SESSIONS;
+        idleSessionTimeoutMillis = DEFAULT_IDLE_SESSION_TIMEOUT_MILLIS;
+        coalesceReads = DEFAULT_COALESCE_READS;
+        resultCacheMaxSize = DEFAULT_RESULT_CACHE_MAX_SIZE;
+        resultCacheTtlMillis = DEFAULT_RESULT_CACHE_TTL_MILLIS;
+        writeBatchMaxSize = DEFAULT_WRITE_BATCH_MAX_SIZE;
+        writeBatchWindowMillis = DEFAULT_WRITE_BATCH_WINDOW_MILLIS;
+        maxInFlightRequests = DEFAULT_MAX_IN_FLIGHT_REQUESTS;
+        maxQueuedRequests = DEFAULT_MAX_QUEUED_REQUESTS;
+        adaptiveInFlightLimit = DEFAULT_ADAPTIVE_IN_FLIGHT_LIMIT;
+        queryTimeoutMillis = DEFAULT_QUERY_TIMEOUT_MILLIS;
+        retryMaxAttempts = DEFAULT_RETRY_MAX_ATTEMPTS;
+        retryInitialDelayMillis = DEFAULT_RETRY_INITIAL_DELAY_MILLIS;
+        retryMaxDelayMillis = DEFAULT_RETRY_MAX_DELAY_MILLIS;
+        retryJitterFactor = DEFAULT_RETRY_JITTER_FACTOR;
+        latencyTrackingEnabled = DEFAULT_LATENCY_TRACKING_ENABLED;
+        latencyTrackingMaxQueries = DEFAULT_LATENCY_TRACKING_MAX_QUERIES;
         authOptions = new Neo4jClientAuthOptions();
         encryptionOptions = new Neo4jClientEncryptionOptions();
         builder.withLogging(Logging.slf4j()); // TODO : support other loggers ?
@@ -247,4 +325,209 @@ public class Neo4jClientOptions {
         builder.withTrustStrategy(encryptionOptions.toTrustStrategy());
         return this;
     }
+
+    public int getMaxIdleSessions() {
+        return maxIdleSessions;
+    }
+
+    public Neo4jClientOptions setMaxIdleSessions(int maxIdleSessions) {
+        this.maxIdleSessions = maxIdleSessions;
+        return this;
+    }
+
+    public long getIdleSessionTimeoutMillis() {
+        return idleSessionTimeoutMillis;
+    }
+
+    public Neo4jClientOptions setIdleSessionTimeoutMillis(long idleSessionTimeoutMillis) {
+        this.idleSessionTimeoutMillis = idleSessionTimeoutMillis;
+        return this;
+    }
+
+    public int getWriteBatchMaxSize() {
+        return writeBatchMaxSize;
+    }
+
+    public Neo4jClientOptions setWriteBatchMaxSize(int writeBatchMaxSize) {
+        this.writeBatchMaxSize = writeBatchMaxSize;
+        return this;
+    }
+
+    public long getWriteBatchWindowMillis() {
+        return writeBatchWindowMillis;
+    }
+
+    public Neo4jClientOptions setWriteBatchWindowMillis(long writeBatchWindowMillis) {
+        this.writeBatchWindowMillis = writeBatchWindowMillis;
+        return this;
+    }
+
+    public int getMaxInFlightRequests() {
+        return maxInFlightRequests;
+    }
+
+    public Neo4jClientOptions setMaxInFlightRequests(int maxInFlightRequests) {
+        this.maxInFlightRequests = maxInFlightRequests;
+        return this;
+    }
+
+    public int getMaxQueuedRequests() {
+        return maxQueuedRequests;
+    }
+
+    public Neo4jClientOptions setMaxQueuedRequests(int maxQueuedRequests) {
+        this.maxQueuedRequests = maxQueuedRequests;
+        return this;
+    }
+
+    public boolean isAdaptiveInFlightLimit() {
+        return adaptiveInFlightLimit;
+    }
+
+    public Neo4jClientOptions setAdaptiveInFlightLimit(boolean adaptiveInFlightLimit) {
+        this.adaptiveInFlightLimit = adaptiveInFlightLimit;
+        return this;
+    }
+
+    public JsonObject getTransactionMetadata() {
+        return transactionMetadata;
+    }
+
+    public Neo4jClientOptions setTransactionMetadata(JsonObject transactionMetadata) {
+        this.transactionMetadata = transactionMetadata;
+        return this;
+    }
+
+    public long getQueryTimeoutMillis() {
+        return queryTimeoutMillis;
+    }
+
+    public Neo4jClientOptions setQueryTimeoutMillis(long queryTimeoutMillis) {
+        this.queryTimeoutMillis = queryTimeoutMillis;
+        return this;
+    }
+
+    public int getRetryMaxAttempts() {
+        return retryMaxAttempts;
+    }
+
+    public Neo4jClientOptions setRetryMaxAttempts(int retryMaxAttempts) {
+        this.retryMaxAttempts = retryMaxAttempts;
+        return this;
+    }
+
+    public long getRetryInitialDelayMillis() {
+        return retryInitialDelayMillis;
+    }
+
+    public Neo4jClientOptions setRetryInitialDelayMillis(long retryInitialDelayMillis) {
+        this.retryInitialDelayMillis = retryInitialDelayMillis;
+        return this;
+    }
+
+    public long getRetryMaxDelayMillis() {
+        return retryMaxDelayMillis;
+    }
+
+    public Neo4jClientOptions setRetryMaxDelayMillis(long retryMaxDelayMillis) {
+        this.retryMaxDelayMillis = retryMaxDelayMillis;
+        return this;
+    }
+
+    public double getRetryJitterFactor() {
+        return retryJitterFactor;
+    }
+
+    public Neo4jClientOptions setRetryJitterFactor(double retryJitterFactor) {
+        this.retryJitterFactor = retryJitterFactor;
+        return this;
+    }
+
+    public boolean isLatencyTrackingEnabled() {
+        return latencyTrackingEnabled;
+    }
+
+    public Neo4jClientOptions setLatencyTrackingEnabled(boolean latencyTrackingEnabled) {
+        this.latencyTrackingEnabled = latencyTrackingEnabled;
+        return this;
+    }
+
+    public int getLatencyTrackingMaxQueries() {
+        return latencyTrackingMaxQueries;
+    }
+
+    public Neo4jClientOptions setLatencyTrackingMaxQueries(int latencyTrackingMaxQueries) {
+        this.latencyTrackingMaxQueries = latencyTrackingMaxQueries;
+        return this;
+    }
+
+    public boolean isCoalesceReads() {
+        return coalesceReads;
+    }
+
+    public Neo4jClientOptions setCoalesceReads(boolean coalesceReads) {
+        this.coalesceReads = coalesceReads;
+        return this;
+    }
+
+    public int getResultCacheMaxSize() {
+        return resultCacheMaxSize;
+    }
+
+    public Neo4jClientOptions setResultCacheMaxSize(int resultCacheMaxSize) {
+        this.resultCacheMaxSize = resultCacheMaxSize;
+        return this;
+    }
+
+    public long getResultCacheTtlMillis() {
+        return resultCacheTtlMillis;
+    }
+
+    public Neo4jClientOptions setResultCacheTtlMillis(long resultCacheTtlMillis) {
+        this.resultCacheTtlMillis = resultCacheTtlMillis;
+        return this;
+    }
+
+    public Set<String> getRouters() {
+        return routers;
+    }
+
+    public Neo4jClientOptions addRouter(String router) {
+        toServerAddress(router);
+        this.routers.add(router);
+        builder.withResolver(address -> routers.stream().map(Neo4jClientOptions::toServerAddress).collect(toSet()));
+        return this;
+    }
+
+    public long getRoutingTablePurgeDelayMillis() {
+        return routingTablePurgeDelayMillis;
+    }
+
+    public Neo4jClientOptions setRoutingTablePurgeDelayMillis(long routingTablePurgeDelayMillis) {
+        this.routingTablePurgeDelayMillis = routingTablePurgeDelayMillis;
+        builder.withRoutingTablePurgeDelay(routingTablePurgeDelayMillis, TimeUnit.MILLISECONDS);
+        return this;
+    }
+
+    public long getConnectionTimeoutMillis() {
+        return connectionTimeoutMillis;
+    }
+
+    public Neo4jClientOptions setConnectionTimeoutMillis(long connectionTimeoutMillis) {
+        this.connectionTimeoutMillis = connectionTimeoutMillis;
+        builder.withConnectionTimeout(connectionTimeoutMillis, TimeUnit.MILLISECONDS);
+        return this;
+    }
+
+    private static ServerAddress toServerAddress(String address) {
+        int separator = address.lastIndexOf(':');
+        if (separator <= 0 || separator == address.length() - 1) {
+            throw new IllegalArgumentException("Router must be of the form host:port : " + address);
+        }
+        try {
+            return ServerAddress.of(address.substring(0, separator), Integer.parseInt(address.substring(separator + 1)));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Router must be of the form host:port : " + address, e);
+        }
+    }
 }
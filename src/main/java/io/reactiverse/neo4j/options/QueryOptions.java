@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2018-2020 Olympe S.A.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.reactiverse.neo4j.options;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Options of a single call, overriding the defaults of the client options.
+ */
+@DataObject(generateConverter = true)
+public class QueryOptions {
+
+    /**
+     * The default timeout, keeping the {@link Neo4jClientOptions#getQueryTimeoutMillis() query timeout} of the client
+     * options.
+     */
+    public static final long DEFAULT_TIMEOUT_MILLIS = -1;
+
+    private long timeoutMillis;
+    private JsonObject metadata;
+
+    public QueryOptions() {
+        timeoutMillis = DEFAULT_TIMEOUT_MILLIS;
+    }
+
+    public QueryOptions(JsonObject json) {
+        QueryOptionsConverter.fromJson(json, this);
+    }
+
+    public JsonObject toJson() {
+        JsonObject json = new JsonObject();
+        QueryOptionsConverter.toJson(this, json);
+        return json;
+    }
+
+    public JsonObject getMetadata() {
+        return metadata;
+    }
+
+    /**
+     * Sets the metadata of the transaction, added to the {@link Neo4jClientOptions#getTransactionMetadata() transaction metadata}
+     * of the client options. They are shown by {@code dbms.listQueries} and in the server query log.
+     */
+    public QueryOptions setMetadata(JsonObject metadata) {
+        this.metadata = metadata;
+        return this;
+    }
+
+    public long getTimeoutMillis() {
+        return timeoutMillis;
+    }
+
+    /**
+     * Sets the timeout of the call, overriding the {@link Neo4jClientOptions#getQueryTimeoutMillis() query timeout} of
+     * the client options. A timeout of {@code 0} disables the timeout of the client options for this call, and a
+     * negative timeout, the {@link #DEFAULT_TIMEOUT_MILLIS default}, keeps it.
+     */
+    public QueryOptions setTimeoutMillis(long timeoutMillis) {
+        this.timeoutMillis = timeoutMillis;
+        return this;
+    }
+}
@@ -18,12 +18,21 @@ package io.reactiverse.kotlin.neo4j
 import io.reactiverse.neo4j.Neo4jClient
 import io.reactiverse.neo4j.Neo4jRecordStream
 import io.reactiverse.neo4j.Neo4jTransaction
+import io.reactiverse.neo4j.RowMapper
+import io.reactiverse.neo4j.options.BulkLoadOptions
+import io.reactiverse.neo4j.options.QueryOptions
+import io.vertx.core.Future
+import io.vertx.core.Handler
+import io.vertx.core.streams.ReadStream
 import io.vertx.kotlin.coroutines.awaitResult
+import org.neo4j.driver.Bookmark
 import org.neo4j.driver.Query
 import org.neo4j.driver.Record
 import org.neo4j.driver.Value
 import org.neo4j.driver.summary.ResultSummary
 import org.neo4j.driver.summary.SummaryCounters
+import java.util.function.Function
+import java.util.stream.Collector
 
 /**
  * Suspending version of method [io.reactiverse.neo4j.Neo4jClient.begin]
@@ -38,6 +47,49 @@ suspend fun Neo4jClient.beginAwait(): Neo4jTransaction {
   }
 }
 
+/**
+ * Suspending version of method [io.reactiverse.neo4j.Neo4jClient.begin]
+ *
+ * @param options the options of the transaction
+ * @return [Neo4jTransaction]
+ *
+ * NOTE: This function has been automatically generated from [io.reactiverse.neo4j.Neo4jClient] using Vert.x codegen.
+ */
+suspend fun Neo4jClient.beginAwait(options: QueryOptions): Neo4jTransaction {
+  return awaitResult {
+    this.begin(options, it)
+  }
+}
+
+/**
+ * Suspending version of method [io.reactiverse.neo4j.Neo4jClient.inTransaction]
+ *
+ * @param work the unit of work, given the transaction it runs in
+ * @return [T]
+ *
+ * NOTE: This function has been automatically generated from [io.reactiverse.neo4j.Neo4jClient] using Vert.x codegen.
+ */
+suspend fun <T> Neo4jClient.inTransactionAwait(work: Function<Neo4jTransaction, Future<T>>): T {
+  return awaitResult {
+    this.inTransaction(work, it)
+  }
+}
+
+/**
+ * Suspending version of method [io.reactiverse.neo4j.Neo4jClient.inTransaction]
+ *
+ * @param options the options of each transaction
+ * @param work the unit of work, given the transaction it runs in
+ * @return [T]
+ *
+ * NOTE: This function has been automatically generated from [io.reactiverse.neo4j.Neo4jClient] using Vert.x codegen.
+ */
+suspend fun <T> Neo4jClient.inTransactionAwait(options: QueryOptions, work: Function<Neo4jTransaction, Future<T>>): T {
+  return awaitResult {
+    this.inTransaction(options, work, it)
+  }
+}
+
 /**
  * Suspending version of method [io.reactiverse.neo4j.Neo4jClient.queryStream]
  *
@@ -81,6 +133,38 @@ suspend fun Neo4jClient.executeAwait(query: String, parameters: Value): ResultSu
   }
 }
 
+/**
+ * Suspending version of method [io.reactiverse.neo4j.Neo4jClient.execute]
+ *
+ * @param query the cypher query
+ * @param parameters the cypher parameters
+ * @param options the options of this call
+ * @return [ResultSummary]
+ *
+ * NOTE: This function has been automatically generated from [io.reactiverse.neo4j.Neo4jClient] using Vert.x codegen.
+ */
+suspend fun Neo4jClient.executeAwait(query: String, parameters: Value, options: QueryOptions): ResultSummary {
+  return awaitResult {
+    this.execute(query, parameters, options, it)
+  }
+}
+
+/**
+ * Suspending version of method [io.reactiverse.neo4j.Neo4jClient.executeWithBookmark]
+ *
+ * @param query the cypher query
+ * @param parameters the cypher parameters
+ * @param bookmark the bookmark of a transaction that must be visible to this one, can be <code>null</code>
+ * @return [Bookmark]
+ *
+ * NOTE: This function has been automatically generated from [io.reactiverse.neo4j.Neo4jClient] using Vert.x codegen.
+ */
+suspend fun Neo4jClient.executeWithBookmarkAwait(query: String, parameters: Value, bookmark: Bookmark?): Bookmark {
+  return awaitResult {
+    this.executeWithBookmark(query, parameters, bookmark, it)
+  }
+}
+
 /**
  * Suspending version of method [io.reactiverse.neo4j.Neo4jClient.delete]
  *
@@ -110,6 +194,22 @@ suspend fun Neo4jClient.deleteAwait(query: String, parameters: Value): List<Reco
   }
 }
 
+/**
+ * Suspending version of method [io.reactiverse.neo4j.Neo4jClient.delete]
+ *
+ * @param query the cypher query
+ * @param parameters the cypher parameters
+ * @param options the options of this call
+ * @return [List<Record>]
+ *
+ * NOTE: This function has been automatically generated from [io.reactiverse.neo4j.Neo4jClient] using Vert.x codegen.
+ */
+suspend fun Neo4jClient.deleteAwait(query: String, parameters: Value, options: QueryOptions): List<Record> {
+  return awaitResult {
+    this.delete(query, parameters, options, it)
+  }
+}
+
 /**
  * Suspending version of method [io.reactiverse.neo4j.Neo4jClient.findOne]
  *
@@ -139,6 +239,38 @@ suspend fun Neo4jClient.findOneAwait(query: String, parameters: Value): Record {
   }
 }
 
+/**
+ * Suspending version of method [io.reactiverse.neo4j.Neo4jClient.findOneWithBookmark]
+ *
+ * @param query the cypher query
+ * @param parameters the cypher parameters
+ * @param bookmark the bookmark of a transaction that must be visible to this one
+ * @return [Record]
+ *
+ * NOTE: This function has been automatically generated from [io.reactiverse.neo4j.Neo4jClient] using Vert.x codegen.
+ */
+suspend fun Neo4jClient.findOneWithBookmarkAwait(query: String, parameters: Value, bookmark: Bookmark): Record {
+  return awaitResult {
+    this.findOneWithBookmark(query, parameters, bookmark, it)
+  }
+}
+
+/**
+ * Suspending version of method [io.reactiverse.neo4j.Neo4jClient.findOne]
+ *
+ * @param query the cypher query
+ * @param parameters the cypher parameters
+ * @param options the options of this call
+ * @return [Record]
+ *
+ * NOTE: This function has been automatically generated from [io.reactiverse.neo4j.Neo4jClient] using Vert.x codegen.
+ */
+suspend fun Neo4jClient.findOneAwait(query: String, parameters: Value, options: QueryOptions): Record {
+  return awaitResult {
+    this.findOne(query, parameters, options, it)
+  }
+}
+
 /**
  * Suspending version of method [io.reactiverse.neo4j.Neo4jClient.find]
  *
@@ -168,6 +300,150 @@ suspend fun Neo4jClient.findAwait(query: String, parameters: Value): List<Record
   }
 }
 
+/**
+ * Suspending version of method [io.reactiverse.neo4j.Neo4jClient.findWithBookmark]
+ *
+ * @param query the cypher query
+ * @param parameters the cypher parameters
+ * @param bookmark the bookmark of a transaction that must be visible to this one
+ * @return [List<Record>]
+ *
+ * NOTE: This function has been automatically generated from [io.reactiverse.neo4j.Neo4jClient] using Vert.x codegen.
+ */
+suspend fun Neo4jClient.findWithBookmarkAwait(query: String, parameters: Value, bookmark: Bookmark): List<Record> {
+  return awaitResult {
+    this.findWithBookmark(query, parameters, bookmark, it)
+  }
+}
+
+/**
+ * Suspending version of method [io.reactiverse.neo4j.Neo4jClient.find]
+ *
+ * @param query the cypher query
+ * @param parameters the cypher parameters
+ * @param options the options of this call
+ * @return [List<Record>]
+ *
+ * NOTE: This function has been automatically generated from [io.reactiverse.neo4j.Neo4jClient] using Vert.x codegen.
+ */
+suspend fun Neo4jClient.findAwait(query: String, parameters: Value, options: QueryOptions): List<Record> {
+  return awaitResult {
+    this.find(query, parameters, options, it)
+  }
+}
+
+/**
+ * Suspending version of method [io.reactiverse.neo4j.Neo4jClient.findMapped]
+ *
+ * @param query the cypher query
+ * @param parameters the cypher parameters
+ * @param mapper the mapper of each record
+ * @return [List<T>]
+ *
+ * NOTE: This function has been automatically generated from [io.reactiverse.neo4j.Neo4jClient] using Vert.x codegen.
+ */
+suspend fun <T> Neo4jClient.findMappedAwait(query: String, parameters: Value, mapper: RowMapper<T>): List<T> {
+  return awaitResult {
+    this.findMapped(query, parameters, mapper, it)
+  }
+}
+
+/**
+ * Suspending version of method [io.reactiverse.neo4j.Neo4jClient.find]
+ *
+ * @param query the cypher query
+ * @param parameters the cypher parameters
+ * @param maxRecords the maximum number of records
+ * @return [List<Record>]
+ *
+ * NOTE: This function has been automatically generated from [io.reactiverse.neo4j.Neo4jClient] using Vert.x codegen.
+ */
+suspend fun Neo4jClient.findAwait(query: String, parameters: Value, maxRecords: Int): List<Record> {
+  return awaitResult {
+    this.find(query, parameters, maxRecords, it)
+  }
+}
+
+/**
+ * Suspending version of method [io.reactiverse.neo4j.Neo4jClient.findFirst]
+ *
+ * @param query the cypher query
+ * @param parameters the cypher parameters
+ * @param maxRecords the maximum number of records
+ * @return [List<Record>]
+ *
+ * NOTE: This function has been automatically generated from [io.reactiverse.neo4j.Neo4jClient] using Vert.x codegen.
+ */
+suspend fun Neo4jClient.findFirstAwait(query: String, parameters: Value, maxRecords: Int): List<Record> {
+  return awaitResult {
+    this.findFirst(query, parameters, maxRecords, it)
+  }
+}
+
+/**
+ * Suspending version of method [io.reactiverse.neo4j.Neo4jClient.collect]
+ *
+ * @param query the cypher query
+ * @param parameters the cypher parameters
+ * @param collector the collector of the records
+ * @return [R]
+ *
+ * NOTE: This function has been automatically generated from [io.reactiverse.neo4j.Neo4jClient] using Vert.x codegen.
+ */
+suspend fun <A, R> Neo4jClient.collectAwait(query: String, parameters: Value, collector: Collector<Record, A, R>): R {
+  return awaitResult {
+    this.collect(query, parameters, collector, it)
+  }
+}
+
+/**
+ * Suspending version of method [io.reactiverse.neo4j.Neo4jClient.findCached]
+ *
+ * @param query the cypher query
+ * @param parameters the cypher parameters
+ * @param tag the tag to invalidate the result with, can be <code>null</code>
+ * @return [List<Record>]
+ *
+ * NOTE: This function has been automatically generated from [io.reactiverse.neo4j.Neo4jClient] using Vert.x codegen.
+ */
+suspend fun Neo4jClient.findCachedAwait(query: String, parameters: Value, tag: String?): List<Record> {
+  return awaitResult {
+    this.findCached(query, parameters, tag, it)
+  }
+}
+
+/**
+ * Suspending version of method [io.reactiverse.neo4j.Neo4jClient.findOneCached]
+ *
+ * @param query the cypher query
+ * @param parameters the cypher parameters
+ * @param tag the tag to invalidate the result with, can be <code>null</code>
+ * @return [Record]
+ *
+ * NOTE: This function has been automatically generated from [io.reactiverse.neo4j.Neo4jClient] using Vert.x codegen.
+ */
+suspend fun Neo4jClient.findOneCachedAwait(query: String, parameters: Value, tag: String?): Record {
+  return awaitResult {
+    this.findOneCached(query, parameters, tag, it)
+  }
+}
+
+/**
+ * Suspending version of method [io.reactiverse.neo4j.Neo4jClient.executeAndInvalidate]
+ *
+ * @param query the cypher query
+ * @param parameters the cypher parameters
+ * @param tag the tag of the cached results to invalidate
+ * @return [ResultSummary]
+ *
+ * NOTE: This function has been automatically generated from [io.reactiverse.neo4j.Neo4jClient] using Vert.x codegen.
+ */
+suspend fun Neo4jClient.executeAndInvalidateAwait(query: String, parameters: Value, tag: String): ResultSummary {
+  return awaitResult {
+    this.executeAndInvalidate(query, parameters, tag, it)
+  }
+}
+
 /**
  * Suspending version of method [io.reactiverse.neo4j.Neo4jClient.bulkWrite]
  *
@@ -182,6 +458,87 @@ suspend fun Neo4jClient.bulkWriteAwait(queries: List<Query>): SummaryCounters {
   }
 }
 
+/**
+ * Suspending version of method [io.reactiverse.neo4j.Neo4jClient.bulkWrite]
+ *
+ * @param queries the list of queries to execute
+ * @param options the options of this call
+ * @return [SummaryCounters]
+ *
+ * NOTE: This function has been automatically generated from [io.reactiverse.neo4j.Neo4jClient] using Vert.x codegen.
+ */
+suspend fun Neo4jClient.bulkWriteAwait(queries: List<Query>, options: QueryOptions): SummaryCounters {
+  return awaitResult {
+    this.bulkWrite(queries, options, it)
+  }
+}
+
+/**
+ * Suspending version of method [io.reactiverse.neo4j.Neo4jClient.batchWrite]
+ *
+ * @param query the cypher query to run for each row
+ * @param rows the rows, usually maps of values
+ * @param chunkSize the maximum number of rows per statement
+ * @return [SummaryCounters]
+ *
+ * NOTE: This function has been automatically generated from [io.reactiverse.neo4j.Neo4jClient] using Vert.x codegen.
+ */
+suspend fun Neo4jClient.batchWriteAwait(query: String, rows: List<Value>, chunkSize: Int): SummaryCounters {
+  return awaitResult {
+    this.batchWrite(query, rows, chunkSize, it)
+  }
+}
+
+/**
+ * Suspending version of method [io.reactiverse.neo4j.Neo4jClient.batchWrite]
+ *
+ * @param query the cypher query to run for each row
+ * @param rows the rows, usually maps of values
+ * @param chunkSize the maximum number of rows per statement
+ * @param options the options of this call
+ * @return [SummaryCounters]
+ *
+ * NOTE: This function has been automatically generated from [io.reactiverse.neo4j.Neo4jClient] using Vert.x codegen.
+ */
+suspend fun Neo4jClient.batchWriteAwait(query: String, rows: List<Value>, chunkSize: Int, options: QueryOptions): SummaryCounters {
+  return awaitResult {
+    this.batchWrite(query, rows, chunkSize, options, it)
+  }
+}
+
+/**
+ * Suspending version of method [io.reactiverse.neo4j.Neo4jClient.bulkLoad]
+ *
+ * @param queries the list of queries to execute
+ * @param options the chunk size, concurrency and retry options
+ * @param progressHandler the handler called with the total number of committed queries after each chunk, can be <code>null</code>
+ * @return [SummaryCounters]
+ *
+ * NOTE: This function has been automatically generated from [io.reactiverse.neo4j.Neo4jClient] using Vert.x codegen.
+ */
+suspend fun Neo4jClient.bulkLoadAwait(queries: List<Query>, options: BulkLoadOptions, progressHandler: Handler<Long>?): SummaryCounters {
+  return awaitResult {
+    this.bulkLoad(queries, options, progressHandler, it)
+  }
+}
+
+/**
+ * Suspending version of method [io.reactiverse.neo4j.Neo4jClient.bulkLoad]
+ *
+ * @param queries the list of queries to execute
+ * @param options the chunk size, concurrency and retry options
+ * @param queryOptions the options of the transaction of each chunk
+ * @param progressHandler the handler called with the total number of committed queries after each chunk, can be <code>null</code>
+ * @return [SummaryCounters]
+ *
+ * NOTE: This function has been automatically generated from [io.reactiverse.neo4j.Neo4jClient] using Vert.x codegen.
+ */
+suspend fun Neo4jClient.bulkLoadAwait(queries: List<Query>, options: BulkLoadOptions, queryOptions: QueryOptions, progressHandler: Handler<Long>?): SummaryCounters {
+  return awaitResult {
+    this.bulkLoad(queries, options, queryOptions, progressHandler, it)
+  }
+}
+
 /**
  * Suspending version of method [io.reactiverse.neo4j.Neo4jClient.queryStream]
  *
@@ -197,3 +554,51 @@ suspend fun Neo4jClient.queryStreamAwait(query: String, parameters: Value): Neo4
   }
 }
 
+/**
+ * Suspending version of method [io.reactiverse.neo4j.Neo4jClient.queryStreamWithBookmark]
+ *
+ * @param query the cypher query
+ * @param parameters the cypher parameters
+ * @param bookmark the bookmark of a transaction that must be visible to this one
+ * @return [Neo4jRecordStream]
+ *
+ * NOTE: This function has been automatically generated from [io.reactiverse.neo4j.Neo4jClient] using Vert.x codegen.
+ */
+suspend fun Neo4jClient.queryStreamWithBookmarkAwait(query: String, parameters: Value, bookmark: Bookmark): Neo4jRecordStream {
+  return awaitResult {
+    this.queryStreamWithBookmark(query, parameters, bookmark, it)
+  }
+}
+
+/**
+ * Suspending version of method [io.reactiverse.neo4j.Neo4jClient.queryStream]
+ *
+ * @param query the cypher query
+ * @param parameters the cypher parameters
+ * @param options the options of the transaction
+ * @return [Neo4jRecordStream]
+ *
+ * NOTE: This function has been automatically generated from [io.reactiverse.neo4j.Neo4jClient] using Vert.x codegen.
+ */
+suspend fun Neo4jClient.queryStreamAwait(query: String, parameters: Value, options: QueryOptions): Neo4jRecordStream {
+  return awaitResult {
+    this.queryStream(query, parameters, options, it)
+  }
+}
+
+/**
+ * Suspending version of method [io.reactiverse.neo4j.Neo4jClient.queryStreamMapped]
+ *
+ * @param query the cypher query
+ * @param parameters the cypher parameters
+ * @param mapper the mapper of each record
+ * @return [ReadStream<T>]
+ *
+ * NOTE: This function has been automatically generated from [io.reactiverse.neo4j.Neo4jClient] using Vert.x codegen.
+ */
+suspend fun <T> Neo4jClient.queryStreamMappedAwait(query: String, parameters: Value, mapper: RowMapper<T>): ReadStream<T> {
+  return awaitResult {
+    this.queryStreamMapped(query, parameters, mapper, it)
+  }
+}
+
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2019 Red Hat, Inc.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ * The Eclipse Public License is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * The Apache License v2.0 is available at
+ * http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+package io.reactiverse.kotlin.neo4j
+
+import io.reactiverse.neo4j.Neo4jWriteStream
+import io.vertx.kotlin.coroutines.awaitResult
+import org.neo4j.driver.Query
+
+suspend fun Neo4jWriteStream.writeAwait(data: Query): Unit {
+  return awaitResult {
+    this.write(data, io.vertx.core.Handler { ar -> it.handle(ar.mapEmpty()) })
+  }
+}
+
+/**
+ * Suspending version of method [io.reactiverse.neo4j.Neo4jWriteStream.end]
+ *
+ *
+ * NOTE: This function has been automatically generated from [io.reactiverse.neo4j.Neo4jWriteStream] using Vert.x codegen.
+ */
+suspend fun Neo4jWriteStream.endAwait(): Unit {
+  return awaitResult {
+    this.end(io.vertx.core.Handler { ar -> it.handle(ar.mapEmpty()) })
+  }
+}
+
+suspend fun Neo4jWriteStream.endAwait(data: Query): Unit {
+  return awaitResult {
+    this.end(data, io.vertx.core.Handler { ar -> it.handle(ar.mapEmpty()) })
+  }
+}
+
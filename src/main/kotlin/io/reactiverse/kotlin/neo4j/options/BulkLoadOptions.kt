@@ -0,0 +1,63 @@
+/*
+ * Copyright 2019 Red Hat, Inc.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ * The Eclipse Public License is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * The Apache License v2.0 is available at
+ * http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+package io.reactiverse.kotlin.neo4j.options
+
+import io.reactiverse.neo4j.options.BulkLoadOptions
+
+fun bulkLoadOptionsOf(
+  chunkSize: Int? = null,
+  concurrency: Int? = null,
+  maxRetries: Int? = null,
+  retryDelayMillis: Long? = null): BulkLoadOptions = io.reactiverse.neo4j.options.BulkLoadOptions().apply {
+
+  if (chunkSize != null) {
+    this.setChunkSize(chunkSize)
+  }
+  if (concurrency != null) {
+    this.setConcurrency(concurrency)
+  }
+  if (maxRetries != null) {
+    this.setMaxRetries(maxRetries)
+  }
+  if (retryDelayMillis != null) {
+    this.setRetryDelayMillis(retryDelayMillis)
+  }
+}
+
+@Deprecated(
+  message = "This function will be removed in a future version",
+  replaceWith = ReplaceWith("bulkLoadOptionsOf(chunkSize, concurrency, maxRetries, retryDelayMillis)")
+)
+fun BulkLoadOptions(
+  chunkSize: Int? = null,
+  concurrency: Int? = null,
+  maxRetries: Int? = null,
+  retryDelayMillis: Long? = null): BulkLoadOptions = io.reactiverse.neo4j.options.BulkLoadOptions().apply {
+
+  if (chunkSize != null) {
+    this.setChunkSize(chunkSize)
+  }
+  if (concurrency != null) {
+    this.setConcurrency(concurrency)
+  }
+  if (maxRetries != null) {
+    this.setMaxRetries(maxRetries)
+  }
+  if (retryDelayMillis != null) {
+    this.setRetryDelayMillis(retryDelayMillis)
+  }
+}
+
@@ -20,21 +20,45 @@ import io.reactiverse.neo4j.options.Neo4jClientAuthOptions
 import io.reactiverse.neo4j.options.Neo4jClientEncryptionOptions
 
 fun neo4jClientOptionsOf(
+  adaptiveInFlightLimit: Boolean? = null,
   authOptions: io.reactiverse.neo4j.options.Neo4jClientAuthOptions? = null,
   clusterNodeURIs: Iterable<String>? = null,
+  coalesceReads: Boolean? = null,
   connectionAcquisitionTimeoutMillis: Long? = null,
+  connectionTimeoutMillis: Long? = null,
   encrypted: Boolean? = null,
   encryptionOptions: io.reactiverse.neo4j.options.Neo4jClientEncryptionOptions? = null,
   eventLoopThreads: Int? = null,
   fetchSize: Long? = null,
   host: String? = null,
+  idleSessionTimeoutMillis: Long? = null,
   idleTimeBeforeConnectionTest: Long? = null,
+  latencyTrackingEnabled: Boolean? = null,
+  latencyTrackingMaxQueries: Int? = null,
   logLeakedSessions: Boolean? = null,
   maxConnectionLifetimeMillis: Long? = null,
   maxConnectionPoolSize: Int? = null,
+  maxIdleSessions: Int? = null,
+  maxInFlightRequests: Int? = null,
+  maxQueuedRequests: Int? = null,
   metricsEnabled: Boolean? = null,
-  port: Int? = null): Neo4jClientOptions = io.reactiverse.neo4j.options.Neo4jClientOptions().apply {
+  port: Int? = null,
+  queryTimeoutMillis: Long? = null,
+  resultCacheMaxSize: Int? = null,
+  resultCacheTtlMillis: Long? = null,
+  retryInitialDelayMillis: Long? = null,
+  retryJitterFactor: Double? = null,
+  retryMaxAttempts: Int? = null,
+  retryMaxDelayMillis: Long? = null,
+  routers: Iterable<String>? = null,
+  routingTablePurgeDelayMillis: Long? = null,
+  transactionMetadata: io.vertx.core.json.JsonObject? = null,
+  writeBatchMaxSize: Int? = null,
+  writeBatchWindowMillis: Long? = null): Neo4jClientOptions = io.reactiverse.neo4j.options.Neo4jClientOptions().apply {
 
+  if (adaptiveInFlightLimit != null) {
+    this.setAdaptiveInFlightLimit(adaptiveInFlightLimit)
+  }
   if (authOptions != null) {
     this.setAuthOptions(authOptions)
   }
@@ -43,9 +67,15 @@ fun neo4jClientOptionsOf(
       this.addClusterNodeURI(item)
     }
   }
+  if (coalesceReads != null) {
+    this.setCoalesceReads(coalesceReads)
+  }
   if (connectionAcquisitionTimeoutMillis != null) {
     this.setConnectionAcquisitionTimeoutMillis(connectionAcquisitionTimeoutMillis)
   }
+  if (connectionTimeoutMillis != null) {
+    this.setConnectionTimeoutMillis(connectionTimeoutMillis)
+  }
   if (encrypted != null) {
     this.setEncrypted(encrypted)
   }
@@ -61,9 +91,18 @@ fun neo4jClientOptionsOf(
   if (host != null) {
     this.setHost(host)
   }
+  if (idleSessionTimeoutMillis != null) {
+    this.setIdleSessionTimeoutMillis(idleSessionTimeoutMillis)
+  }
   if (idleTimeBeforeConnectionTest != null) {
     this.setIdleTimeBeforeConnectionTest(idleTimeBeforeConnectionTest)
   }
+  if (latencyTrackingEnabled != null) {
+    this.setLatencyTrackingEnabled(latencyTrackingEnabled)
+  }
+  if (latencyTrackingMaxQueries != null) {
+    this.setLatencyTrackingMaxQueries(latencyTrackingMaxQueries)
+  }
   if (logLeakedSessions != null) {
     this.setLogLeakedSessions(logLeakedSessions)
   }
@@ -73,34 +112,105 @@ fun neo4jClientOptionsOf(
   if (maxConnectionPoolSize != null) {
     this.setMaxConnectionPoolSize(maxConnectionPoolSize)
   }
+  if (maxIdleSessions != null) {
+    this.setMaxIdleSessions(maxIdleSessions)
+  }
+  if (maxInFlightRequests != null) {
+    this.setMaxInFlightRequests(maxInFlightRequests)
+  }
+  if (maxQueuedRequests != null) {
+    this.setMaxQueuedRequests(maxQueuedRequests)
+  }
   if (metricsEnabled != null) {
     this.setMetricsEnabled(metricsEnabled)
   }
   if (port != null) {
     this.setPort(port)
   }
+  if (queryTimeoutMillis != null) {
+    this.setQueryTimeoutMillis(queryTimeoutMillis)
+  }
+  if (resultCacheMaxSize != null) {
+    this.setResultCacheMaxSize(resultCacheMaxSize)
+  }
+  if (resultCacheTtlMillis != null) {
+    this.setResultCacheTtlMillis(resultCacheTtlMillis)
+  }
+  if (retryInitialDelayMillis != null) {
+    this.setRetryInitialDelayMillis(retryInitialDelayMillis)
+  }
+  if (retryJitterFactor != null) {
+    this.setRetryJitterFactor(retryJitterFactor)
+  }
+  if (retryMaxAttempts != null) {
+    this.setRetryMaxAttempts(retryMaxAttempts)
+  }
+  if (retryMaxDelayMillis != null) {
+    this.setRetryMaxDelayMillis(retryMaxDelayMillis)
+  }
+  if (routers != null) {
+    for (item in routers) {
+      this.addRouter(item)
+    }
+  }
+  if (routingTablePurgeDelayMillis != null) {
+    this.setRoutingTablePurgeDelayMillis(routingTablePurgeDelayMillis)
+  }
+  if (transactionMetadata != null) {
+    this.setTransactionMetadata(transactionMetadata)
+  }
+  if (writeBatchMaxSize != null) {
+    this.setWriteBatchMaxSize(writeBatchMaxSize)
+  }
+  if (writeBatchWindowMillis != null) {
+    this.setWriteBatchWindowMillis(writeBatchWindowMillis)
+  }
 }
 
 @Deprecated(
   message = "This function will be removed in a future version",
-  replaceWith = ReplaceWith("neo4jClientOptionsOf(authOptions, clusterNodeURIs, connectionAcquisitionTimeoutMillis, encrypted, encryptionOptions, eventLoopThreads, fetchSize, host, idleTimeBeforeConnectionTest, logLeakedSessions, maxConnectionLifetimeMillis, maxConnectionPoolSize, metricsEnabled, port)")
+  replaceWith = ReplaceWith("neo4jClientOptionsOf(adaptiveInFlightLimit, authOptions, clusterNodeURIs, coalesceReads, connectionAcquisitionTimeoutMillis, connectionTimeoutMillis, encrypted, encryptionOptions, eventLoopThreads, fetchSize, host, idleSessionTimeoutMillis, idleTimeBeforeConnectionTest, latencyTrackingEnabled, latencyTrackingMaxQueries, logLeakedSessions, maxConnectionLifetimeMillis, maxConnectionPoolSize, maxIdleSessions, maxInFlightRequests, maxQueuedRequests, metricsEnabled, port, queryTimeoutMillis, resultCacheMaxSize, resultCacheTtlMillis, retryInitialDelayMillis, retryJitterFactor, retryMaxAttempts, retryMaxDelayMillis, routers, routingTablePurgeDelayMillis, transactionMetadata, writeBatchMaxSize, writeBatchWindowMillis)")
 )
 fun Neo4jClientOptions(
+  adaptiveInFlightLimit: Boolean? = null,
   authOptions: io.reactiverse.neo4j.options.Neo4jClientAuthOptions? = null,
   clusterNodeURIs: Iterable<String>? = null,
+  coalesceReads: Boolean? = null,
   connectionAcquisitionTimeoutMillis: Long? = null,
+  connectionTimeoutMillis: Long? = null,
   encrypted: Boolean? = null,
   encryptionOptions: io.reactiverse.neo4j.options.Neo4jClientEncryptionOptions? = null,
   eventLoopThreads: Int? = null,
   fetchSize: Long? = null,
   host: String? = null,
+  idleSessionTimeoutMillis: Long? = null,
   idleTimeBeforeConnectionTest: Long? = null,
+  latencyTrackingEnabled: Boolean? = null,
+  latencyTrackingMaxQueries: Int? = null,
   logLeakedSessions: Boolean? = null,
   maxConnectionLifetimeMillis: Long? = null,
   maxConnectionPoolSize: Int? = null,
+  maxIdleSessions: Int? = null,
+  maxInFlightRequests: Int? = null,
+  maxQueuedRequests: Int? = null,
   metricsEnabled: Boolean? = null,
-  port: Int? = null): Neo4jClientOptions = io.reactiverse.neo4j.options.Neo4jClientOptions().apply {
+  port: Int? = null,
+  queryTimeoutMillis: Long? = null,
+  resultCacheMaxSize: Int? = null,
+  resultCacheTtlMillis: Long? = null,
+  retryInitialDelayMillis: Long? = null,
+  retryJitterFactor: Double? = null,
+  retryMaxAttempts: Int? = null,
+  retryMaxDelayMillis: Long? = null,
+  routers: Iterable<String>? = null,
+  routingTablePurgeDelayMillis: Long? = null,
+  transactionMetadata: io.vertx.core.json.JsonObject? = null,
+  writeBatchMaxSize: Int? = null,
+  writeBatchWindowMillis: Long? = null): Neo4jClientOptions = io.reactiverse.neo4j.options.Neo4jClientOptions().apply {
 
+  if (adaptiveInFlightLimit != null) {
+    this.setAdaptiveInFlightLimit(adaptiveInFlightLimit)
+  }
   if (authOptions != null) {
     this.setAuthOptions(authOptions)
   }
@@ -109,9 +219,15 @@ fun Neo4jClientOptions(
       this.addClusterNodeURI(item)
     }
   }
+  if (coalesceReads != null) {
+    this.setCoalesceReads(coalesceReads)
+  }
   if (connectionAcquisitionTimeoutMillis != null) {
     this.setConnectionAcquisitionTimeoutMillis(connectionAcquisitionTimeoutMillis)
   }
+  if (connectionTimeoutMillis != null) {
+    this.setConnectionTimeoutMillis(connectionTimeoutMillis)
+  }
   if (encrypted != null) {
     this.setEncrypted(encrypted)
   }
@@ -127,9 +243,18 @@ fun Neo4jClientOptions(
   if (host != null) {
     this.setHost(host)
   }
+  if (idleSessionTimeoutMillis != null) {
+    this.setIdleSessionTimeoutMillis(idleSessionTimeoutMillis)
+  }
   if (idleTimeBeforeConnectionTest != null) {
     this.setIdleTimeBeforeConnectionTest(idleTimeBeforeConnectionTest)
   }
+  if (latencyTrackingEnabled != null) {
+    this.setLatencyTrackingEnabled(latencyTrackingEnabled)
+  }
+  if (latencyTrackingMaxQueries != null) {
+    this.setLatencyTrackingMaxQueries(latencyTrackingMaxQueries)
+  }
   if (logLeakedSessions != null) {
     this.setLogLeakedSessions(logLeakedSessions)
   }
@@ -139,11 +264,58 @@ fun Neo4jClientOptions(
   if (maxConnectionPoolSize != null) {
     this.setMaxConnectionPoolSize(maxConnectionPoolSize)
   }
+  if (maxIdleSessions != null) {
+    this.setMaxIdleSessions(maxIdleSessions)
+  }
+  if (maxInFlightRequests != null) {
+    this.setMaxInFlightRequests(maxInFlightRequests)
+  }
+  if (maxQueuedRequests != null) {
+    this.setMaxQueuedRequests(maxQueuedRequests)
+  }
   if (metricsEnabled != null) {
     this.setMetricsEnabled(metricsEnabled)
   }
   if (port != null) {
     this.setPort(port)
   }
+  if (queryTimeoutMillis != null) {
+    this.setQueryTimeoutMillis(queryTimeoutMillis)
+  }
+  if (resultCacheMaxSize != null) {
+    this.setResultCacheMaxSize(resultCacheMaxSize)
+  }
+  if (resultCacheTtlMillis != null) {
+    this.setResultCacheTtlMillis(resultCacheTtlMillis)
+  }
+  if (retryInitialDelayMillis != null) {
+    this.setRetryInitialDelayMillis(retryInitialDelayMillis)
+  }
+  if (retryJitterFactor != null) {
+    this.setRetryJitterFactor(retryJitterFactor)
+  }
+  if (retryMaxAttempts != null) {
+    this.setRetryMaxAttempts(retryMaxAttempts)
+  }
+  if (retryMaxDelayMillis != null) {
+    this.setRetryMaxDelayMillis(retryMaxDelayMillis)
+  }
+  if (routers != null) {
+    for (item in routers) {
+      this.addRouter(item)
+    }
+  }
+  if (routingTablePurgeDelayMillis != null) {
+    this.setRoutingTablePurgeDelayMillis(routingTablePurgeDelayMillis)
+  }
+  if (transactionMetadata != null) {
+    this.setTransactionMetadata(transactionMetadata)
+  }
+  if (writeBatchMaxSize != null) {
+    this.setWriteBatchMaxSize(writeBatchMaxSize)
+  }
+  if (writeBatchWindowMillis != null) {
+    this.setWriteBatchWindowMillis(writeBatchWindowMillis)
+  }
 }
 
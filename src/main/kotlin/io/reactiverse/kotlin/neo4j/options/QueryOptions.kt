@@ -0,0 +1,47 @@
+/*
+ * Copyright 2019 Red Hat, Inc.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ * The Eclipse Public License is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * The Apache License v2.0 is available at
+ * http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+package io.reactiverse.kotlin.neo4j.options
+
+import io.reactiverse.neo4j.options.QueryOptions
+
+fun queryOptionsOf(
+  metadata: io.vertx.core.json.JsonObject? = null,
+  timeoutMillis: Long? = null): QueryOptions = io.reactiverse.neo4j.options.QueryOptions().apply {
+
+  if (metadata != null) {
+    this.setMetadata(metadata)
+  }
+  if (timeoutMillis != null) {
+    this.setTimeoutMillis(timeoutMillis)
+  }
+}
+
+@Deprecated(
+  message = "This function will be removed in a future version",
+  replaceWith = ReplaceWith("queryOptionsOf(metadata, timeoutMillis)")
+)
+fun QueryOptions(
+  metadata: io.vertx.core.json.JsonObject? = null,
+  timeoutMillis: Long? = null): QueryOptions = io.reactiverse.neo4j.options.QueryOptions().apply {
+
+  if (metadata != null) {
+    this.setMetadata(metadata)
+  }
+  if (timeoutMillis != null) {
+    this.setTimeoutMillis(timeoutMillis)
+  }
+}
+
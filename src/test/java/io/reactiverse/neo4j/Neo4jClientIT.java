@@ -16,8 +16,12 @@
 
 package io.reactiverse.neo4j;
 
+import io.reactiverse.neo4j.options.BulkLoadOptions;
 import io.reactiverse.neo4j.options.Neo4jClientAuthOptions;
 import io.reactiverse.neo4j.options.Neo4jClientOptions;
+import io.reactiverse.neo4j.options.QueryOptions;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.core.json.JsonObject;
@@ -26,10 +30,14 @@ import io.vertx.ext.unit.TestContext;
 import io.vertx.ext.unit.junit.VertxUnitRunner;
 import org.junit.*;
 import org.junit.runner.RunWith;
+import org.neo4j.driver.Bookmark;
 import org.neo4j.driver.Query;
 import org.neo4j.driver.Record;
+import org.neo4j.driver.Value;
 import org.neo4j.driver.exceptions.ClientException;
 import org.neo4j.driver.exceptions.NoSuchRecordException;
+import org.neo4j.driver.exceptions.ServiceUnavailableException;
+import org.neo4j.driver.exceptions.TransientException;
 import org.neo4j.driver.summary.ResultSummary;
 import org.neo4j.driver.summary.SummaryCounters;
 import org.neo4j.harness.junit.Neo4jRule;
@@ -37,6 +45,7 @@ import org.neo4j.harness.junit.Neo4jRule;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
@@ -203,6 +212,23 @@ public class Neo4jClientIT {
         });
     }
 
+    @Test public void should_fail_to_find_more_than_max_records(TestContext testContext) {
+        neo4jClient.find("UNWIND range(1, 100000) AS n RETURN n", parameters(), 10, testContext.asyncAssertFailure(error ->
+                testContext.assertTrue(error instanceof IllegalStateException)));
+    }
+
+    @Test public void should_find_first_records(TestContext testContext) {
+        neo4jClient.findFirst("UNWIND range(1, 100000) AS n RETURN n", parameters(), 10, testContext.asyncAssertSuccess(records -> {
+            testContext.assertEquals(records.size(), 10);
+            testContext.assertEquals(records.get(9).get("n").asInt(), 10);
+        }));
+    }
+
+    @Test public void should_find_and_collect_records(TestContext testContext) {
+        neo4jClient.collect("UNWIND range(1, 100000) AS n RETURN n", parameters(), Collectors.summingLong(record -> record.get("n").asLong()), testContext.asyncAssertSuccess(sum ->
+                testContext.assertEquals(sum, 100000L * 100001L / 2)));
+    }
+
     @Test public void should_delete(TestContext testContext) {
         Async async = testContext.async();
         Promise<ResultSummary> createPerson = Promise.promise();
@@ -332,6 +358,137 @@ public class Neo4jClientIT {
         });
     }
 
+    @Test public void should_pipeline_many_queries_in_bulk_write(TestContext testContext) {
+        Async async = testContext.async();
+        List<Query> queries = new ArrayList<>(1000);
+        for (int i = 0; i < 1000; i++) {
+            queries.add(new Query("CREATE (:Item {id: $id})", parameters("id", i)));
+        }
+        queries.add(new Query("MATCH (item:Item) WHERE item.id < 10 SET item.first = true"));
+        Promise<SummaryCounters> createItems = Promise.promise();
+        neo4jClient.bulkWrite(queries, createItems);
+        createItems.future().onComplete(counters -> {
+            if (counters.failed()) {
+                testContext.fail(counters.cause());
+            } else {
+                testContext.assertEquals(counters.result().nodesCreated(), 1000);
+                testContext.assertEquals(counters.result().propertiesSet(), 1010);
+                async.complete();
+            }
+        });
+    }
+
+    @Test public void should_batch_write_rows(TestContext testContext) {
+        Async async = testContext.async();
+        List<Value> rows = new ArrayList<>(2500);
+        for (int i = 0; i < 2500; i++) {
+            rows.add(parameters("id", i, "name", "Item " + i));
+        }
+        Promise<SummaryCounters> createItems = Promise.promise();
+        neo4jClient.batchWrite("CREATE (:Item {id: row.id, name: row.name})", rows, 1000, createItems);
+        createItems.future().compose(counters -> {
+            testContext.assertEquals(counters.nodesCreated(), 2500);
+            testContext.assertEquals(counters.propertiesSet(), 5000);
+            Promise<Record> found = Promise.promise();
+            neo4jClient.findOne("MATCH (item:Item {id: 2499}) RETURN item.name AS name", found);
+            return found.future();
+        }).onComplete(found -> {
+            if (found.failed()) {
+                testContext.fail(found.cause());
+            } else {
+                testContext.assertEquals(found.result().get("name").asString(), "Item 2499");
+                async.complete();
+            }
+        });
+    }
+
+    @Test public void should_bulk_load_queries_by_concurrent_chunks(TestContext testContext) {
+        Async async = testContext.async();
+        List<Query> queries = new ArrayList<>(2500);
+        for (int i = 0; i < 2500; i++) {
+            queries.add(new Query("CREATE (:Item {id: $id})", parameters("id", i)));
+        }
+        List<Long> progress = new ArrayList<>();
+        Promise<SummaryCounters> loadItems = Promise.promise();
+        neo4jClient.bulkLoad(queries, new BulkLoadOptions().setChunkSize(300).setConcurrency(4), progress::add, loadItems);
+        loadItems.future().compose(counters -> {
+            testContext.assertEquals(counters.nodesCreated(), 2500);
+            testContext.assertEquals(progress.size(), 9);
+            testContext.assertEquals(progress.get(progress.size() - 1), 2500L);
+            Promise<Record> found = Promise.promise();
+            neo4jClient.findOne("MATCH (item:Item) RETURN count(item) AS count", found);
+            return found.future();
+        }).onComplete(found -> {
+            if (found.failed()) {
+                testContext.fail(found.cause());
+            } else {
+                testContext.assertEquals(found.result().get("count").asInt(), 2500);
+                async.complete();
+            }
+        });
+    }
+
+    @Test public void should_commit_queries_written_to_write_stream(TestContext testContext) {
+        Async async = testContext.async();
+        Neo4jWriteStream stream = neo4jClient.writeStream(300);
+        AtomicInteger written = new AtomicInteger();
+        Promise<Void> end = Promise.promise();
+        Handler<Void> writer = new Handler<Void>() {
+            @Override
+            public void handle(Void v) {
+                while (!stream.writeQueueFull() && written.get() < 2500) {
+                    stream.write(new Query("CREATE (:Item {id: $id})", parameters("id", written.getAndIncrement())));
+                }
+                if (written.get() < 2500) {
+                    stream.drainHandler(this);
+                } else {
+                    stream.end(end);
+                }
+            }
+        };
+        writer.handle(null);
+        end.future().compose(v -> {
+            testContext.assertEquals(stream.counters().nodesCreated(), 2500);
+            Promise<Record> found = Promise.promise();
+            neo4jClient.findOne("MATCH (item:Item) RETURN count(item) AS count", found);
+            return found.future();
+        }).onComplete(found -> {
+            if (found.failed()) {
+                testContext.fail(found.cause());
+            } else {
+                testContext.assertEquals(found.result().get("count").asInt(), 2500);
+                async.complete();
+            }
+        });
+    }
+
+    @Test public void should_rollback_whole_bulk_write_on_failure(TestContext testContext) {
+        Async async = testContext.async();
+        List<Query> queries = new ArrayList<>(3);
+        queries.add(new Query("CREATE (:Company {name: $name})", parameters("name", "Wayne Enterprises")));
+        queries.add(new Query("CREATE (:Person name: $name})", parameters("name", "Alice"))); // bad query
+        queries.add(new Query("CREATE (:Person {name: $name})", parameters("name", "Bob")));
+        Promise<SummaryCounters> createNodes = Promise.promise();
+        neo4jClient.bulkWrite(queries, createNodes);
+        createNodes.future().recover(error -> {
+            testContext.assertTrue(error instanceof ClientException);
+            Promise<List<Record>> found = Promise.promise();
+            neo4jClient.find("MATCH (n) RETURN n", found);
+            return found.future().map(records -> {
+                testContext.assertTrue(records.isEmpty());
+                return null;
+            });
+        }).onComplete(done -> {
+            if (done.failed()) {
+                testContext.fail(done.cause());
+            } else if (done.result() != null) {
+                testContext.fail("Bulk write should have failed");
+            } else {
+                async.complete();
+            }
+        });
+    }
+
     @Test public void should_begin_transaction(TestContext testContext) {
         Async async = testContext.async();
         Promise<Neo4jTransaction> transactionFuture = Promise.promise();
@@ -404,6 +561,24 @@ public class Neo4jClientIT {
         });
     }
 
+    @Test public void should_retry_unit_of_work(TestContext testContext) {
+        Async async = testContext.async();
+        AtomicInteger attempts = new AtomicInteger();
+        neo4jClient.inTransaction(tx -> {
+            Promise<ResultSummary> created = Promise.promise();
+            tx.query("CREATE (:Company {name: $name})", parameters("name", "Wayne Enterprises"), created);
+            return created.future().compose(summary -> attempts.incrementAndGet() == 1
+                    ? Future.<ResultSummary>failedFuture(new TransientException("Neo.TransientError.Transaction.DeadlockDetected", "deadlock"))
+                    : Future.succeededFuture(summary));
+        }, testContext.asyncAssertSuccess(summary -> {
+            testContext.assertEquals(attempts.get(), 2);
+            neo4jClient.find("MATCH (company:Company) RETURN company", testContext.asyncAssertSuccess(records -> {
+                testContext.assertEquals(records.size(), 1);
+                async.complete();
+            }));
+        }));
+    }
+
     @Test public void should_check_all_nodes_are_streamed(TestContext testContext) {
         Async async = testContext.async();
         Promise<ResultSummary> createPerson = Promise.promise();
@@ -442,6 +617,356 @@ public class Neo4jClientIT {
         });
     }
 
+    @Test public void should_stream_all_records_across_fetch_batches(TestContext testContext) {
+        Async async = testContext.async();
+        Neo4jClient client = Neo4jClient.createNonShared(vertx, new Neo4jClientOptions()
+                .setFetchSize(100)
+                .setAuthOptions(new Neo4jClientAuthOptions().setAuthScheme(NONE))
+                .setHost(neo4j.boltURI().getHost())
+                .setPort(neo4j.boltURI().getPort())
+        );
+        client.queryStream("UNWIND range(1, 2500) AS n RETURN n", testContext.asyncAssertSuccess(stream -> {
+            AtomicInteger expected = new AtomicInteger(1);
+            stream.endHandler(end -> {
+                testContext.assertEquals(expected.get(), 2501);
+                client.close();
+                async.complete();
+            })
+            .exceptionHandler(testContext::fail)
+            .handler(record -> testContext.assertEquals(record.get("n").asInt(), expected.getAndIncrement()));
+        }));
+    }
+
+    @Test public void should_find_rows_mapped_to_json(TestContext testContext) {
+        Async async = testContext.async();
+        Promise<ResultSummary> createPerson = Promise.promise();
+        neo4jClient.execute(CREATE_PERSON_QUERY, createPerson);
+        createPerson.future().compose(savedPerson -> {
+            Promise<ResultSummary> createFriends = Promise.promise();
+            neo4jClient.execute(CREATE_FRIENDS_QUERY, createFriends);
+            return createFriends.future();
+        }).compose(savedFriends -> {
+            Promise<List<JsonObject>> findFriends = Promise.promise();
+            neo4jClient.findMapped(FIND_FRIENDS_QUERY_WITH_PARAM, parameters("name", "You"), RowMapper.json(), findFriends);
+            return findFriends.future();
+        }).onComplete(foundFriends -> {
+            if (foundFriends.failed()) {
+                testContext.fail(foundFriends.cause());
+            } else {
+                List<String> names = foundFriends.result().stream()
+                        .map(friend -> friend.getJsonObject("yourFriends").getString("name"))
+                        .sorted()
+                        .collect(Collectors.toList());
+                testContext.assertEquals(names, newArrayList("Andrew", "Anna", "Johan", "Julia", "Rajesh"));
+                async.complete();
+            }
+        });
+    }
+
+    @Test public void should_stream_mapped_rows(TestContext testContext) {
+        Async async = testContext.async();
+        neo4jClient.queryStreamMapped("UNWIND range(1, 10) AS n RETURN n", parameters(), record -> record.get("n").asInt() * 2, testContext.asyncAssertSuccess(stream -> {
+            AtomicInteger expected = new AtomicInteger(1);
+            stream.endHandler(end -> {
+                testContext.assertEquals(expected.get(), 11);
+                async.complete();
+            })
+            .exceptionHandler(testContext::fail)
+            .handler(row -> testContext.assertEquals(row, expected.getAndIncrement() * 2));
+        }));
+    }
+
+    @Test public void should_create_shared_clients_asynchronously(TestContext testContext) {
+        Async async = testContext.async(2);
+        Neo4jClientOptions options = new Neo4jClientOptions()
+                .setAuthOptions(new Neo4jClientAuthOptions().setAuthScheme(NONE))
+                .setHost(neo4j.boltURI().getHost())
+                .setPort(neo4j.boltURI().getPort());
+        vertx.runOnContext(v -> {
+            for (int i = 0; i < 2; i++) {
+                Neo4jClient.create(vertx, options, "async", testContext.asyncAssertSuccess(client -> {
+                    client.findOne("RETURN 1 AS one", testContext.asyncAssertSuccess(record -> {
+                        testContext.assertEquals(record.get("one").asInt(), 1);
+                        client.close();
+                        async.countDown();
+                    }));
+                }));
+            }
+        });
+    }
+
+    @Test public void should_fail_to_create_client_when_database_is_unreachable(TestContext testContext) {
+        Async async = testContext.async();
+        Neo4jClientOptions options = new Neo4jClientOptions()
+                .setAuthOptions(new Neo4jClientAuthOptions().setAuthScheme(NONE))
+                .setHost(neo4j.boltURI().getHost())
+                .setPort(1)
+                .setConnectionAcquisitionTimeoutMillis(1000);
+        Neo4jClient.create(vertx, options, "unreachable", testContext.asyncAssertFailure(error -> {
+            testContext.assertTrue(error instanceof ServiceUnavailableException);
+            async.complete();
+        }));
+    }
+
+    @Test public void should_read_own_writes_with_pooled_sessions(TestContext testContext) {
+        Async async = testContext.async();
+        Neo4jClient client = Neo4jClient.createNonShared(vertx, new Neo4jClientOptions()
+                .setMaxIdleSessions(2)
+                .setAuthOptions(new Neo4jClientAuthOptions().setAuthScheme(NONE))
+                .setHost(neo4j.boltURI().getHost())
+                .setPort(neo4j.boltURI().getPort())
+        );
+        vertx.runOnContext(v -> {
+            Promise<ResultSummary> created = Promise.promise();
+            client.execute(CREATE_PERSON_QUERY, created);
+            created.future().compose(summary -> {
+                Promise<ResultSummary> createdAgain = Promise.promise();
+                client.execute(CREATE_PERSON_QUERY, createdAgain);
+                return createdAgain.future();
+            }).compose(summary -> {
+                Promise<List<Record>> found = Promise.promise();
+                client.find(FIND_PERSON_QUERY, found);
+                return found.future();
+            }).onComplete(found -> {
+                client.close();
+                if (found.failed()) {
+                    testContext.fail(found.cause());
+                } else {
+                    testContext.assertEquals(found.result().size(), 2);
+                    async.complete();
+                }
+            });
+        });
+    }
+
+    @Test public void should_fail_query_after_timeout(TestContext testContext) {
+        Async async = testContext.async();
+        neo4jClient.find("UNWIND range(1, 100000000) AS i WITH i WHERE i < 0 RETURN i", parameters(), new QueryOptions().setTimeoutMillis(100), testContext.asyncAssertFailure(error -> {
+            testContext.assertTrue(error instanceof TimeoutException);
+            neo4jClient.findOne("RETURN 1 AS one", parameters(), new QueryOptions().setTimeoutMillis(10_000), testContext.asyncAssertSuccess(one -> {
+                testContext.assertEquals(one.get("one").asInt(), 1);
+                async.complete();
+            }));
+        }));
+    }
+
+    @Test public void should_limit_in_flight_requests(TestContext testContext) {
+        Async async = testContext.async(10);
+        Neo4jClient client = Neo4jClient.createNonShared(vertx, new Neo4jClientOptions()
+                .setMaxInFlightRequests(2)
+                .setMaxQueuedRequests(8)
+                .setAuthOptions(new Neo4jClientAuthOptions().setAuthScheme(NONE))
+                .setHost(neo4j.boltURI().getHost())
+                .setPort(neo4j.boltURI().getPort())
+        );
+        for (int i = 0; i < 10; i++) {
+            client.execute(CREATE_PERSON_QUERY, testContext.asyncAssertSuccess(summary -> async.countDown()));
+        }
+        client.execute(CREATE_PERSON_QUERY, testContext.asyncAssertFailure(error -> {
+            testContext.assertTrue(error instanceof IllegalStateException);
+        }));
+        async.handler(done -> client.close());
+    }
+
+    @Test public void should_expose_metrics(TestContext testContext) {
+        Async async = testContext.async();
+        Neo4jClient client = Neo4jClient.createNonShared(vertx, new Neo4jClientOptions()
+                .setMetricsEnabled(true)
+                .setAuthOptions(new Neo4jClientAuthOptions().setAuthScheme(NONE))
+                .setHost(neo4j.boltURI().getHost())
+                .setPort(neo4j.boltURI().getPort())
+        );
+        client.execute(CREATE_PERSON_QUERY, testContext.asyncAssertSuccess(summary -> {
+            JsonObject metrics = client.metrics();
+            testContext.assertEquals(metrics.getJsonObject("calls").getLong("execute"), 1L);
+            testContext.assertEquals(metrics.getInteger("inFlightSessions"), 0);
+            testContext.assertFalse(metrics.getJsonArray("connectionPools").isEmpty());
+            client.close();
+            async.complete();
+        }));
+    }
+
+    @Test public void should_count_batch_write_once(TestContext testContext) {
+        Async async = testContext.async();
+        Neo4jClient client = Neo4jClient.createNonShared(vertx, new Neo4jClientOptions()
+                .setAuthOptions(new Neo4jClientAuthOptions().setAuthScheme(NONE))
+                .setHost(neo4j.boltURI().getHost())
+                .setPort(neo4j.boltURI().getPort())
+        );
+        List<Value> rows = newArrayList(parameters("name", "John"), parameters("name", "Jane"));
+        client.batchWrite("CREATE (:Person {name: row.name})", rows, 1, testContext.asyncAssertSuccess(counters -> {
+            JsonObject calls = client.metrics().getJsonObject("calls");
+            testContext.assertEquals(counters.nodesCreated(), 2);
+            testContext.assertEquals(calls.getLong("batchWrite"), 1L);
+            testContext.assertFalse(calls.containsKey("bulkWrite"));
+            client.close();
+            async.complete();
+        }));
+    }
+
+    @Test public void should_count_sessions_of_transactions_and_streams(TestContext testContext) {
+        Async async = testContext.async();
+        Neo4jClient client = Neo4jClient.createNonShared(vertx, new Neo4jClientOptions()
+                .setAuthOptions(new Neo4jClientAuthOptions().setAuthScheme(NONE))
+                .setHost(neo4j.boltURI().getHost())
+                .setPort(neo4j.boltURI().getPort())
+        );
+        Promise<Neo4jTransaction> begun = Promise.promise();
+        client.begin(begun);
+        begun.future().compose(tx -> {
+            testContext.assertEquals(client.metrics().getInteger("inFlightSessions"), 1);
+            Promise<Void> committed = Promise.promise();
+            tx.commit(committed);
+            return committed.future();
+        }).compose(committed -> {
+            testContext.assertEquals(client.metrics().getInteger("inFlightSessions"), 0);
+            Promise<Neo4jRecordStream> opened = Promise.promise();
+            client.queryStream("UNWIND range(1, 10) AS n RETURN n", opened);
+            return opened.future();
+        }).compose(stream -> {
+            testContext.assertEquals(client.metrics().getInteger("inFlightSessions"), 1);
+            Promise<Void> ended = Promise.promise();
+            stream.exceptionHandler(ended::fail).endHandler(ended::complete).handler(record -> {});
+            return ended.future();
+        }).onComplete(testContext.asyncAssertSuccess(ended -> {
+            testContext.assertEquals(client.metrics().getInteger("inFlightSessions"), 0);
+            client.close();
+            async.complete();
+        }));
+    }
+
+    @Test public void should_track_query_latencies(TestContext testContext) {
+        Async async = testContext.async();
+        Neo4jClient client = Neo4jClient.createNonShared(vertx, new Neo4jClientOptions()
+                .setLatencyTrackingEnabled(true)
+                .setAuthOptions(new Neo4jClientAuthOptions().setAuthScheme(NONE))
+                .setHost(neo4j.boltURI().getHost())
+                .setPort(neo4j.boltURI().getPort())
+        );
+        client.execute("CREATE (:Person {name: 'John'})", testContext.asyncAssertSuccess(created -> {
+            client.find("MATCH (p:Person) RETURN p", testContext.asyncAssertSuccess(found -> {
+                JsonObject latencies = client.queryLatencies();
+                JsonObject create = latencies.getJsonObject("CREATE (:Person {name: ?})");
+                testContext.assertEquals(create.getJsonObject("total").getLong("count"), 1L);
+                testContext.assertEquals(create.getJsonObject("server").getLong("count"), 1L);
+                testContext.assertEquals(latencies.getJsonObject("MATCH (p:Person) RETURN p").getJsonObject("delivery").getLong("count"), 1L);
+                client.close();
+                async.complete();
+            }));
+        }));
+    }
+
+    @Test public void should_batch_small_writes(TestContext testContext) {
+        Async async = testContext.async(20);
+        Neo4jClient client = Neo4jClient.createNonShared(vertx, new Neo4jClientOptions()
+                .setWriteBatchMaxSize(10)
+                .setWriteBatchWindowMillis(50)
+                .setAuthOptions(new Neo4jClientAuthOptions().setAuthScheme(NONE))
+                .setHost(neo4j.boltURI().getHost())
+                .setPort(neo4j.boltURI().getPort())
+        );
+        vertx.runOnContext(v -> {
+            for (int i = 0; i < 20; i++) {
+                client.execute(CREATE_PERSON_QUERY, testContext.asyncAssertSuccess(summary -> {
+                    testContext.assertEquals(summary.counters().nodesCreated(), 1);
+                    async.countDown();
+                }));
+            }
+        });
+        async.handler(done -> client.close());
+    }
+
+    @Test public void should_coalesce_identical_reads(TestContext testContext) {
+        Async async = testContext.async(50);
+        Neo4jClient client = Neo4jClient.createNonShared(vertx, new Neo4jClientOptions()
+                .setCoalesceReads(true)
+                .setLatencyTrackingEnabled(true)
+                .setAuthOptions(new Neo4jClientAuthOptions().setAuthScheme(NONE))
+                .setHost(neo4j.boltURI().getHost())
+                .setPort(neo4j.boltURI().getPort())
+        );
+        neo4jClient.execute(CREATE_PERSON_QUERY, testContext.asyncAssertSuccess(created -> {
+            for (int i = 0; i < 50; i++) {
+                client.findOne(FIND_PERSON_QUERY, parameters(), testContext.asyncAssertSuccess(found -> {
+                    testContext.assertEquals(found.get("you").get("name").asString(), "You");
+                    if (async.count() == 1) {
+                        // only the read which has run a transaction has been admitted, the others have shared its result
+                        JsonObject latency = client.queryLatencies().getJsonObject("MATCH (you:Person {name:?}) RETURN you");
+                        testContext.assertEquals(latency.getJsonObject("total").getLong("count"), 50L);
+                        testContext.assertEquals(latency.getJsonObject("queue").getLong("count"), 1L);
+                        client.close();
+                    }
+                    async.countDown();
+                }));
+            }
+        }));
+    }
+
+    @Test public void should_cache_results_until_tag_is_invalidated(TestContext testContext) {
+        Async async = testContext.async();
+        Neo4jClient client = Neo4jClient.createNonShared(vertx, new Neo4jClientOptions()
+                .setResultCacheMaxSize(10)
+                .setAuthOptions(new Neo4jClientAuthOptions().setAuthScheme(NONE))
+                .setHost(neo4j.boltURI().getHost())
+                .setPort(neo4j.boltURI().getPort())
+        );
+        Promise<ResultSummary> created = Promise.promise();
+        client.executeAndInvalidate(CREATE_PERSON_QUERY, parameters(), "persons", created);
+        created.future().compose(summary -> {
+            Promise<List<Record>> found = Promise.promise();
+            client.findCached(FIND_PERSON_QUERY, parameters(), "persons", found);
+            return found.future();
+        }).compose(found -> {
+            // a plain execute does not invalidate the cached result
+            Promise<ResultSummary> createdAgain = Promise.promise();
+            client.execute(CREATE_PERSON_QUERY, createdAgain);
+            return createdAgain.future();
+        }).compose(summary -> {
+            Promise<List<Record>> found = Promise.promise();
+            client.findCached(FIND_PERSON_QUERY, parameters(), "persons", found);
+            return found.future();
+        }).compose(found -> {
+            testContext.assertEquals(found.size(), 1);
+            Promise<ResultSummary> createdAgain = Promise.promise();
+            client.executeAndInvalidate(CREATE_PERSON_QUERY, parameters(), "persons", createdAgain);
+            return createdAgain.future();
+        }).compose(summary -> {
+            Promise<List<Record>> found = Promise.promise();
+            client.findCached(FIND_PERSON_QUERY, parameters(), "persons", found);
+            return found.future();
+        }).onComplete(found -> {
+            JsonObject stats = client.resultCacheStats();
+            client.close();
+            if (found.failed()) {
+                testContext.fail(found.cause());
+            } else {
+                testContext.assertEquals(found.result().size(), 3);
+                testContext.assertEquals(stats.getLong("hits"), 1L);
+                testContext.assertEquals(stats.getLong("misses"), 2L);
+                async.complete();
+            }
+        });
+    }
+
+    @Test public void should_read_after_write_bookmark(TestContext testContext) {
+        Async async = testContext.async();
+        Promise<Bookmark> created = Promise.promise();
+        neo4jClient.executeWithBookmark(CREATE_PERSON_QUERY_WITH_PARAM, parameters("name", "You"), null, created);
+        created.future().compose(bookmark -> {
+            testContext.assertFalse(bookmark.isEmpty());
+            Promise<Record> found = Promise.promise();
+            neo4jClient.findOneWithBookmark(FIND_PERSON_QUERY_WITH_PARAM, parameters("name", "You"), bookmark, found);
+            return found.future();
+        }).onComplete(found -> {
+            if (found.failed()) {
+                testContext.fail(found.cause());
+            } else {
+                testContext.assertEquals(found.result().get("you").get("name").asString(), "You");
+                async.complete();
+            }
+        });
+    }
+
     // queries
 
     private static final String CREATE_PERSON_QUERY = "CREATE (you:Person {name:'You'}) RETURN you";
@@ -0,0 +1,578 @@
+/*
+ * Copyright (c) 2018-2020 Olympe S.A.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.reactiverse.neo4j.impl;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.net.NetServer;
+import io.vertx.core.net.NetServerOptions;
+import io.vertx.core.net.NetSocket;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A Bolt v4 server serving scripted results, to test and benchmark the client without a database : it answers HELLO,
+ * BEGIN, RUN, PULL, DISCARD, COMMIT, ROLLBACK, RESET and GOODBYE, serves the {@link StubResult} scripted for the query of
+ * each RUN, or an empty result, and streams its records by batches of the size requested by each PULL.
+ * <p>
+ * The requests of a connection are answered in order, so the latency of a result also delays the requests pipelined
+ * after its RUN. The client connects to it with {@code setHost("localhost")} and {@code setPort(server.port())}.
+ */
+class BoltStubServer {
+
+    static final String SERVER_AGENT = "Neo4j/4.0.0";
+
+    private static final int MAGIC = 0x6060B017;
+    private static final int VERSION = 4;
+    private static final int HANDSHAKE_SIZE = 20;
+    private static final int MAX_CHUNK_SIZE = 0xFFFF;
+
+    private static final int HELLO = 0x01;
+    private static final int GOODBYE = 0x02;
+    private static final int RESET = 0x0F;
+    private static final int RUN = 0x10;
+    private static final int BEGIN = 0x11;
+    private static final int COMMIT = 0x12;
+    private static final int ROLLBACK = 0x13;
+    private static final int DISCARD = 0x2F;
+    private static final int PULL = 0x3F;
+
+    private static final int SUCCESS = 0x70;
+    private static final int RECORD = 0x71;
+    private static final int IGNORED = 0x7E;
+    private static final int FAILURE = 0x7F;
+
+    private static final String INVALID_REQUEST = "Neo.ClientError.Request.Invalid";
+
+    private final Vertx vertx;
+    private final ConcurrentMap<String, StubResult> scripts = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, LongAdder> received = new ConcurrentHashMap<>();
+    private final AtomicInteger connectionIds = new AtomicInteger();
+    private final AtomicInteger openConnections = new AtomicInteger();
+    private final AtomicLong bookmarks = new AtomicLong();
+    private volatile StubResult defaultResult = StubResult.empty();
+    private NetServer server;
+
+    BoltStubServer(Vertx vertx) {
+        this.vertx = vertx;
+    }
+
+    /**
+     * Serves the result for each RUN of exactly this query.
+     */
+    BoltStubServer script(String query, StubResult result) {
+        scripts.put(query, result);
+        return this;
+    }
+
+    /**
+     * Serves the result for each RUN of a query without script.
+     */
+    BoltStubServer defaultResult(StubResult result) {
+        defaultResult = result;
+        return this;
+    }
+
+    /**
+     * Listens on a random port of localhost.
+     */
+    void listen(Handler<AsyncResult<Integer>> resultHandler) {
+        server = vertx.createNetServer(new NetServerOptions().setHost("localhost").setPort(0).setTcpNoDelay(true))
+                .connectHandler(socket -> new Connection(socket).start());
+        server.listen(ar -> {
+            if (ar.succeeded()) {
+                resultHandler.handle(Future.succeededFuture(ar.result().actualPort()));
+            } else {
+                resultHandler.handle(Future.failedFuture(ar.cause()));
+            }
+        });
+    }
+
+    int port() {
+        return server.actualPort();
+    }
+
+    /**
+     * @param message  the name of a request, e.g. {@code PULL}
+     * @return the number of such requests received
+     */
+    long received(String message) {
+        LongAdder count = received.get(message);
+        return count == null ? 0 : count.sum();
+    }
+
+    int openConnections() {
+        return openConnections.get();
+    }
+
+    void close(Handler<AsyncResult<Void>> resultHandler) {
+        server.close(resultHandler);
+    }
+
+    private static String name(int signature) {
+        switch (signature) {
+            case HELLO: return "HELLO";
+            case GOODBYE: return "GOODBYE";
+            case RESET: return "RESET";
+            case RUN: return "RUN";
+            case BEGIN: return "BEGIN";
+            case COMMIT: return "COMMIT";
+            case ROLLBACK: return "ROLLBACK";
+            case DISCARD: return "DISCARD";
+            case PULL: return "PULL";
+            default: return "0x" + Integer.toHexString(signature);
+        }
+    }
+
+    /**
+     * The state of a connection, only accessed from its event loop.
+     */
+    private final class Connection {
+
+        private final NetSocket socket;
+        private final Deque<Struct> requests = new ArrayDeque<>();
+        private final Map<Long, Cursor> cursors = new HashMap<>();
+        private Buffer input = Buffer.buffer();
+        private Buffer message = Buffer.buffer();
+        private Buffer output = Buffer.buffer();
+        private boolean handshaken;
+        private boolean delayed;
+        private boolean failed;
+        private boolean inTransaction;
+        private long nextQueryId;
+        private long lastQueryId = -1;
+
+        Connection(NetSocket socket) {
+            this.socket = socket;
+        }
+
+        void start() {
+            openConnections.incrementAndGet();
+            socket.closeHandler(v -> openConnections.decrementAndGet());
+            socket.handler(this::handle);
+        }
+
+        private void handle(Buffer data) {
+            input.appendBuffer(data);
+            int position = handshaken ? readChunks(0) : handshake();
+            if (position > 0) {
+                input = input.getBuffer(position, input.length());
+            }
+            process();
+        }
+
+        private int handshake() {
+            if (input.length() < HANDSHAKE_SIZE) {
+                return 0;
+            }
+            if (input.getInt(0) != MAGIC) {
+                socket.close();
+                return input.length();
+            }
+            boolean supported = false;
+            for (int i = 4; i < HANDSHAKE_SIZE; i += 4) {
+                supported |= (input.getInt(i) & 0xFF) == VERSION;
+            }
+            socket.write(Buffer.buffer().appendInt(supported ? VERSION : 0));
+            if (!supported) {
+                socket.close();
+                return input.length();
+            }
+            handshaken = true;
+            return readChunks(HANDSHAKE_SIZE);
+        }
+
+        /**
+         * Reads the complete chunks from the position, a message ending with an empty chunk.
+         *
+         * @return the position of the first incomplete chunk
+         */
+        private int readChunks(int position) {
+            while (input.length() - position >= 2) {
+                int size = input.getUnsignedShort(position);
+                if (input.length() - position - 2 < size) {
+                    break;
+                }
+                position += 2;
+                if (size > 0) {
+                    message.appendBuffer(input, position, size);
+                    position += size;
+                } else if (message.length() > 0) {
+                    Object request = new Unpacker(message).unpack();
+                    if (!(request instanceof Struct)) {
+                        throw new IllegalStateException("Unexpected message : " + request);
+                    }
+                    requests.add((Struct) request);
+                    message = Buffer.buffer();
+                }
+            }
+            return position;
+        }
+
+        private void process() {
+            while (!delayed && !requests.isEmpty()) {
+                Struct request = requests.poll();
+                received.computeIfAbsent(name(request.signature), key -> new LongAdder()).increment();
+                if (failed && request.signature != RESET && request.signature != GOODBYE) {
+                    write(new Struct(IGNORED));
+                    continue;
+                }
+                if (request.signature == RUN) {
+                    StubResult result = scripts.getOrDefault((String) request.fields.get(0), defaultResult);
+                    if (result.latencyMillis > 0) {
+                        delayed = true;
+                        vertx.setTimer(result.latencyMillis, id -> {
+                            delayed = false;
+                            run(result);
+                            process();
+                        });
+                        break;
+                    }
+                    run(result);
+                } else {
+                    answer(request);
+                }
+            }
+            if (output.length() > 0) {
+                socket.write(output);
+                output = Buffer.buffer();
+            }
+        }
+
+        private void answer(Struct request) {
+            switch (request.signature) {
+                case HELLO:
+                    success(new JsonObject()
+                            .put("server", SERVER_AGENT)
+                            .put("connection_id", "bolt-" + connectionIds.incrementAndGet()));
+                    break;
+                case GOODBYE:
+                    requests.clear();
+                    socket.close();
+                    break;
+                case RESET:
+                    failed = false;
+                    endTransaction();
+                    success(new JsonObject());
+                    break;
+                case BEGIN:
+                    inTransaction = true;
+                    success(new JsonObject());
+                    break;
+                case COMMIT:
+                    endTransaction();
+                    success(new JsonObject().put("bookmark", "stub:" + bookmarks.incrementAndGet()));
+                    break;
+                case ROLLBACK:
+                    endTransaction();
+                    success(new JsonObject());
+                    break;
+                case PULL:
+                case DISCARD:
+                    stream(request);
+                    break;
+                default:
+                    failure(INVALID_REQUEST, "Unsupported request " + name(request.signature));
+            }
+        }
+
+        private void run(StubResult result) {
+            if (result.failed()) {
+                failure(result.failureCode, result.failureMessage);
+                return;
+            }
+            long queryId = nextQueryId++;
+            cursors.put(queryId, new Cursor(result));
+            lastQueryId = queryId;
+            JsonObject metadata = new JsonObject()
+                    .put("fields", new JsonArray(result.fields))
+                    .put("t_first", result.latencyMillis);
+            if (inTransaction) {
+                metadata.put("qid", queryId);
+            }
+            success(metadata);
+        }
+
+        private void stream(Struct request) {
+            Map<?, ?> extra = (Map<?, ?>) request.fields.get(0);
+            long n = extra.containsKey("n") ? (Long) extra.get("n") : -1;
+            long queryId = extra.containsKey("qid") ? (Long) extra.get("qid") : -1;
+            Cursor cursor = cursors.get(queryId == -1 ? lastQueryId : queryId);
+            if (cursor == null) {
+                failure(INVALID_REQUEST, "No result to " + name(request.signature));
+                return;
+            }
+            StubResult result = cursor.result;
+            int end = n < 0 ? result.rowCount : (int) Math.min(result.rowCount, cursor.index + n);
+            if (request.signature == PULL) {
+                for (int i = cursor.index; i < end; i++) {
+                    write(new Struct(RECORD, Collections.singletonList(result.rows.apply(i))));
+                }
+            }
+            cursor.index = end;
+            if (cursor.index < result.rowCount) {
+                success(new JsonObject().put("has_more", true));
+                return;
+            }
+            cursors.values().remove(cursor);
+            JsonObject metadata = new JsonObject()
+                    .put("type", result.stats == null ? "r" : "w")
+                    .put("t_last", 0)
+                    .put("db", "neo4j");
+            if (result.stats != null) {
+                metadata.put("stats", result.stats);
+            }
+            if (!inTransaction) {
+                metadata.put("bookmark", "stub:" + bookmarks.incrementAndGet());
+            }
+            success(metadata);
+        }
+
+        private void endTransaction() {
+            inTransaction = false;
+            cursors.clear();
+            nextQueryId = 0;
+            lastQueryId = -1;
+        }
+
+        private void success(JsonObject metadata) {
+            write(new Struct(SUCCESS, Collections.singletonList(metadata)));
+        }
+
+        private void failure(String code, String message) {
+            failed = true;
+            write(new Struct(FAILURE, Collections.singletonList(new JsonObject().put("code", code).put("message", message))));
+        }
+
+        private void write(Struct response) {
+            Buffer body = Buffer.buffer();
+            Packer.pack(body, response);
+            for (int offset = 0; offset < body.length(); offset += MAX_CHUNK_SIZE) {
+                int size = Math.min(MAX_CHUNK_SIZE, body.length() - offset);
+                output.appendUnsignedShort(size).appendBuffer(body, offset, size);
+            }
+            output.appendUnsignedShort(0);
+        }
+    }
+
+    private static final class Cursor {
+
+        final StubResult result;
+        int index;
+
+        Cursor(StubResult result) {
+            this.result = result;
+        }
+    }
+
+    /**
+     * A PackStream structure, i.e. a Bolt message.
+     */
+    private static final class Struct {
+
+        final int signature;
+        final List<Object> fields;
+
+        Struct(int signature) {
+            this(signature, Collections.emptyList());
+        }
+
+        Struct(int signature, List<Object> fields) {
+            this.signature = signature;
+            this.fields = fields;
+        }
+    }
+
+    private static final class Packer {
+
+        static void pack(Buffer out, Object value) {
+            if (value == null) {
+                out.appendUnsignedByte((short) 0xC0);
+            } else if (value instanceof Boolean) {
+                out.appendUnsignedByte((short) ((Boolean) value ? 0xC3 : 0xC2));
+            } else if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                packInteger(out, ((Number) value).longValue());
+            } else if (value instanceof Double || value instanceof Float) {
+                out.appendUnsignedByte((short) 0xC1).appendDouble(((Number) value).doubleValue());
+            } else if (value instanceof String) {
+                byte[] bytes = ((String) value).getBytes(StandardCharsets.UTF_8);
+                header(out, bytes.length, 0x80, 0xD0);
+                out.appendBytes(bytes);
+            } else if (value instanceof JsonObject) {
+                pack(out, ((JsonObject) value).getMap());
+            } else if (value instanceof JsonArray) {
+                pack(out, ((JsonArray) value).getList());
+            } else if (value instanceof Map) {
+                Map<?, ?> map = (Map<?, ?>) value;
+                header(out, map.size(), 0xA0, 0xD8);
+                map.forEach((key, entry) -> {
+                    pack(out, key.toString());
+                    pack(out, entry);
+                });
+            } else if (value instanceof List) {
+                List<?> list = (List<?>) value;
+                header(out, list.size(), 0x90, 0xD4);
+                list.forEach(element -> pack(out, element));
+            } else if (value instanceof Struct) {
+                Struct struct = (Struct) value;
+                out.appendUnsignedByte((short) (0xB0 | struct.fields.size())).appendUnsignedByte((short) struct.signature);
+                struct.fields.forEach(field -> pack(out, field));
+            } else {
+                throw new IllegalArgumentException("Unsupported value : " + value);
+            }
+        }
+
+        private static void packInteger(Buffer out, long value) {
+            if (value >= -16 && value < 128) {
+                out.appendByte((byte) value);
+            } else if (value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE) {
+                out.appendUnsignedByte((short) 0xC8).appendByte((byte) value);
+            } else if (value >= Short.MIN_VALUE && value <= Short.MAX_VALUE) {
+                out.appendUnsignedByte((short) 0xC9).appendShort((short) value);
+            } else if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+                out.appendUnsignedByte((short) 0xCA).appendInt((int) value);
+            } else {
+                out.appendUnsignedByte((short) 0xCB).appendLong(value);
+            }
+        }
+
+        private static void header(Buffer out, int size, int tinyMarker, int marker8) {
+            if (size < 16) {
+                out.appendUnsignedByte((short) (tinyMarker | size));
+            } else if (size <= 0xFF) {
+                out.appendUnsignedByte((short) marker8).appendUnsignedByte((short) size);
+            } else if (size <= 0xFFFF) {
+                out.appendUnsignedByte((short) (marker8 + 1)).appendUnsignedShort(size);
+            } else {
+                out.appendUnsignedByte((short) (marker8 + 2)).appendInt(size);
+            }
+        }
+    }
+
+    private static final class Unpacker {
+
+        private final Buffer buffer;
+        private int position;
+
+        Unpacker(Buffer buffer) {
+            this.buffer = buffer;
+        }
+
+        Object unpack() {
+            int marker = buffer.getUnsignedByte(position++);
+            if (marker < 0x80) {
+                return (long) marker;
+            }
+            if (marker >= 0xF0) {
+                return (long) (byte) marker;
+            }
+            int size = marker & 0x0F;
+            switch (marker & 0xF0) {
+                case 0x80: return string(size);
+                case 0x90: return list(size);
+                case 0xA0: return map(size);
+                case 0xB0: return struct(size);
+                default: break;
+            }
+            switch (marker) {
+                case 0xC0: return null;
+                case 0xC1: return readDouble();
+                case 0xC2: return false;
+                case 0xC3: return true;
+                case 0xC8: return (long) buffer.getByte(advance(1));
+                case 0xC9: return (long) buffer.getShort(advance(2));
+                case 0xCA: return (long) buffer.getInt(advance(4));
+                case 0xCB: return buffer.getLong(advance(8));
+                case 0xCC: return bytes(buffer.getUnsignedByte(advance(1)));
+                case 0xCD: return bytes(buffer.getUnsignedShort(advance(2)));
+                case 0xCE: return bytes(buffer.getInt(advance(4)));
+                case 0xD0: return string(buffer.getUnsignedByte(advance(1)));
+                case 0xD1: return string(buffer.getUnsignedShort(advance(2)));
+                case 0xD2: return string(buffer.getInt(advance(4)));
+                case 0xD4: return list(buffer.getUnsignedByte(advance(1)));
+                case 0xD5: return list(buffer.getUnsignedShort(advance(2)));
+                case 0xD6: return list(buffer.getInt(advance(4)));
+                case 0xD8: return map(buffer.getUnsignedByte(advance(1)));
+                case 0xD9: return map(buffer.getUnsignedShort(advance(2)));
+                case 0xDA: return map(buffer.getInt(advance(4)));
+                case 0xDC: return struct(buffer.getUnsignedByte(advance(1)));
+                case 0xDD: return struct(buffer.getUnsignedShort(advance(2)));
+                default: throw new IllegalArgumentException("Unknown PackStream marker 0x" + Integer.toHexString(marker));
+            }
+        }
+
+        /**
+         * @return the position of the next value, before moving it by the length
+         */
+        private int advance(int length) {
+            int current = position;
+            position += length;
+            return current;
+        }
+
+        private double readDouble() {
+            return buffer.getDouble(advance(8));
+        }
+
+        private byte[] bytes(int size) {
+            return buffer.getBytes(advance(size), position);
+        }
+
+        private String string(int size) {
+            return buffer.getString(advance(size), position, StandardCharsets.UTF_8.name());
+        }
+
+        private List<Object> list(int size) {
+            List<Object> list = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                list.add(unpack());
+            }
+            return list;
+        }
+
+        private Map<String, Object> map(int size) {
+            Map<String, Object> map = new LinkedHashMap<>();
+            for (int i = 0; i < size; i++) {
+                map.put((String) unpack(), unpack());
+            }
+            return map;
+        }
+
+        private Struct struct(int size) {
+            int signature = buffer.getUnsignedByte(advance(1));
+            return new Struct(signature, list(size));
+        }
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2018-2020 Olympe S.A.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.reactiverse.neo4j.impl;
+
+import io.reactiverse.neo4j.Neo4jClient;
+import io.reactiverse.neo4j.options.Neo4jClientAuthOptions;
+import io.reactiverse.neo4j.options.Neo4jClientOptions;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.unit.junit.VertxUnitRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.neo4j.driver.Record;
+import org.neo4j.driver.exceptions.ClientException;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.reactiverse.neo4j.options.AuthSchemeOption.NONE;
+import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
+import static org.neo4j.driver.Values.parameters;
+
+@RunWith(VertxUnitRunner.class)
+public class BoltStubServerTest {
+
+    private static final String FIND_QUERY = "MATCH (p:Person) RETURN p.name AS name";
+    private static final String CREATE_QUERY = "CREATE (:Person {name: $name})";
+
+    private Vertx vertx;
+    private BoltStubServer server;
+    private Neo4jClient neo4jClient;
+
+    @Before
+    public void setUp(TestContext testContext) {
+        vertx = Vertx.vertx();
+        server = new BoltStubServer(vertx);
+        server.listen(testContext.asyncAssertSuccess());
+    }
+
+    @After
+    public void tearDown(TestContext testContext) {
+        if (neo4jClient != null) {
+            neo4jClient.close();
+        }
+        vertx.close(testContext.asyncAssertSuccess());
+    }
+
+    @Test public void should_serve_scripted_records(TestContext testContext) {
+        // Given
+        server.script(FIND_QUERY, StubResult.of(singletonList("name"), Arrays.<List<Object>>asList(singletonList("John"), singletonList("Jane"))));
+        neo4jClient = client();
+
+        // When
+        neo4jClient.find(FIND_QUERY, testContext.asyncAssertSuccess(records -> {
+            // Then
+            List<String> names = records.stream().map(record -> record.get("name").asString()).collect(toList());
+            testContext.assertEquals(names, Arrays.asList("John", "Jane"));
+        }));
+    }
+
+    @Test public void should_stream_records_by_fetch_size(TestContext testContext) {
+        // Given
+        Async async = testContext.async();
+        server.script(FIND_QUERY, StubResult.generated(10_000, 100));
+        neo4jClient = client();
+        AtomicInteger received = new AtomicInteger();
+
+        // When
+        neo4jClient.queryStream(FIND_QUERY, testContext.asyncAssertSuccess(stream -> stream
+                .exceptionHandler(testContext::fail)
+                .endHandler(end -> {
+                    // Then
+                    testContext.assertEquals(received.get(), 10_000);
+                    testContext.assertTrue(server.received("PULL") >= 10);
+                    async.complete();
+                })
+                .handler(record -> onRecord(testContext, record, received))));
+    }
+
+    @Test public void should_report_scripted_counters_and_latency(TestContext testContext) {
+        // Given
+        server.script(CREATE_QUERY, StubResult.empty()
+                .withStats(new JsonObject().put("nodes-created", 1).put("properties-set", 1))
+                .withLatency(100));
+        neo4jClient = client();
+        long startedAt = System.nanoTime();
+
+        // When
+        neo4jClient.execute(CREATE_QUERY, parameters("name", "John"), testContext.asyncAssertSuccess(summary -> {
+            // Then
+            testContext.assertEquals(summary.counters().nodesCreated(), 1);
+            testContext.assertEquals(summary.counters().propertiesSet(), 1);
+            testContext.assertEquals(summary.resultAvailableAfter(TimeUnit.MILLISECONDS), 100L);
+            testContext.assertTrue(System.nanoTime() - startedAt >= TimeUnit.MILLISECONDS.toNanos(100));
+        }));
+    }
+
+    @Test public void should_fail_scripted_query_and_recover(TestContext testContext) {
+        // Given
+        server.script(FIND_QUERY, StubResult.failure("Neo.ClientError.Statement.SyntaxError", "Invalid input"));
+        neo4jClient = client();
+
+        // When
+        neo4jClient.find(FIND_QUERY, testContext.asyncAssertFailure(error -> {
+            // Then
+            testContext.assertTrue(error instanceof ClientException);
+            testContext.assertEquals(((ClientException) error).code(), "Neo.ClientError.Statement.SyntaxError");
+            neo4jClient.find("MATCH (n) RETURN n", testContext.asyncAssertSuccess(records -> testContext.assertTrue(records.isEmpty())));
+        }));
+    }
+
+    @Test public void should_commit_explicit_transaction(TestContext testContext) {
+        // Given
+        server.script(CREATE_QUERY, StubResult.empty().withStats(new JsonObject().put("nodes-created", 1)));
+        neo4jClient = client();
+
+        // When
+        neo4jClient.begin(testContext.asyncAssertSuccess(tx -> tx.query(CREATE_QUERY, parameters("name", "John"), testContext.asyncAssertSuccess(summary ->
+                tx.commit(testContext.asyncAssertSuccess(committed -> {
+                    // Then
+                    testContext.assertEquals(summary.counters().nodesCreated(), 1);
+                    testContext.assertEquals(server.received("BEGIN"), 1L);
+                    testContext.assertEquals(server.received("COMMIT"), 1L);
+                }))))));
+    }
+
+    private Neo4jClient client() {
+        return Neo4jClient.createNonShared(vertx, new Neo4jClientOptions()
+                .setAuthOptions(new Neo4jClientAuthOptions().setAuthScheme(NONE))
+                .setHost("localhost")
+                .setPort(server.port())
+        );
+    }
+
+    private static void onRecord(TestContext testContext, Record record, AtomicInteger received) {
+        testContext.assertEquals(record.get(StubResult.GENERATED_FIELD).asString().length(), 100);
+        received.incrementAndGet();
+    }
+}
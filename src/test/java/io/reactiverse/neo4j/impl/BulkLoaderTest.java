@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2018-2020 Olympe S.A.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.reactiverse.neo4j.impl;
+
+import io.reactiverse.neo4j.Neo4jClient;
+import io.reactiverse.neo4j.options.BulkLoadOptions;
+import io.vertx.core.*;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.unit.junit.VertxUnitRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.neo4j.driver.Query;
+import org.neo4j.driver.exceptions.ClientException;
+import org.neo4j.driver.exceptions.TransientException;
+import org.neo4j.driver.internal.summary.InternalSummaryCounters;
+import org.neo4j.driver.summary.SummaryCounters;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@RunWith(VertxUnitRunner.class)
+public class BulkLoaderTest {
+
+    private Vertx vertx;
+    private Neo4jClient client;
+
+    @Before
+    public void setUp() {
+        vertx = Vertx.vertx();
+        client = mock(Neo4jClient.class);
+    }
+
+    @After
+    public void tearDown(TestContext testContext) {
+        vertx.close(testContext.asyncAssertSuccess());
+    }
+
+    @Test public void should_write_all_chunks_with_bounded_concurrency(TestContext testContext) {
+        Async async = testContext.async();
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        List<Long> progress = new ArrayList<>();
+        givenBulkWrite(chunk -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            Promise<SummaryCounters> promise = Promise.promise();
+            vertx.setTimer(10, id -> {
+                inFlight.decrementAndGet();
+                promise.complete(nodesCreated(chunk.size()));
+            });
+            return promise.future();
+        });
+        BulkLoadOptions options = new BulkLoadOptions().setChunkSize(3).setConcurrency(2);
+
+        new BulkLoader(vertx, vertx.getOrCreateContext(), client::bulkWrite, queries(10), options, progress::add, testContext.asyncAssertSuccess(counters -> {
+            testContext.assertEquals(counters.nodesCreated(), 10);
+            testContext.assertEquals(maxInFlight.get(), 2);
+            testContext.assertEquals(progress.get(progress.size() - 1), 10L);
+            verify(client, times(4)).bulkWrite(anyList(), any());
+            async.complete();
+        })).start();
+    }
+
+    @Test public void should_retry_a_failed_chunk(TestContext testContext) {
+        Async async = testContext.async();
+        AtomicInteger attempts = new AtomicInteger();
+        givenBulkWrite(chunk -> attempts.getAndIncrement() == 0
+                ? Future.failedFuture(new TransientException("Neo.TransientError.Transaction.DeadlockDetected", "deadlock"))
+                : Future.succeededFuture(nodesCreated(chunk.size())));
+        BulkLoadOptions options = new BulkLoadOptions().setChunkSize(5).setConcurrency(1).setMaxRetries(1).setRetryDelayMillis(1);
+
+        new BulkLoader(vertx, vertx.getOrCreateContext(), client::bulkWrite, queries(5), options, null, testContext.asyncAssertSuccess(counters -> {
+            testContext.assertEquals(counters.nodesCreated(), 5);
+            testContext.assertEquals(attempts.get(), 2);
+            async.complete();
+        })).start();
+    }
+
+    @Test public void should_not_retry_a_chunk_failed_by_a_client_error(TestContext testContext) {
+        Async async = testContext.async();
+        AtomicInteger attempts = new AtomicInteger();
+        givenBulkWrite(chunk -> {
+            attempts.incrementAndGet();
+            return Future.failedFuture(new ClientException("Neo.ClientError.Schema.ConstraintValidationFailed", "already exists"));
+        });
+        BulkLoadOptions options = new BulkLoadOptions().setChunkSize(5).setConcurrency(1).setMaxRetries(3).setRetryDelayMillis(1000);
+
+        new BulkLoader(vertx, vertx.getOrCreateContext(), client::bulkWrite, queries(5), options, null, testContext.asyncAssertFailure(error -> {
+            testContext.assertTrue(error instanceof ClientException);
+            testContext.assertEquals(attempts.get(), 1);
+            async.complete();
+        })).start();
+    }
+
+    @Test public void should_stop_writing_chunks_after_a_final_failure(TestContext testContext) {
+        Async async = testContext.async();
+        AtomicInteger attempts = new AtomicInteger();
+        givenBulkWrite(chunk -> attempts.incrementAndGet() == 2
+                ? Future.failedFuture(new TransientException("Neo.TransientError.Transaction.DeadlockDetected", "deadlock"))
+                : Future.succeededFuture(nodesCreated(chunk.size())));
+        BulkLoadOptions options = new BulkLoadOptions().setChunkSize(2).setConcurrency(1).setMaxRetries(0);
+
+        new BulkLoader(vertx, vertx.getOrCreateContext(), client::bulkWrite, queries(10), options, null, testContext.asyncAssertFailure(error -> {
+            testContext.assertEquals(error.getMessage(), "deadlock");
+            testContext.assertEquals(attempts.get(), 2);
+            async.complete();
+        })).start();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenBulkWrite(Function<List<Query>, Future<SummaryCounters>> write) {
+        when(client.bulkWrite(anyList(), any())).thenAnswer(invocation -> {
+            List<Query> chunk = invocation.getArgument(0);
+            Handler<AsyncResult<SummaryCounters>> handler = invocation.getArgument(1);
+            write.apply(chunk).onComplete(handler);
+            return client;
+        });
+    }
+
+    private static List<Query> queries(int count) {
+        List<Query> queries = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            queries.add(new Query("CREATE (:Person {id: " + i + "})"));
+        }
+        return queries;
+    }
+
+    private static SummaryCounters nodesCreated(int nodesCreated) {
+        return new InternalSummaryCounters(nodesCreated, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0);
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2018-2020 Olympe S.A.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.reactiverse.neo4j.impl;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.spi.metrics.PoolMetrics;
+import org.junit.Test;
+import org.neo4j.driver.ConnectionPoolMetrics;
+import org.neo4j.driver.Metrics;
+
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ClientMetricsTest {
+
+    @Test public void should_count_calls_sessions_and_streams() {
+        // Given
+        ClientMetrics metrics = new ClientMetrics(null);
+
+        // When
+        metrics.called("find");
+        metrics.called("find");
+        metrics.called("execute");
+        metrics.sessionAcquired();
+        metrics.sessionAcquired();
+        metrics.sessionReleased();
+        metrics.streamOpened();
+
+        // Then
+        JsonObject snapshot = metrics.snapshot();
+        assertThat(snapshot.getJsonObject("calls").getLong("find")).isEqualTo(2L);
+        assertThat(snapshot.getJsonObject("calls").getLong("execute")).isEqualTo(1L);
+        assertThat(snapshot.getInteger("inFlightSessions")).isEqualTo(1);
+        assertThat(snapshot.getInteger("openStreams")).isEqualTo(1);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void should_report_admitted_request_to_pool_metrics() {
+        // Given
+        PoolMetrics<Object> poolMetrics = mock(PoolMetrics.class);
+        Object submitted = new Object();
+        Object begun = new Object();
+        when(poolMetrics.submitted()).thenReturn(submitted);
+        when(poolMetrics.begin(submitted)).thenReturn(begun);
+        ClientMetrics metrics = new ClientMetrics(poolMetrics);
+        CompletableFuture<String> response = new CompletableFuture<>();
+
+        // When
+        CompletionStage<String> result = metrics.measure(request -> request.get(), () -> response);
+        response.complete("done");
+
+        // Then
+        assertThat(result.toCompletableFuture().join()).isEqualTo("done");
+        verify(poolMetrics).end(begun, true);
+        verify(poolMetrics, never()).rejected(any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void should_report_rejected_request_to_pool_metrics() {
+        // Given
+        PoolMetrics<Object> poolMetrics = mock(PoolMetrics.class);
+        Object submitted = new Object();
+        when(poolMetrics.submitted()).thenReturn(submitted);
+        ClientMetrics metrics = new ClientMetrics(poolMetrics);
+        CompletableFuture<String> rejection = new CompletableFuture<>();
+        rejection.completeExceptionally(new IllegalStateException("Too many in-flight requests"));
+
+        // When
+        CompletionStage<String> result = metrics.measure(request -> rejection, () -> CompletableFuture.completedFuture("done"));
+
+        // Then
+        assertThat(result.toCompletableFuture()).isCompletedExceptionally();
+        verify(poolMetrics).rejected(submitted);
+        verify(poolMetrics, never()).begin(any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void should_end_request_failed_before_returning_a_stage() {
+        // Given
+        PoolMetrics<Object> poolMetrics = mock(PoolMetrics.class);
+        Object submitted = new Object();
+        Object begun = new Object();
+        when(poolMetrics.submitted()).thenReturn(submitted);
+        when(poolMetrics.begin(submitted)).thenReturn(begun);
+        ClientMetrics metrics = new ClientMetrics(poolMetrics);
+
+        // When
+        Throwable error = catchThrowable(() -> metrics.measure(request -> request.get(), () -> {
+            throw new IllegalStateException("closed");
+        }));
+
+        // Then
+        assertThat(error).isInstanceOf(IllegalStateException.class);
+        verify(poolMetrics).end(begun, false);
+        verify(poolMetrics, never()).rejected(any());
+    }
+
+    @Test public void should_convert_driver_pool_metrics() {
+        // Given
+        ConnectionPoolMetrics pool = mock(ConnectionPoolMetrics.class);
+        when(pool.id()).thenReturn("localhost:7687");
+        when(pool.inUse()).thenReturn(8);
+        when(pool.idle()).thenReturn(2);
+        when(pool.acquiring()).thenReturn(5);
+        when(pool.timedOutToAcquire()).thenReturn(3L);
+        Metrics driverMetrics = mock(Metrics.class);
+        when(driverMetrics.connectionPoolMetrics()).thenReturn(Collections.singletonList(pool));
+
+        // When
+        JsonArray pools = ClientMetrics.connectionPools(driverMetrics);
+
+        // Then
+        assertThat(pools.size()).isEqualTo(1);
+        JsonObject converted = pools.getJsonObject(0);
+        assertThat(converted.getString("id")).isEqualTo("localhost:7687");
+        assertThat(converted.getInteger("inUse")).isEqualTo(8);
+        assertThat(converted.getInteger("idle")).isEqualTo(2);
+        assertThat(converted.getInteger("acquiring")).isEqualTo(5);
+        assertThat(converted.getLong("timedOutToAcquire")).isEqualTo(3L);
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2018-2020 Olympe S.A.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.reactiverse.neo4j.impl;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import org.junit.Test;
+import org.neo4j.driver.Record;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.Values;
+import org.neo4j.driver.internal.InternalNode;
+import org.neo4j.driver.internal.InternalRecord;
+import org.neo4j.driver.internal.value.NodeValue;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class JsonRowMapperTest {
+
+    @Test public void should_map_scalar_values() {
+        // Given
+        Record record = new InternalRecord(Arrays.asList("name", "age", "score", "active", "missing"),
+                new Value[]{Values.value("John"), Values.value(42), Values.value(1.5), Values.value(true), Values.NULL});
+
+        // When
+        JsonObject row = JsonRowMapper.INSTANCE.map(record);
+
+        // Then
+        assertThat(row.fieldNames()).containsExactly("name", "age", "score", "active", "missing");
+        assertThat(row.getString("name")).isEqualTo("John");
+        assertThat(row.getLong("age")).isEqualTo(42L);
+        assertThat(row.getDouble("score")).isEqualTo(1.5);
+        assertThat(row.getBoolean("active")).isTrue();
+        assertThat(row.containsKey("missing")).isTrue();
+        assertThat(row.getValue("missing")).isNull();
+    }
+
+    @Test public void should_map_nodes_lists_and_maps() {
+        // Given
+        Map<String, Value> properties = new HashMap<>();
+        properties.put("name", Values.value("John"));
+        properties.put("tags", Values.value(Arrays.asList("a", "b")));
+        NodeValue node = new NodeValue(new InternalNode(1, Collections.singletonList("Person"), properties));
+        Record record = new InternalRecord(Arrays.asList("person", "info"),
+                new Value[]{node, Values.value(Collections.singletonMap("city", "Paris"))});
+
+        // When
+        JsonObject row = JsonRowMapper.INSTANCE.map(record);
+
+        // Then
+        assertThat(row.getJsonObject("person").getString("name")).isEqualTo("John");
+        assertThat(row.getJsonObject("person").getJsonArray("tags")).isEqualTo(new JsonArray().add("a").add("b"));
+        assertThat(row.getJsonObject("info")).isEqualTo(new JsonObject().put("city", "Paris"));
+    }
+
+    @Test public void should_map_temporal_values_to_strings() {
+        // Given
+        Record record = new InternalRecord(Collections.singletonList("born"), new Value[]{Values.value(LocalDate.of(1980, 5, 17))});
+
+        // When
+        JsonObject row = JsonRowMapper.INSTANCE.map(record);
+
+        // Then
+        assertThat(row.getString("born")).isEqualTo("1980-05-17");
+    }
+}
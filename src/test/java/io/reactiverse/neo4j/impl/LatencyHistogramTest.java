@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2018-2020 Olympe S.A.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.reactiverse.neo4j.impl;
+
+import io.vertx.core.json.JsonObject;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LatencyHistogramTest {
+
+    @Test public void should_keep_values_in_their_bucket() {
+        for (long micros = 0; micros < 100_000; micros++) {
+            int bucket = LatencyHistogram.bucket(micros);
+            assertThat(LatencyHistogram.highestValue(bucket)).isGreaterThanOrEqualTo(micros);
+            if (bucket > 0) {
+                assertThat(LatencyHistogram.highestValue(bucket - 1)).isLessThan(micros);
+            }
+        }
+    }
+
+    @Test public void should_compute_percentiles_within_precision() {
+        // Given
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        // When
+        for (long millis = 1; millis <= 100; millis++) {
+            histogram.recordNanos(TimeUnit.MILLISECONDS.toNanos(millis));
+        }
+
+        // Then
+        assertThat(histogram.count()).isEqualTo(100);
+        assertThat(histogram.percentileMicros(50)).isBetween(50_000L, 50_000L + 50_000L / 16);
+        assertThat(histogram.percentileMicros(99)).isBetween(99_000L, 100_000L);
+        assertThat(histogram.percentileMicros(100)).isEqualTo(100_000L);
+    }
+
+    @Test public void should_describe_empty_histogram() {
+        // When
+        JsonObject json = new LatencyHistogram().toJson();
+
+        // Then
+        assertThat(json.getLong("count")).isEqualTo(0L);
+        assertThat(json.getLong("p99Micros")).isEqualTo(0L);
+        assertThat(json.getLong("maxMicros")).isEqualTo(0L);
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2018-2020 Olympe S.A.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.reactiverse.neo4j.impl;
+
+import io.vertx.core.json.JsonObject;
+import org.junit.Test;
+import org.neo4j.driver.summary.ResultSummary;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class LatencyTrackerTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test public void should_fingerprint_queries() {
+        assertThat(LatencyTracker.fingerprint("MATCH (p:Person {name: 'John', age: 42})\n  RETURN p LIMIT 10"))
+                .isEqualTo("MATCH (p:Person {name: ?, age: ?}) RETURN p LIMIT ?");
+        assertThat(LatencyTracker.fingerprint("MATCH (n1) WHERE id(n1) IN [1, 2, 3] AND n1.name = \"it's\" RETURN n1"))
+                .isEqualTo("MATCH (n1) WHERE id(n1) IN [?] AND n1.name = ? RETURN n1");
+        assertThat(LatencyTracker.fingerprint("MATCH (p:Person {name: $name}) RETURN p"))
+                .isEqualTo("MATCH (p:Person {name: $name}) RETURN p");
+    }
+
+    @Test public void should_split_latency_of_call() {
+        // Given
+        LatencyTracker tracker = new LatencyTracker(10, now::get);
+        ResultSummary summary = mock(ResultSummary.class);
+        when(summary.resultAvailableAfter(TimeUnit.NANOSECONDS)).thenReturn(millis(3));
+        when(summary.resultConsumedAfter(TimeUnit.NANOSECONDS)).thenReturn(millis(1));
+
+        // When
+        LatencyTracker.Call call = tracker.start("MATCH (p:Person {name: 'John'}) RETURN p");
+        elapse(2);
+        call.admitted();
+        elapse(10);
+        call.summary(summary);
+        call.completed();
+        elapse(1);
+        call.delivered();
+
+        // Then
+        JsonObject latency = tracker.snapshot().getJsonObject("MATCH (p:Person {name: ?}) RETURN p");
+        assertThat(latency.getJsonObject("total").getLong("maxMicros")).isEqualTo(13_000L);
+        assertThat(latency.getJsonObject("queue").getLong("maxMicros")).isEqualTo(2_000L);
+        assertThat(latency.getJsonObject("server").getLong("maxMicros")).isEqualTo(4_000L);
+        assertThat(latency.getJsonObject("driver").getLong("maxMicros")).isEqualTo(6_000L);
+        assertThat(latency.getJsonObject("delivery").getLong("maxMicros")).isEqualTo(1_000L);
+    }
+
+    @Test public void should_only_record_total_of_call_never_admitted() {
+        // Given
+        LatencyTracker tracker = new LatencyTracker(10, now::get);
+
+        // When
+        LatencyTracker.Call call = tracker.start("MATCH (p:Person) RETURN p");
+        elapse(5);
+        call.delivered();
+
+        // Then
+        JsonObject latency = tracker.snapshot().getJsonObject("MATCH (p:Person) RETURN p");
+        assertThat(latency.getJsonObject("total").getLong("count")).isEqualTo(1L);
+        assertThat(latency.getJsonObject("queue").getLong("count")).isEqualTo(0L);
+        assertThat(latency.getJsonObject("server").getLong("count")).isEqualTo(0L);
+        assertThat(latency.getJsonObject("delivery").getLong("count")).isEqualTo(0L);
+    }
+
+    @Test public void should_group_queries_beyond_max() {
+        // Given
+        LatencyTracker tracker = new LatencyTracker(2, now::get);
+
+        // When
+        tracker.start("MATCH (a:A) RETURN a").delivered();
+        tracker.start("MATCH (b:B) RETURN b").delivered();
+        tracker.start("MATCH (c:C) RETURN c").delivered();
+        tracker.start("MATCH (d:D) RETURN d").delivered();
+        tracker.start("MATCH (a:A) RETURN a").delivered();
+
+        // Then
+        JsonObject snapshot = tracker.snapshot();
+        assertThat(snapshot.fieldNames()).containsOnly("MATCH (a:A) RETURN a", "MATCH (b:B) RETURN b", LatencyTracker.OTHER_QUERIES);
+        assertThat(snapshot.getJsonObject(LatencyTracker.OTHER_QUERIES).getJsonObject("total").getLong("count")).isEqualTo(2L);
+        assertThat(snapshot.getJsonObject("MATCH (a:A) RETURN a").getJsonObject("total").getLong("count")).isEqualTo(2L);
+    }
+
+    private void elapse(long millis) {
+        now.addAndGet(millis(millis));
+    }
+
+    private static long millis(long millis) {
+        return TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+}
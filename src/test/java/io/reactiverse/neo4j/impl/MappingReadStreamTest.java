@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2018-2020 Olympe S.A.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.reactiverse.neo4j.impl;
+
+import io.reactiverse.neo4j.ResultCursor;
+import io.vertx.core.*;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.unit.junit.VertxUnitRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.neo4j.driver.Record;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.Values;
+import org.neo4j.driver.async.AsyncSession;
+import org.neo4j.driver.async.AsyncTransaction;
+import org.neo4j.driver.internal.InternalRecord;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.mockito.Mockito.*;
+
+@RunWith(VertxUnitRunner.class)
+public class MappingReadStreamTest {
+
+    private Vertx vertx;
+    private AsyncTransaction tx;
+    private AsyncSession session;
+
+    @Before
+    public void setUp() {
+        vertx = Vertx.vertx();
+        tx = mock(AsyncTransaction.class);
+        when(tx.commitAsync()).thenReturn(completedFuture(null));
+        session = mock(AsyncSession.class);
+        when(session.closeAsync()).thenReturn(completedFuture(null));
+    }
+
+    @After
+    public void tearDown(TestContext testContext) {
+        vertx.close(testContext.asyncAssertSuccess());
+    }
+
+    @Test public void should_emit_mapped_rows(TestContext testContext) {
+        Async async = testContext.async();
+        Context context = vertx.getOrCreateContext();
+        List<Integer> rows = new ArrayList<>();
+
+        context.runOnContext(v -> new MappingReadStream<>(recordStream(context, 5), record -> record.get("n").asInt() * 10)
+                .endHandler(end -> {
+                    testContext.assertEquals(rows.toString(), "[0, 10, 20, 30, 40]");
+                    async.complete();
+                })
+                .exceptionHandler(testContext::fail)
+                .handler(rows::add));
+    }
+
+    @Test public void should_stop_and_fail_when_mapper_fails(TestContext testContext) {
+        Async async = testContext.async();
+        Context context = vertx.getOrCreateContext();
+        List<Integer> rows = new ArrayList<>();
+
+        context.runOnContext(v -> new MappingReadStream<>(recordStream(context, 5), record -> {
+                    int n = record.get("n").asInt();
+                    if (n == 2) {
+                        throw new IllegalStateException("boom");
+                    }
+                    return n;
+                })
+                .endHandler(end -> testContext.fail("should not end"))
+                .exceptionHandler(error -> {
+                    testContext.assertEquals(error.getMessage(), "boom");
+                    testContext.assertEquals(rows.toString(), "[0, 1]");
+                    verify(tx).commitAsync();
+                    async.complete();
+                })
+                .handler(rows::add));
+    }
+
+    private Neo4jRecordStreamImpl recordStream(Context context, int count) {
+        List<Record> records = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            records.add(new InternalRecord(Collections.singletonList("n"), new Value[]{Values.value(i)}));
+        }
+        ResultCursor cursor = new ResultCursor() {
+            private boolean done;
+
+            @Override
+            public ResultCursor one(Handler<AsyncResult<Record>> handler) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public ResultCursor next(int max, Handler<AsyncResult<List<Record>>> handler) {
+                List<Record> batch = done ? Collections.emptyList() : records;
+                done = true;
+                context.runOnContext(v -> handler.handle(Future.succeededFuture(batch)));
+                return this;
+            }
+        };
+        return new Neo4jRecordStreamImpl(context, tx, session, cursor, count);
+    }
+}
@@ -0,0 +1,270 @@
+/*
+ * Copyright (c) 2018-2020 Olympe S.A.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.reactiverse.neo4j.impl;
+
+import io.reactiverse.neo4j.options.QueryOptions;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import org.junit.Test;
+import org.mockito.InOrder;
+import org.neo4j.driver.Query;
+import org.neo4j.driver.Record;
+import org.neo4j.driver.TransactionConfig;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.Values;
+import org.neo4j.driver.async.AsyncSession;
+import org.neo4j.driver.async.AsyncTransaction;
+import org.neo4j.driver.async.ResultCursor;
+import org.neo4j.driver.exceptions.ClientException;
+import org.neo4j.driver.exceptions.ServiceUnavailableException;
+import org.neo4j.driver.internal.InternalRecord;
+import org.neo4j.driver.internal.summary.InternalSummaryCounters;
+import org.neo4j.driver.summary.ResultSummary;
+import org.neo4j.driver.summary.SummaryCounters;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import static io.reactiverse.neo4j.impl.Neo4jClientImpl.AGGREGATE_COUNTERS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+public class Neo4jClientImplTest {
+
+    @Test public void should_aggregate_counters() {
+        // Given
+        SummaryCounters first = new InternalSummaryCounters(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12);
+        SummaryCounters second = new InternalSummaryCounters(12, 11, 10, 9, 8, 7, 6, 5, 4, 3, 2, 1);
+
+        // When
+        SummaryCounters result = AGGREGATE_COUNTERS.apply(first, second);
+
+        // Then
+        assertThat(result.nodesCreated()).isEqualTo(13);
+        assertThat(result.nodesDeleted()).isEqualTo(13);
+        assertThat(result.relationshipsCreated()).isEqualTo(13);
+        assertThat(result.propertiesSet()).isEqualTo(13);
+        assertThat(result.systemUpdates()).isEqualTo(13);
+    }
+
+    @Test public void should_send_all_queries_before_receiving_any_summary() {
+        // Given
+        AsyncTransaction tx = mock(AsyncTransaction.class);
+        List<CompletableFuture<ResultCursor>> cursors = new ArrayList<>();
+        when(tx.runAsync(any(Query.class))).thenAnswer(invocation -> {
+            CompletableFuture<ResultCursor> cursor = new CompletableFuture<>();
+            cursors.add(cursor);
+            return cursor;
+        });
+        List<Query> queries = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            queries.add(new Query("CREATE (:Person {id: $id})"));
+        }
+
+        // When
+        CompletionStage<SummaryCounters> result = Neo4jClientImpl.runPipelined(tx, queries);
+
+        // Then
+        verify(tx, times(10)).runAsync(any(Query.class));
+        assertThat(result.toCompletableFuture()).isNotDone();
+
+        cursors.forEach(cursor -> cursor.complete(cursorWithNodesCreated(1)));
+        assertThat(result.toCompletableFuture().join().nodesCreated()).isEqualTo(10);
+    }
+
+    @Test public void should_fail_when_any_query_fails() {
+        // Given
+        AsyncTransaction tx = mock(AsyncTransaction.class);
+        CompletableFuture<ResultCursor> succeeded = CompletableFuture.completedFuture(cursorWithNodesCreated(1));
+        CompletableFuture<ResultCursor> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new IllegalStateException("boom"));
+        when(tx.runAsync(any(Query.class))).thenReturn(succeeded).thenReturn(failed);
+        List<Query> queries = new ArrayList<>();
+        queries.add(new Query("CREATE (:Person)"));
+        queries.add(new Query("CREATE (:Person"));
+
+        // When
+        CompletionStage<SummaryCounters> result = Neo4jClientImpl.runPipelined(tx, queries);
+
+        // Then
+        assertThat(result.toCompletableFuture()).isCompletedExceptionally();
+    }
+
+    @Test public void should_return_summaries_in_query_order() {
+        // Given
+        AsyncTransaction tx = mock(AsyncTransaction.class);
+        List<CompletableFuture<ResultCursor>> cursors = new ArrayList<>();
+        when(tx.runAsync(any(Query.class))).thenAnswer(invocation -> {
+            CompletableFuture<ResultCursor> cursor = new CompletableFuture<>();
+            cursors.add(cursor);
+            return cursor;
+        });
+        List<Query> queries = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            queries.add(new Query("CREATE (:Person {id: $id})"));
+        }
+
+        // When
+        CompletionStage<List<ResultSummary>> result = Neo4jClientImpl.runAllPipelined(tx, queries);
+        cursors.get(2).complete(cursorWithNodesCreated(3));
+        cursors.get(0).complete(cursorWithNodesCreated(1));
+        cursors.get(1).complete(cursorWithNodesCreated(2));
+
+        // Then
+        assertThat(result.toCompletableFuture().join())
+                .extracting(summary -> summary.counters().nodesCreated())
+                .containsExactly(1, 2, 3);
+    }
+
+    @Test public void should_map_records_as_they_are_received() {
+        // Given
+        ResultCursor cursor = mock(ResultCursor.class);
+        CompletableFuture<Record> second = new CompletableFuture<>();
+        when(cursor.nextAsync())
+                .thenReturn(CompletableFuture.completedFuture(record(1)))
+                .thenReturn(second)
+                .thenReturn(CompletableFuture.completedFuture(null));
+        List<Record> mapped = new ArrayList<>();
+
+        // When
+        CompletionStage<List<Integer>> result = Neo4jClientImpl.mapRecords(cursor, record -> {
+            mapped.add(record);
+            return record.get("n").asInt();
+        });
+
+        // Then
+        assertThat(mapped).hasSize(1);
+        assertThat(result.toCompletableFuture()).isNotDone();
+        second.complete(record(2));
+        assertThat(result.toCompletableFuture().join()).containsExactly(1, 2);
+        verify(cursor, never()).listAsync();
+        verify(cursor, never()).listAsync(any());
+    }
+
+    @Test public void should_roll_back_and_close_session_when_run_fails() {
+        // Given
+        AsyncTransaction tx = mock(AsyncTransaction.class);
+        CompletableFuture<ResultCursor> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new ClientException("Neo.ClientError.Statement.SyntaxError", "Invalid input"));
+        when(tx.runAsync(anyString(), any(Value.class))).thenReturn(failed);
+        when(tx.rollbackAsync()).thenReturn(CompletableFuture.completedFuture(null));
+        AsyncSession session = mock(AsyncSession.class);
+        when(session.beginTransactionAsync(any(TransactionConfig.class))).thenReturn(CompletableFuture.completedFuture(tx));
+        when(session.closeAsync()).thenReturn(CompletableFuture.completedFuture(null));
+
+        // When
+        CompletionStage<ResultCursor> result = Neo4jClientImpl.beginAndRun(session, TransactionConfig.empty(), "RETURN 1 +", Values.parameters(), (t, cursor) -> cursor);
+
+        // Then
+        assertThatThrownBy(() -> result.toCompletableFuture().join()).hasCauseInstanceOf(ClientException.class);
+        InOrder inOrder = inOrder(tx, session);
+        inOrder.verify(tx).rollbackAsync();
+        inOrder.verify(session).closeAsync();
+    }
+
+    @Test public void should_close_session_when_begin_fails() {
+        // Given
+        CompletableFuture<AsyncTransaction> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new ServiceUnavailableException("unavailable"));
+        AsyncSession session = mock(AsyncSession.class);
+        when(session.beginTransactionAsync(any(TransactionConfig.class))).thenReturn(failed);
+        when(session.closeAsync()).thenReturn(CompletableFuture.completedFuture(null));
+
+        // When
+        CompletionStage<ResultCursor> result = Neo4jClientImpl.beginAndRun(session, TransactionConfig.empty(), "RETURN 1", Values.parameters(), (t, cursor) -> cursor);
+
+        // Then
+        assertThatThrownBy(() -> result.toCompletableFuture().join()).hasCauseInstanceOf(ServiceUnavailableException.class);
+        verify(session).closeAsync();
+    }
+
+    @Test public void should_use_default_timeout_when_call_has_no_timeout() {
+        // When
+        long timeoutMillis = Neo4jClientImpl.timeoutMillis(new QueryOptions(), 5_000);
+
+        // Then
+        assertThat(timeoutMillis).isEqualTo(5_000);
+    }
+
+    @Test public void should_disable_default_timeout_when_call_timeout_is_zero() {
+        // When
+        long timeoutMillis = Neo4jClientImpl.timeoutMillis(new QueryOptions().setTimeoutMillis(0), 5_000);
+
+        // Then
+        assertThat(timeoutMillis).isZero();
+    }
+
+    @Test public void should_convert_metadata_to_plain_values() {
+        // Given
+        JsonObject metadata = new JsonObject()
+                .put("service", "billing")
+                .put("request", new JsonObject().put("id", 42))
+                .put("tags", new JsonArray().add("slow").add(new JsonObject().put("level", 2)));
+
+        // When
+        Map<String, Object> map = Neo4jClientImpl.toMap(metadata);
+
+        // Then
+        assertThat(map.get("service")).isEqualTo("billing");
+        assertThat(map.get("request")).isEqualTo(Collections.singletonMap("id", 42));
+        assertThat(map.get("tags")).isEqualTo(Arrays.asList("slow", Collections.singletonMap("level", 2)));
+        assertThat(Values.value(map).get("tags").get(1).get("level").asInt()).isEqualTo(2);
+    }
+
+    @Test public void should_split_rows_in_unwind_queries() {
+        // Given
+        List<Value> rows = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            rows.add(Values.parameters("id", i));
+        }
+
+        // When
+        List<Query> queries = Neo4jClientImpl.unwindQueries("CREATE (:Item {id: row.id})", rows, 10);
+
+        // Then
+        assertThat(queries).hasSize(3);
+        assertThat(queries).extracting(Query::text).containsOnly("UNWIND $rows AS row CREATE (:Item {id: row.id})");
+        assertThat(queries.get(0).parameters().get("rows").size()).isEqualTo(10);
+        assertThat(queries.get(2).parameters().get("rows").size()).isEqualTo(5);
+        assertThat(queries.get(2).parameters().get("rows").get(4).get("id").asInt()).isEqualTo(24);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void should_reject_non_positive_chunk_size() {
+        Neo4jClientImpl.unwindQueries("CREATE (:Item {id: row.id})", new ArrayList<>(), 0);
+    }
+
+    private static Record record(int n) {
+        return new InternalRecord(Collections.singletonList("n"), new Value[]{Values.value(n)});
+    }
+
+    private static ResultCursor cursorWithNodesCreated(int nodesCreated) {
+        ResultSummary summary = mock(ResultSummary.class);
+        when(summary.counters()).thenReturn(new InternalSummaryCounters(nodesCreated, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0));
+        ResultCursor cursor = mock(ResultCursor.class);
+        when(cursor.consumeAsync()).thenReturn(CompletableFuture.completedFuture(summary));
+        return cursor;
+    }
+}
@@ -0,0 +1,289 @@
+/*
+ * Copyright (c) 2018-2020 Olympe S.A.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.reactiverse.neo4j.impl;
+
+import io.reactiverse.neo4j.Neo4jClient;
+import io.reactiverse.neo4j.options.Neo4jClientAuthOptions;
+import io.reactiverse.neo4j.options.Neo4jClientOptions;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.unit.junit.VertxUnitRunner;
+import org.junit.*;
+import org.junit.runner.RunWith;
+import org.neo4j.driver.Query;
+import org.neo4j.harness.junit.Neo4jRule;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static io.reactiverse.neo4j.options.AuthSchemeOption.NONE;
+import static org.neo4j.driver.Values.parameters;
+
+/**
+ * Load and soak suite : each scenario drives the client with {@code load.concurrency} concurrent loops of one kind of
+ * call during {@code load.durationSeconds}, after {@code load.warmupSeconds} of warmup, and reports its throughput, its
+ * latency percentiles, the saturation of the connection pool and the sessions and streams left open once done.
+ * <p>
+ * The results of all the scenarios are written in {@code load.resultFile}, as JSON. Run with {@code mvn -Pload verify}.
+ */
+@RunWith(VertxUnitRunner.class)
+public class Neo4jClientLoadIT {
+
+    private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 16);
+    private static final long WARMUP_MILLIS = TimeUnit.SECONDS.toMillis(Long.getLong("load.warmupSeconds", 5));
+    private static final long DURATION_MILLIS = TimeUnit.SECONDS.toMillis(Long.getLong("load.durationSeconds", 30));
+    private static final String RESULT_FILE = System.getProperty("load.resultFile", "target/load-results.json");
+
+    private static final int PERSONS = 1000;
+    private static final int BULK_SIZE = 10;
+    private static final int STREAMED_RECORDS = 100;
+    private static final long SAMPLING_PERIOD_MILLIS = 100;
+    // the sessions are closed once the result handler is called
+    private static final long SESSIONS_CLOSE_GRACE_MILLIS = 1000;
+
+    private static final JsonObject scenarios = new JsonObject();
+
+    @ClassRule
+    public static Neo4jRule neo4j = new Neo4jRule()
+            .withFixture("UNWIND range(1, " + PERSONS + ") AS id CREATE (:Person {id: id, name: 'person-' + id})");
+
+    private Vertx vertx;
+    private Neo4jClient neo4jClient;
+
+    @Before
+    public void onSetUp() {
+        vertx = Vertx.vertx();
+        neo4jClient = Neo4jClient.createNonShared(vertx, new Neo4jClientOptions()
+                .setMetricsEnabled(true)
+                .setLatencyTrackingEnabled(true)
+                .setLogLeakedSessions(true)
+                .setAuthOptions(new Neo4jClientAuthOptions().setAuthScheme(NONE))
+                .setHost(neo4j.boltURI().getHost())
+                .setPort(neo4j.boltURI().getPort())
+        );
+    }
+
+    @After
+    public void onTearDown(TestContext context) {
+        neo4jClient.close();
+        vertx.close(context.asyncAssertSuccess());
+    }
+
+    @AfterClass
+    public static void writeResults() throws IOException {
+        JsonObject results = new JsonObject()
+                .put("concurrency", CONCURRENCY)
+                .put("warmupMillis", WARMUP_MILLIS)
+                .put("durationMillis", DURATION_MILLIS)
+                .put("scenarios", scenarios);
+        Path resultFile = Paths.get(RESULT_FILE).toAbsolutePath();
+        Files.createDirectories(resultFile.getParent());
+        Files.write(resultFile, results.encodePrettily().getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test public void find(TestContext testContext) {
+        run(testContext, "find", done -> neo4jClient.find("MATCH (p:Person) WHERE p.id > $id RETURN p LIMIT 10",
+                parameters("id", randomPerson()), ar -> done.handle(ar.mapEmpty())));
+    }
+
+    @Test public void findOne(TestContext testContext) {
+        run(testContext, "findOne", done -> neo4jClient.findOne("MATCH (p:Person {id: $id}) RETURN p",
+                parameters("id", randomPerson()), ar -> done.handle(ar.mapEmpty())));
+    }
+
+    @Test public void bulkWrite(TestContext testContext) {
+        run(testContext, "bulkWrite", done -> {
+            List<Query> queries = new ArrayList<>(BULK_SIZE);
+            for (int i = 0; i < BULK_SIZE; i++) {
+                queries.add(new Query("MATCH (p:Person {id: $id}) CREATE (p)-[:WROTE]->(:Note {at: timestamp()})",
+                        parameters("id", randomPerson())));
+            }
+            neo4jClient.bulkWrite(queries, ar -> done.handle(ar.mapEmpty()));
+        });
+    }
+
+    @Test public void queryStream(TestContext testContext) {
+        run(testContext, "queryStream", done -> neo4jClient.queryStream("MATCH (p:Person) RETURN p LIMIT $limit",
+                parameters("limit", STREAMED_RECORDS), ar -> {
+                    if (ar.failed()) {
+                        done.handle(Future.failedFuture(ar.cause()));
+                        return;
+                    }
+                    AtomicInteger received = new AtomicInteger();
+                    ar.result()
+                            .exceptionHandler(error -> done.handle(Future.failedFuture(error)))
+                            .endHandler(end -> done.handle(received.get() == STREAMED_RECORDS
+                                    ? Future.<Void>succeededFuture()
+                                    : Future.<Void>failedFuture("Received " + received.get() + " records")))
+                            .handler(record -> received.incrementAndGet());
+                }));
+    }
+
+    @Test public void transaction(TestContext testContext) {
+        run(testContext, "transaction", done -> neo4jClient.begin(begin -> {
+            if (begin.failed()) {
+                done.handle(Future.failedFuture(begin.cause()));
+                return;
+            }
+            int id = randomPerson();
+            Promise<Void> work = Promise.promise();
+            begin.result().query("MATCH (p:Person {id: $id}) SET p.visits = coalesce(p.visits, 0) + 1", parameters("id", id), update -> {
+                if (update.failed()) {
+                    work.fail(update.cause());
+                    return;
+                }
+                begin.result().readQuery(new Query("MATCH (p:Person {id: $id}) RETURN p.visits", parameters("id", id)),
+                        read -> work.handle(read.mapEmpty()));
+            });
+            work.future().onComplete(ar -> {
+                if (ar.succeeded()) {
+                    begin.result().commit(done);
+                } else {
+                    begin.result().rollback(rollback -> done.handle(ar));
+                }
+            });
+        }));
+    }
+
+    /**
+     * Runs the concurrent loops of the scenario until its end, then records its results once the sessions are closed.
+     */
+    private void run(TestContext testContext, String scenario, Handler<Handler<AsyncResult<Void>>> call) {
+        Async async = testContext.async();
+        ScenarioStats stats = new ScenarioStats();
+        long measuredFrom = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(WARMUP_MILLIS);
+        long measuredUntil = measuredFrom + TimeUnit.MILLISECONDS.toNanos(DURATION_MILLIS);
+        long sampler = vertx.setPeriodic(SAMPLING_PERIOD_MILLIS, id -> stats.sample(neo4jClient.metrics()));
+        AtomicInteger runningLoops = new AtomicInteger(CONCURRENCY);
+        Handler<Void> loopDone = v -> {
+            if (runningLoops.decrementAndGet() == 0) {
+                vertx.cancelTimer(sampler);
+                vertx.setTimer(SESSIONS_CLOSE_GRACE_MILLIS, id -> {
+                    JsonObject result = stats.toJson(neo4jClient.metrics(), neo4jClient.queryLatencies());
+                    scenarios.put(scenario, result);
+                    testContext.assertEquals(result.getLong("failed"), 0L, "Failed calls of " + scenario + " : " + result.getJsonArray("errors"));
+                    testContext.assertTrue(result.getLong("succeeded") > 0, "No call of " + scenario + " measured");
+                    testContext.assertEquals(result.getInteger("leakedSessions"), 0, "Leaked sessions");
+                    testContext.assertEquals(result.getInteger("leakedStreams"), 0, "Leaked streams");
+                    async.complete();
+                });
+            }
+        };
+        vertx.runOnContext(v -> {
+            for (int i = 0; i < CONCURRENCY; i++) {
+                loop(call, stats, measuredFrom, measuredUntil, loopDone);
+            }
+        });
+    }
+
+    private void loop(Handler<Handler<AsyncResult<Void>>> call, ScenarioStats stats, long measuredFrom, long measuredUntil, Handler<Void> loopDone) {
+        long startedAt = System.nanoTime();
+        if (startedAt >= measuredUntil) {
+            loopDone.handle(null);
+            return;
+        }
+        call.handle(ar -> {
+            if (startedAt >= measuredFrom) {
+                stats.record(ar, System.nanoTime() - startedAt);
+            }
+            loop(call, stats, measuredFrom, measuredUntil, loopDone);
+        });
+    }
+
+    private static int randomPerson() {
+        return ThreadLocalRandom.current().nextInt(1, PERSONS + 1);
+    }
+
+    private static final class ScenarioStats {
+
+        private static final int MAX_ERRORS = 10;
+
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final AtomicLong failed = new AtomicLong();
+        private final JsonArray errors = new JsonArray();
+        private int maxInUse;
+        private int maxAcquiring;
+        private long samples;
+        private long saturatedSamples;
+
+        void record(AsyncResult<Void> ar, long nanos) {
+            if (ar.succeeded()) {
+                latency.recordNanos(nanos);
+            } else {
+                failed.incrementAndGet();
+                synchronized (errors) {
+                    if (errors.size() < MAX_ERRORS) {
+                        errors.add(String.valueOf(ar.cause()));
+                    }
+                }
+            }
+        }
+
+        /**
+         * A sample is saturated when a request waits for a connection of the pool.
+         */
+        synchronized void sample(JsonObject metrics) {
+            JsonArray pools = metrics.getJsonArray("connectionPools", new JsonArray());
+            int inUse = 0;
+            int acquiring = 0;
+            for (int i = 0; i < pools.size(); i++) {
+                inUse += pools.getJsonObject(i).getInteger("inUse");
+                acquiring += pools.getJsonObject(i).getInteger("acquiring");
+            }
+            maxInUse = Math.max(maxInUse, inUse);
+            maxAcquiring = Math.max(maxAcquiring, acquiring);
+            samples++;
+            if (acquiring > 0) {
+                saturatedSamples++;
+            }
+        }
+
+        synchronized JsonObject toJson(JsonObject metrics, JsonObject queryLatencies) {
+            long succeeded = latency.count();
+            return new JsonObject()
+                    .put("succeeded", succeeded)
+                    .put("failed", failed.get())
+                    .put("errors", errors.copy())
+                    .put("throughputPerSecond", succeeded * 1000.0 / DURATION_MILLIS)
+                    .put("latency", latency.toJson())
+                    .put("pool", new JsonObject()
+                            .put("maxInUse", maxInUse)
+                            .put("maxAcquiring", maxAcquiring)
+                            .put("saturatedRatio", samples == 0 ? 0 : (double) saturatedSamples / samples)
+                            .put("connectionPools", metrics.getJsonArray("connectionPools")))
+                    .put("leakedSessions", metrics.getInteger("inFlightSessions"))
+                    .put("leakedStreams", metrics.getInteger("openStreams"))
+                    .put("queryLatencies", queryLatencies);
+        }
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2018-2020 Olympe S.A.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.reactiverse.neo4j.impl;
+
+import io.reactiverse.neo4j.ResultCursor;
+import io.vertx.core.*;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.unit.junit.VertxUnitRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.neo4j.driver.Record;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.Values;
+import org.neo4j.driver.async.AsyncSession;
+import org.neo4j.driver.async.AsyncTransaction;
+import org.neo4j.driver.internal.InternalRecord;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.mockito.Mockito.*;
+
+@RunWith(VertxUnitRunner.class)
+public class Neo4jRecordStreamImplTest {
+
+    private Vertx vertx;
+    private AsyncTransaction tx;
+    private AsyncSession session;
+
+    @Before
+    public void setUp() {
+        vertx = Vertx.vertx();
+        tx = mock(AsyncTransaction.class);
+        when(tx.commitAsync()).thenReturn(completedFuture(null));
+        session = mock(AsyncSession.class);
+        when(session.closeAsync()).thenReturn(completedFuture(null));
+    }
+
+    @After
+    public void tearDown(TestContext testContext) {
+        vertx.close(testContext.asyncAssertSuccess());
+    }
+
+    @Test public void should_stream_all_records_on_context_when_handlers_are_set_from_another_thread(TestContext testContext) {
+        Async async = testContext.async();
+        Context context = vertx.getOrCreateContext();
+        Neo4jRecordStreamImpl stream = new Neo4jRecordStreamImpl(context, tx, session, new ListResultCursor(context, records(250)), 100);
+        AtomicInteger expected = new AtomicInteger();
+
+        new Thread(() -> stream
+                .endHandler(end -> {
+                    testContext.assertEquals(expected.get(), 250);
+                    verify(tx).commitAsync();
+                    async.complete();
+                })
+                .exceptionHandler(testContext::fail)
+                .handler(record -> {
+                    testContext.assertEquals(Vertx.currentContext(), context);
+                    testContext.assertEquals(record.get("n").asInt(), expected.getAndIncrement());
+                })).start();
+    }
+
+    @Test public void should_not_emit_records_while_paused(TestContext testContext) {
+        Async async = testContext.async();
+        Context context = vertx.getOrCreateContext();
+        Neo4jRecordStreamImpl stream = new Neo4jRecordStreamImpl(context, tx, session, new ListResultCursor(context, records(50)), 20);
+        List<Record> received = new ArrayList<>();
+
+        stream.pause();
+        stream.endHandler(end -> {
+            testContext.assertEquals(received.size(), 50);
+            async.complete();
+        }).handler(received::add);
+
+        vertx.setTimer(100, id -> {
+            testContext.assertTrue(received.isEmpty());
+            new Thread(stream::resume).start();
+        });
+    }
+
+    @Test public void should_stop_on_cursor_failure(TestContext testContext) {
+        Async async = testContext.async();
+        Context context = vertx.getOrCreateContext();
+        ResultCursor failingCursor = new ResultCursor() {
+            @Override
+            public ResultCursor one(Handler<AsyncResult<Record>> handler) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public ResultCursor next(int max, Handler<AsyncResult<List<Record>>> handler) {
+                context.runOnContext(v -> handler.handle(Future.failedFuture(new IllegalStateException("boom"))));
+                return this;
+            }
+        };
+
+        new Neo4jRecordStreamImpl(context, tx, session, failingCursor, 10)
+                .endHandler(end -> testContext.fail("should not end"))
+                .exceptionHandler(error -> {
+                    testContext.assertEquals(error.getMessage(), "boom");
+                    verify(tx).commitAsync();
+                    async.complete();
+                })
+                .handler(record -> testContext.fail("should not emit"));
+    }
+
+    @Test public void should_stream_records_delivered_synchronously_without_recursing(TestContext testContext) {
+        Async async = testContext.async();
+        Context context = vertx.getOrCreateContext();
+        List<Record> records = records(100_000);
+        ResultCursor bufferedCursor = new ResultCursor() {
+            private int index;
+
+            @Override
+            public ResultCursor one(Handler<AsyncResult<Record>> handler) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public ResultCursor next(int max, Handler<AsyncResult<List<Record>>> handler) {
+                int end = Math.min(records.size(), index + max);
+                List<Record> batch = new ArrayList<>(records.subList(index, end));
+                index = end;
+                handler.handle(Future.succeededFuture(batch));
+                return this;
+            }
+        };
+        AtomicInteger received = new AtomicInteger();
+
+        context.runOnContext(v -> new Neo4jRecordStreamImpl(context, tx, session, bufferedCursor, 1)
+                .endHandler(end -> {
+                    testContext.assertEquals(received.get(), 100_000);
+                    async.complete();
+                })
+                .exceptionHandler(testContext::fail)
+                .handler(record -> received.incrementAndGet()));
+    }
+
+    private static List<Record> records(int count) {
+        List<Record> records = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            records.add(new InternalRecord(Collections.singletonList("n"), new Value[]{Values.value(i)}));
+        }
+        return records;
+    }
+
+    /**
+     * Serves a list of records by batches, completing on the given context.
+     */
+    private static class ListResultCursor implements ResultCursor {
+
+        private final Context context;
+        private final List<Record> records;
+        private int index;
+
+        ListResultCursor(Context context, List<Record> records) {
+            this.context = context;
+            this.records = records;
+        }
+
+        @Override
+        public ResultCursor one(Handler<AsyncResult<Record>> handler) {
+            return next(1, ar -> handler.handle(ar.map(batch -> batch.isEmpty() ? null : batch.get(0))));
+        }
+
+        @Override
+        public ResultCursor next(int max, Handler<AsyncResult<List<Record>>> handler) {
+            int end = Math.min(records.size(), index + max);
+            List<Record> batch = new ArrayList<>(records.subList(index, end));
+            index = end;
+            context.runOnContext(v -> handler.handle(Future.succeededFuture(batch)));
+            return this;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2018-2020 Olympe S.A.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.reactiverse.neo4j.impl;
+
+import io.vertx.core.Vertx;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.unit.junit.VertxUnitRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.neo4j.driver.async.AsyncSession;
+import org.neo4j.driver.async.AsyncTransaction;
+import org.neo4j.driver.exceptions.ServiceUnavailableException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.mockito.Mockito.*;
+
+@RunWith(VertxUnitRunner.class)
+public class Neo4jTransactionImplTest {
+
+    private Vertx vertx;
+    private AsyncTransaction tx;
+    private AsyncSession session;
+
+    @Before
+    public void setUp() {
+        vertx = Vertx.vertx();
+        tx = mock(AsyncTransaction.class);
+        session = mock(AsyncSession.class);
+        when(session.closeAsync()).thenReturn(completedFuture(null));
+    }
+
+    @After
+    public void tearDown(TestContext testContext) {
+        vertx.close(testContext.asyncAssertSuccess());
+    }
+
+    @Test public void should_end_and_close_session_when_commit_fails(TestContext testContext) {
+        Async async = testContext.async();
+        CompletableFuture<Void> commit = new CompletableFuture<>();
+        commit.completeExceptionally(new ServiceUnavailableException("unavailable"));
+        when(tx.commitAsync()).thenReturn(commit);
+        AtomicInteger ends = new AtomicInteger();
+        Neo4jTransactionImpl transaction = new Neo4jTransactionImpl(vertx, tx, session, null, ends::incrementAndGet);
+
+        transaction.commit(testContext.asyncAssertFailure(error -> {
+            testContext.assertTrue(error instanceof ServiceUnavailableException);
+            testContext.assertEquals(ends.get(), 1);
+            vertx.setTimer(10, id -> {
+                verify(session).closeAsync();
+                async.complete();
+            });
+        }));
+    }
+
+    @Test public void should_end_once_when_rolled_back_after_commit(TestContext testContext) {
+        Async async = testContext.async();
+        when(tx.commitAsync()).thenReturn(completedFuture(null));
+        when(tx.rollbackAsync()).thenReturn(completedFuture(null));
+        AtomicInteger ends = new AtomicInteger();
+        Neo4jTransactionImpl transaction = new Neo4jTransactionImpl(vertx, tx, session, null, ends::incrementAndGet);
+
+        transaction.commit(testContext.asyncAssertSuccess(committed -> transaction.rollback(rolledBack -> {
+            testContext.assertEquals(ends.get(), 1);
+            async.complete();
+        })));
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2018-2020 Olympe S.A.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.reactiverse.neo4j.impl;
+
+import io.reactiverse.neo4j.Neo4jClient;
+import io.vertx.core.*;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.unit.junit.VertxUnitRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.neo4j.driver.Query;
+import org.neo4j.driver.exceptions.ClientException;
+import org.neo4j.driver.internal.summary.InternalSummaryCounters;
+import org.neo4j.driver.summary.SummaryCounters;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@RunWith(VertxUnitRunner.class)
+public class Neo4jWriteStreamImplTest {
+
+    private Vertx vertx;
+    private Neo4jClient client;
+    private List<Integer> chunkSizes;
+
+    @Before
+    public void setUp() {
+        vertx = Vertx.vertx();
+        client = mock(Neo4jClient.class);
+        chunkSizes = new ArrayList<>();
+    }
+
+    @After
+    public void tearDown(TestContext testContext) {
+        vertx.close(testContext.asyncAssertSuccess());
+    }
+
+    @Test public void should_commit_written_queries_by_chunks(TestContext testContext) {
+        Async async = testContext.async();
+        givenBulkWrite(chunk -> Future.succeededFuture(nodesCreated(chunk.size())));
+        Neo4jWriteStreamImpl stream = new Neo4jWriteStreamImpl(vertx.getOrCreateContext(), client::bulkWrite, 10);
+
+        new Thread(() -> {
+            for (int i = 0; i < 25; i++) {
+                stream.write(query(i));
+            }
+            stream.end(testContext.asyncAssertSuccess(v -> {
+                testContext.assertEquals(chunkSizes.toString(), "[10, 10, 5]");
+                testContext.assertEquals(stream.counters().nodesCreated(), 25);
+                async.complete();
+            }));
+        }).start();
+    }
+
+    @Test public void should_signal_full_write_queue_until_a_chunk_is_committed(TestContext testContext) {
+        Async async = testContext.async();
+        List<Promise<SummaryCounters>> commits = new ArrayList<>();
+        givenBulkWrite(chunk -> {
+            Promise<SummaryCounters> commit = Promise.promise();
+            commits.add(commit);
+            return commit.future().map(ignore -> nodesCreated(chunk.size()));
+        });
+        Context context = vertx.getOrCreateContext();
+        Neo4jWriteStreamImpl stream = new Neo4jWriteStreamImpl(context, client::bulkWrite, 10);
+
+        context.runOnContext(v -> {
+            for (int i = 0; i < 19; i++) {
+                stream.write(query(i));
+            }
+            testContext.assertFalse(stream.writeQueueFull());
+            stream.write(query(19));
+            testContext.assertTrue(stream.writeQueueFull());
+            testContext.assertEquals(commits.size(), 1);
+            stream.drainHandler(drained -> {
+                testContext.assertFalse(stream.writeQueueFull());
+                testContext.assertEquals(commits.size(), 2);
+                async.complete();
+            });
+            commits.get(0).complete();
+        });
+    }
+
+    @Test public void should_commit_partial_chunk_when_write_queue_is_smaller(TestContext testContext) {
+        Async async = testContext.async();
+        List<Promise<SummaryCounters>> commits = new ArrayList<>();
+        givenBulkWrite(chunk -> {
+            Promise<SummaryCounters> commit = Promise.promise();
+            commits.add(commit);
+            return commit.future().map(ignore -> nodesCreated(chunk.size()));
+        });
+        Context context = vertx.getOrCreateContext();
+        Neo4jWriteStreamImpl stream = new Neo4jWriteStreamImpl(context, client::bulkWrite, 10);
+        stream.setWriteQueueMaxSize(3);
+
+        context.runOnContext(v -> {
+            for (int i = 0; i < 3; i++) {
+                stream.write(query(i));
+            }
+            testContext.assertTrue(stream.writeQueueFull());
+            testContext.assertEquals(chunkSizes.toString(), "[3]");
+            stream.drainHandler(drained -> {
+                testContext.assertFalse(stream.writeQueueFull());
+                testContext.assertEquals(stream.counters().nodesCreated(), 3);
+                async.complete();
+            });
+            commits.get(0).complete();
+        });
+    }
+
+    @Test public void should_not_drain_once_ended(TestContext testContext) {
+        Async async = testContext.async();
+        List<Promise<SummaryCounters>> commits = new ArrayList<>();
+        givenBulkWrite(chunk -> {
+            Promise<SummaryCounters> commit = Promise.promise();
+            commits.add(commit);
+            return commit.future().map(ignore -> nodesCreated(chunk.size()));
+        });
+        Context context = vertx.getOrCreateContext();
+        Neo4jWriteStreamImpl stream = new Neo4jWriteStreamImpl(context, client::bulkWrite, 2);
+        stream.setWriteQueueMaxSize(2);
+
+        context.runOnContext(v -> {
+            stream.write(query(0));
+            stream.write(query(1));
+            stream.drainHandler(drained -> testContext.fail("drained after end"));
+            stream.end(testContext.asyncAssertSuccess(ended -> {
+                testContext.assertEquals(stream.counters().nodesCreated(), 2);
+                vertx.runOnContext(ignore -> async.complete());
+            }));
+            commits.get(0).complete();
+        });
+    }
+
+    @Test public void should_fail_end_and_following_writes_when_a_chunk_fails(TestContext testContext) {
+        Async async = testContext.async(3);
+        givenBulkWrite(chunk -> Future.failedFuture(new ClientException("Invalid input")));
+        Context context = vertx.getOrCreateContext();
+        Neo4jWriteStreamImpl stream = new Neo4jWriteStreamImpl(context, client::bulkWrite, 2);
+
+        context.runOnContext(v -> {
+            stream.exceptionHandler(error -> async.countDown());
+            stream.write(query(0));
+            stream.write(query(1), testContext.asyncAssertFailure(error -> {
+                stream.write(query(2), testContext.asyncAssertFailure(ignore -> async.countDown()));
+                stream.end(testContext.asyncAssertFailure(ignore -> async.countDown()));
+            }));
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenBulkWrite(Function<List<Query>, Future<SummaryCounters>> write) {
+        when(client.bulkWrite(anyList(), any())).thenAnswer(invocation -> {
+            List<Query> chunk = invocation.getArgument(0);
+            Handler<AsyncResult<SummaryCounters>> handler = invocation.getArgument(1);
+            chunkSizes.add(chunk.size());
+            write.apply(chunk).onComplete(handler);
+            return client;
+        });
+    }
+
+    private static Query query(int id) {
+        return new Query("CREATE (:Person {id: " + id + "})");
+    }
+
+    private static SummaryCounters nodesCreated(int nodesCreated) {
+        return new InternalSummaryCounters(nodesCreated, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0);
+    }
+}
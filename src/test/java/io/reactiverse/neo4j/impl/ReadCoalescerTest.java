@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2018-2020 Olympe S.A.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.reactiverse.neo4j.impl;
+
+import org.junit.Test;
+import org.neo4j.driver.Values;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.UnaryOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ReadCoalescerTest {
+
+    private static final ReadKey KEY = new ReadKey("MATCH (p:Person {name:$name}) RETURN p", Values.parameters("name", "John"), false);
+
+    private final ReadCoalescer coalescer = new ReadCoalescer();
+
+    @Test public void should_share_result_of_read_in_flight() {
+        // Given
+        AtomicInteger reads = new AtomicInteger();
+        CompletableFuture<List<String>> inFlight = new CompletableFuture<>();
+
+        // When
+        CompletionStage<List<String>> first = coalescer.read(KEY, () -> { reads.incrementAndGet(); return inFlight; }, ArrayList::new);
+        CompletionStage<List<String>> second = coalescer.read(KEY, () -> { reads.incrementAndGet(); return inFlight; }, ArrayList::new);
+        inFlight.complete(Collections.singletonList("John"));
+
+        // Then
+        assertThat(reads.get()).isEqualTo(1);
+        assertThat(first.toCompletableFuture().join()).containsExactly("John");
+        assertThat(second.toCompletableFuture().join()).containsExactly("John");
+        assertThat(second.toCompletableFuture().join()).isNotSameAs(first.toCompletableFuture().join());
+        assertThat(coalescer.inFlight()).isEqualTo(0);
+    }
+
+    @Test public void should_run_new_read_once_result_is_received() {
+        // Given
+        AtomicInteger reads = new AtomicInteger();
+        coalescer.read(KEY, () -> CompletableFuture.completedFuture(reads.incrementAndGet()), UnaryOperator.identity());
+
+        // When
+        CompletionStage<Integer> next = coalescer.read(KEY, () -> CompletableFuture.completedFuture(reads.incrementAndGet()), UnaryOperator.identity());
+
+        // Then
+        assertThat(next.toCompletableFuture().join()).isEqualTo(2);
+    }
+
+    @Test public void should_not_share_result_between_different_keys() {
+        // Given
+        ReadKey otherKey = new ReadKey("MATCH (p:Person {name:$name}) RETURN p", Values.parameters("name", "Jane"), false);
+        AtomicInteger reads = new AtomicInteger();
+
+        // When
+        coalescer.read(KEY, () -> { reads.incrementAndGet(); return new CompletableFuture<>(); }, UnaryOperator.identity());
+        coalescer.read(otherKey, () -> { reads.incrementAndGet(); return new CompletableFuture<>(); }, UnaryOperator.identity());
+
+        // Then
+        assertThat(reads.get()).isEqualTo(2);
+        assertThat(coalescer.inFlight()).isEqualTo(2);
+    }
+
+    @Test public void should_share_failure_of_read_in_flight() {
+        // Given
+        CompletableFuture<String> inFlight = new CompletableFuture<>();
+        CompletionStage<String> first = coalescer.read(KEY, () -> inFlight, UnaryOperator.identity());
+        CompletionStage<String> second = coalescer.read(KEY, () -> inFlight, UnaryOperator.identity());
+
+        // When
+        inFlight.completeExceptionally(new IllegalStateException("boom"));
+
+        // Then
+        assertThatThrownBy(() -> first.toCompletableFuture().join()).hasMessageContaining("boom");
+        assertThatThrownBy(() -> second.toCompletableFuture().join()).hasMessageContaining("boom");
+        assertThat(coalescer.inFlight()).isEqualTo(0);
+    }
+
+    @Test public void should_not_share_read_started_before_a_completed_write() {
+        // Given
+        AtomicInteger reads = new AtomicInteger();
+        CompletableFuture<Integer> beforeWrite = new CompletableFuture<>();
+        CompletableFuture<Integer> afterWrite = new CompletableFuture<>();
+        CompletionStage<Integer> first = coalescer.read(KEY, () -> { reads.incrementAndGet(); return beforeWrite; }, UnaryOperator.identity());
+
+        // When
+        coalescer.writeCompleted();
+        CompletionStage<Integer> second = coalescer.read(KEY, () -> { reads.incrementAndGet(); return afterWrite; }, UnaryOperator.identity());
+        CompletionStage<Integer> third = coalescer.read(KEY, () -> { reads.incrementAndGet(); return new CompletableFuture<>(); }, UnaryOperator.identity());
+        beforeWrite.complete(1);
+        afterWrite.complete(2);
+
+        // Then
+        assertThat(reads.get()).isEqualTo(2);
+        assertThat(first.toCompletableFuture().join()).isEqualTo(1);
+        assertThat(second.toCompletableFuture().join()).isEqualTo(2);
+        assertThat(third.toCompletableFuture().join()).isEqualTo(2);
+        assertThat(coalescer.inFlight()).isEqualTo(0);
+    }
+
+    @Test public void should_not_share_read_filling_the_cache_with_other_reads() {
+        // Given
+        AtomicInteger reads = new AtomicInteger();
+
+        // When
+        coalescer.read(KEY, () -> { reads.incrementAndGet(); return new CompletableFuture<>(); }, UnaryOperator.identity());
+        coalescer.read(KEY.cachedRead(), () -> { reads.incrementAndGet(); return new CompletableFuture<>(); }, UnaryOperator.identity());
+        coalescer.read(KEY.cachedRead(), () -> { reads.incrementAndGet(); return new CompletableFuture<>(); }, UnaryOperator.identity());
+
+        // Then
+        assertThat(reads.get()).isEqualTo(2);
+        assertThat(coalescer.inFlight()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2018-2020 Olympe S.A.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.reactiverse.neo4j.impl;
+
+import org.junit.Test;
+import org.neo4j.driver.Record;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.Values;
+import org.neo4j.driver.async.ResultCursor;
+import org.neo4j.driver.internal.InternalRecord;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+public class RecordCollectorTest {
+
+    @Test public void should_fold_all_records() {
+        // Given
+        ResultCursor cursor = cursorOf(1000);
+
+        // When
+        CompletionStage<Integer> result = RecordCollector.collect(cursor, Collectors.summingInt(record -> record.get("n").asInt()), Long.MAX_VALUE, false);
+
+        // Then
+        assertThat(result.toCompletableFuture().join()).isEqualTo(999 * 1000 / 2);
+    }
+
+    @Test public void should_fail_as_soon_as_max_records_is_exceeded() {
+        // Given
+        ResultCursor cursor = cursorOf(10);
+
+        // When
+        CompletionStage<List<Record>> result = RecordCollector.collect(cursor, Collectors.toList(), 3, false);
+
+        // Then
+        assertThatThrownBy(() -> result.toCompletableFuture().join()).hasCauseInstanceOf(IllegalStateException.class);
+        verify(cursor, times(4)).nextAsync();
+    }
+
+    @Test public void should_succeed_when_max_records_is_reached_exactly() {
+        // Given
+        ResultCursor cursor = cursorOf(3);
+
+        // When
+        CompletionStage<List<Record>> result = RecordCollector.collect(cursor, Collectors.toList(), 3, false);
+
+        // Then
+        assertThat(result.toCompletableFuture().join()).hasSize(3);
+    }
+
+    @Test public void should_truncate_without_reading_the_rest() {
+        // Given
+        ResultCursor cursor = cursorOf(10);
+
+        // When
+        CompletionStage<List<Record>> result = RecordCollector.collect(cursor, Collectors.toList(), 3, true);
+
+        // Then
+        assertThat(result.toCompletableFuture().join()).extracting(record -> record.get("n").asInt()).containsExactly(0, 1, 2);
+        verify(cursor, times(3)).nextAsync();
+    }
+
+    @Test public void should_wait_for_records_not_yet_received() {
+        // Given
+        ResultCursor cursor = mock(ResultCursor.class);
+        CompletableFuture<Record> second = new CompletableFuture<>();
+        when(cursor.nextAsync())
+                .thenReturn(CompletableFuture.completedFuture(record(0)))
+                .thenReturn(second)
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        // When
+        CompletionStage<List<Record>> result = RecordCollector.collect(cursor, Collectors.toList(), Long.MAX_VALUE, false);
+
+        // Then
+        assertThat(result.toCompletableFuture()).isNotDone();
+        second.complete(record(1));
+        assertThat(result.toCompletableFuture().join()).hasSize(2);
+    }
+
+    @Test public void should_fail_when_cursor_fails() {
+        // Given
+        ResultCursor cursor = mock(ResultCursor.class);
+        CompletableFuture<Record> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new IllegalStateException("boom"));
+        when(cursor.nextAsync()).thenReturn(CompletableFuture.completedFuture(record(0))).thenReturn(failed);
+
+        // When
+        CompletionStage<List<Record>> result = RecordCollector.collect(cursor, Collectors.toList(), Long.MAX_VALUE, false);
+
+        // Then
+        assertThatThrownBy(() -> result.toCompletableFuture().join()).hasMessageContaining("boom");
+    }
+
+    private static ResultCursor cursorOf(int count) {
+        List<CompletionStage<Record>> remaining = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            remaining.add(CompletableFuture.completedFuture(record(i)));
+        }
+        ResultCursor cursor = mock(ResultCursor.class);
+        when(cursor.nextAsync()).thenAnswer(invocation -> remaining.isEmpty() ? CompletableFuture.completedFuture(null) : remaining.remove(0));
+        return cursor;
+    }
+
+    private static Record record(int n) {
+        return new InternalRecord(Collections.singletonList("n"), new Value[]{Values.value(n)});
+    }
+}
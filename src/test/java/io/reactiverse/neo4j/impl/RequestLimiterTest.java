@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2018-2020 Olympe S.A.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.reactiverse.neo4j.impl;
+
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RequestLimiterTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test public void should_queue_requests_beyond_limit() {
+        // Given
+        RequestLimiter limiter = new RequestLimiter(1, 1, false, now::get);
+        CompletableFuture<String> first = new CompletableFuture<>();
+        AtomicInteger started = new AtomicInteger();
+
+        // When
+        CompletionStage<String> firstResult = limiter.submit(null, () -> {
+            started.incrementAndGet();
+            return first;
+        });
+        CompletionStage<String> secondResult = limiter.submit(null, () -> {
+            started.incrementAndGet();
+            return CompletableFuture.completedFuture("second");
+        });
+
+        // Then
+        assertThat(started.get()).isEqualTo(1);
+        assertThat(limiter.queued()).isEqualTo(1);
+        first.complete("first");
+        assertThat(firstResult.toCompletableFuture().join()).isEqualTo("first");
+        assertThat(secondResult.toCompletableFuture().join()).isEqualTo("second");
+        assertThat(started.get()).isEqualTo(2);
+        assertThat(limiter.inFlight()).isEqualTo(0);
+    }
+
+    @Test public void should_reject_requests_when_queue_is_full() {
+        // Given
+        RequestLimiter limiter = new RequestLimiter(1, 1, false, now::get);
+        limiter.submit(null, CompletableFuture::new);
+        limiter.submit(null, CompletableFuture::new);
+
+        // When
+        CompletionStage<Object> rejected = limiter.submit(null, CompletableFuture::new);
+
+        // Then
+        assertThat(rejected.toCompletableFuture()).isCompletedExceptionally();
+        assertThat(limiter.queued()).isEqualTo(1);
+    }
+
+    @Test public void should_release_permit_when_request_fails() {
+        // Given
+        RequestLimiter limiter = new RequestLimiter(1, 0, false, now::get);
+        CompletableFuture<Object> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new IllegalStateException("boom"));
+
+        // When
+        CompletionStage<Object> first = limiter.submit(null, () -> failed);
+        CompletionStage<Object> second = limiter.submit(null, () -> {
+            throw new IllegalStateException("boom");
+        });
+        CompletionStage<String> third = limiter.submit(null, () -> CompletableFuture.completedFuture("third"));
+
+        // Then
+        assertThat(first.toCompletableFuture()).isCompletedExceptionally();
+        assertThat(second.toCompletableFuture()).isCompletedExceptionally();
+        assertThat(third.toCompletableFuture().join()).isEqualTo("third");
+        assertThat(limiter.inFlight()).isEqualTo(0);
+    }
+
+    @Test public void should_lower_limit_when_latency_rises_and_raise_it_back() {
+        // Given
+        RequestLimiter limiter = new RequestLimiter(10, 100, true, now::get);
+        for (int i = 0; i < 50; i++) {
+            request(limiter, 10);
+        }
+        assertThat(limiter.limit()).isEqualTo(10);
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            request(limiter, 100);
+        }
+        int loweredLimit = limiter.limit();
+        for (int i = 0; i < 200; i++) {
+            saturate(limiter, 10);
+        }
+
+        // Then
+        assertThat(loweredLimit).isLessThan(10);
+        assertThat(limiter.limit()).isEqualTo(10);
+    }
+
+    private void request(RequestLimiter limiter, long latencyMillis) {
+        CompletableFuture<Object> response = new CompletableFuture<>();
+        limiter.submit(null, () -> response);
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(latencyMillis));
+        response.complete(null);
+    }
+
+    private void saturate(RequestLimiter limiter, long latencyMillis) {
+        CompletableFuture<Object> response = new CompletableFuture<>();
+        int limit = limiter.limit();
+        for (int i = 0; i < limit; i++) {
+            limiter.submit(null, () -> response);
+        }
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(latencyMillis));
+        response.complete(null);
+    }
+}
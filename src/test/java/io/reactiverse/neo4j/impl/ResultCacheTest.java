@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2018-2020 Olympe S.A.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.reactiverse.neo4j.impl;
+
+import io.vertx.core.json.JsonObject;
+import org.junit.Test;
+import org.neo4j.driver.Values;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ResultCacheTest {
+
+    private static final String QUERY = "MATCH (p:Person {name:$name}) RETURN p";
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test public void should_hit_cached_result() {
+        // Given
+        ResultCache cache = new ResultCache(10, 1000, now::get);
+        ReadKey key = key("John");
+
+        // When
+        Object missed = cache.get(key);
+        cache.put(key, "result", null, cache.generation());
+        Object hit = cache.get(key);
+
+        // Then
+        assertThat(missed).isNull();
+        assertThat(hit).isEqualTo("result");
+        JsonObject stats = cache.stats();
+        assertThat(stats.getInteger("size")).isEqualTo(1);
+        assertThat(stats.getLong("hits")).isEqualTo(1);
+        assertThat(stats.getLong("misses")).isEqualTo(1);
+    }
+
+    @Test public void should_share_key_for_parameters_in_any_order() {
+        // Given
+        Map<String, Object> first = new LinkedHashMap<>();
+        first.put("name", "John");
+        first.put("age", 42);
+        Map<String, Object> second = new LinkedHashMap<>();
+        second.put("age", 42);
+        second.put("name", "John");
+
+        // Then
+        assertThat(new ReadKey(QUERY, Values.value(first), false)).isEqualTo(new ReadKey(QUERY, Values.value(second), false));
+        assertThat(new ReadKey(QUERY, Values.value(first), false)).isNotEqualTo(new ReadKey(QUERY, Values.value(first), true));
+    }
+
+    @Test public void should_evict_least_recently_used_result() {
+        // Given
+        ResultCache cache = new ResultCache(2, 1000, now::get);
+        cache.put(key("John"), "john", null, cache.generation());
+        cache.put(key("Jane"), "jane", null, cache.generation());
+        cache.get(key("John"));
+
+        // When
+        cache.put(key("Jack"), "jack", null, cache.generation());
+
+        // Then
+        assertThat(cache.get(key("Jane"))).isNull();
+        assertThat(cache.get(key("John"))).isEqualTo("john");
+        assertThat(cache.get(key("Jack"))).isEqualTo("jack");
+        assertThat(cache.stats().getLong("evictions")).isEqualTo(1);
+    }
+
+    @Test public void should_expire_result_after_ttl() {
+        // Given
+        ResultCache cache = new ResultCache(10, 1000, now::get);
+        cache.put(key("John"), "john", null, cache.generation());
+
+        // When
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(999));
+        Object beforeTtl = cache.get(key("John"));
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+        Object afterTtl = cache.get(key("John"));
+
+        // Then
+        assertThat(beforeTtl).isEqualTo("john");
+        assertThat(afterTtl).isNull();
+        assertThat(cache.stats().getInteger("size")).isEqualTo(0);
+    }
+
+    @Test public void should_invalidate_by_key_and_by_tag() {
+        // Given
+        ResultCache cache = new ResultCache(10, 1000, now::get);
+        cache.put(key("John"), "john", "persons", cache.generation());
+        cache.put(new ReadKey(QUERY, Values.parameters("name", "John"), true), "one john", null, cache.generation());
+        cache.put(key("Jane"), "jane", "persons", cache.generation());
+        cache.put(key("Jack"), "jack", "others", cache.generation());
+
+        // When
+        cache.invalidate(QUERY, Values.parameters("name", "John"));
+        cache.invalidateTag("persons");
+
+        // Then
+        assertThat(cache.stats().getInteger("size")).isEqualTo(1);
+        assertThat(cache.get(key("Jack"))).isEqualTo("jack");
+    }
+
+    @Test public void should_not_cache_result_read_before_invalidation() {
+        // Given
+        ResultCache cache = new ResultCache(10, 1000, now::get);
+        long generation = cache.generation();
+
+        // When
+        cache.invalidateTag("persons");
+        cache.put(key("John"), "stale", "persons", generation);
+
+        // Then
+        assertThat(cache.get(key("John"))).isNull();
+    }
+
+    private static ReadKey key(String name) {
+        return new ReadKey(QUERY, Values.parameters("name", name), false);
+    }
+}
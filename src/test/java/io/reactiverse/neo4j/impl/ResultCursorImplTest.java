@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2018-2020 Olympe S.A.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.reactiverse.neo4j.impl;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.unit.junit.VertxUnitRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.neo4j.driver.Record;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.Values;
+import org.neo4j.driver.async.ResultCursor;
+import org.neo4j.driver.exceptions.ClientException;
+import org.neo4j.driver.internal.InternalRecord;
+
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.mockito.Mockito.*;
+
+@RunWith(VertxUnitRunner.class)
+public class ResultCursorImplTest {
+
+    private Vertx vertx;
+    private ResultCursor cursor;
+
+    @Before
+    public void setUp() {
+        vertx = Vertx.vertx();
+        cursor = mock(ResultCursor.class);
+    }
+
+    @After
+    public void tearDown(TestContext testContext) {
+        vertx.close(testContext.asyncAssertSuccess());
+    }
+
+    @Test public void should_deliver_buffered_records_without_hopping_when_on_context(TestContext testContext) {
+        Async async = testContext.async();
+        Context context = vertx.getOrCreateContext();
+        when(cursor.nextAsync()).thenReturn(completedFuture(record(0)), completedFuture(record(1)), completedFuture(null));
+
+        context.runOnContext(v -> {
+            AtomicBoolean delivered = new AtomicBoolean();
+            new ResultCursorImpl(cursor, context).next(10, testContext.asyncAssertSuccess(batch -> {
+                testContext.assertEquals(batch.size(), 2);
+                delivered.set(true);
+            }));
+            testContext.assertTrue(delivered.get());
+            async.complete();
+        });
+    }
+
+    @Test public void should_hop_to_context_when_record_is_received_later(TestContext testContext) {
+        Async async = testContext.async();
+        Context context = vertx.getOrCreateContext();
+        CompletableFuture<Record> received = new CompletableFuture<>();
+        when(cursor.nextAsync()).thenReturn(received, completedFuture(null));
+
+        new ResultCursorImpl(cursor, context).next(10, testContext.asyncAssertSuccess(batch -> {
+            testContext.assertEquals(Vertx.currentContext(), context);
+            testContext.assertEquals(batch.size(), 1);
+            async.complete();
+        }));
+        new Thread(() -> received.complete(record(0))).start();
+    }
+
+    @Test public void should_deliver_cursor_failure(TestContext testContext) {
+        Async async = testContext.async();
+        Context context = vertx.getOrCreateContext();
+        CompletableFuture<Record> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new ClientException("boom"));
+        when(cursor.nextAsync()).thenReturn(failed);
+
+        context.runOnContext(v -> new ResultCursorImpl(cursor, context).one(testContext.asyncAssertFailure(error -> {
+            testContext.assertTrue(error instanceof ClientException);
+            testContext.assertEquals(error.getMessage(), "boom");
+            async.complete();
+        })));
+    }
+
+    private static Record record(int n) {
+        return new InternalRecord(Collections.singletonList("n"), new Value[]{Values.value(n)});
+    }
+}
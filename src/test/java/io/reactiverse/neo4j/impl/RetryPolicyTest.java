@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2018-2020 Olympe S.A.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.reactiverse.neo4j.impl;
+
+import io.reactiverse.neo4j.Util;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.unit.junit.VertxUnitRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.neo4j.driver.exceptions.ClientException;
+import org.neo4j.driver.exceptions.ServiceUnavailableException;
+import org.neo4j.driver.exceptions.SessionExpiredException;
+import org.neo4j.driver.exceptions.TransientException;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(VertxUnitRunner.class)
+public class RetryPolicyTest {
+
+    private Vertx vertx;
+
+    @Before
+    public void setUp() {
+        vertx = Vertx.vertx();
+    }
+
+    @After
+    public void tearDown(TestContext testContext) {
+        vertx.close(testContext.asyncAssertSuccess());
+    }
+
+    @Test public void should_classify_retryable_errors() {
+        assertThat(RetryPolicy.isRetryable(new TransientException("Neo.TransientError.Transaction.DeadlockDetected", "deadlock"))).isTrue();
+        assertThat(RetryPolicy.isRetryable(new CompletionException(new ServiceUnavailableException("unavailable")))).isTrue();
+        assertThat(RetryPolicy.isRetryable(new SessionExpiredException("expired"))).isTrue();
+        assertThat(RetryPolicy.isRetryable(new TransientException("Neo.TransientError.Transaction.Terminated", "terminated"))).isFalse();
+        assertThat(RetryPolicy.isRetryable(new TransientException("Neo.TransientError.Transaction.LockClientStopped", "stopped"))).isFalse();
+        assertThat(RetryPolicy.isRetryable(new ClientException("Neo.ClientError.Statement.SyntaxError", "syntax"))).isFalse();
+    }
+
+    @Test public void should_double_delay_up_to_max_delay() {
+        // Given
+        RetryPolicy policy = new RetryPolicy(10, 100, 1_000, 0.5, () -> 0.5);
+
+        // When / Then
+        assertThat(policy.delayMillis(1)).isEqualTo(100);
+        assertThat(policy.delayMillis(2)).isEqualTo(200);
+        assertThat(policy.delayMillis(4)).isEqualTo(800);
+        assertThat(policy.delayMillis(5)).isEqualTo(1_000);
+    }
+
+    @Test public void should_spread_delay_by_jitter_factor() {
+        // Given
+        RetryPolicy lowest = new RetryPolicy(10, 100, 1_000, 0.2, () -> 0);
+        RetryPolicy highest = new RetryPolicy(10, 100, 1_000, 0.2, () -> 1);
+
+        // When / Then
+        assertThat(lowest.delayMillis(1)).isEqualTo(80);
+        assertThat(highest.delayMillis(1)).isEqualTo(120);
+    }
+
+    @Test public void should_retry_until_success(TestContext testContext) {
+        Async async = testContext.async();
+        RetryPolicy policy = new RetryPolicy(3, 1, 10, 0.2);
+        AtomicInteger attempts = new AtomicInteger();
+
+        policy.execute(vertx, () -> attempts.incrementAndGet() < 3
+                ? Future.<String>failedFuture(new TransientException("Neo.TransientError.Transaction.DeadlockDetected", "deadlock"))
+                : Future.succeededFuture("done"), testContext.asyncAssertSuccess(result -> {
+            testContext.assertEquals(result, "done");
+            testContext.assertEquals(attempts.get(), 3);
+            async.complete();
+        }));
+    }
+
+    @Test public void should_give_up_after_max_attempts(TestContext testContext) {
+        Async async = testContext.async();
+        RetryPolicy policy = new RetryPolicy(2, 1, 10, 0.2);
+        AtomicInteger attempts = new AtomicInteger();
+
+        policy.execute(vertx, () -> {
+            attempts.incrementAndGet();
+            return Future.<String>failedFuture(new SessionExpiredException("expired"));
+        }, testContext.asyncAssertFailure(error -> {
+            testContext.assertTrue(error instanceof SessionExpiredException);
+            testContext.assertEquals(attempts.get(), 2);
+            async.complete();
+        }));
+    }
+
+    @Test public void should_not_retry_other_errors(TestContext testContext) {
+        Async async = testContext.async();
+        RetryPolicy policy = new RetryPolicy(3, 1, 10, 0.2);
+        AtomicInteger attempts = new AtomicInteger();
+
+        policy.execute(vertx, () -> {
+            attempts.incrementAndGet();
+            throw new ClientException("Neo.ClientError.Statement.SyntaxError", "syntax");
+        }, testContext.asyncAssertFailure(error -> {
+            testContext.assertTrue(error instanceof ClientException);
+            testContext.assertEquals(attempts.get(), 1);
+            async.complete();
+        }));
+    }
+
+    @Test public void should_retry_driver_error_caused_by_another_error(TestContext testContext) {
+        Async async = testContext.async();
+        RetryPolicy policy = new RetryPolicy(3, 1, 10, 0.2);
+        AtomicInteger attempts = new AtomicInteger();
+
+        policy.execute(vertx, () -> {
+            CompletableFuture<String> result = new CompletableFuture<>();
+            if (attempts.incrementAndGet() < 3) {
+                result.completeExceptionally(new CompletionException(new ServiceUnavailableException("unavailable", new IOException("reset"))));
+            } else {
+                result.complete("done");
+            }
+            Promise<String> promise = Promise.promise();
+            result.whenComplete(Util.wrapCallback(vertx.getOrCreateContext(), promise));
+            return promise.future();
+        }, testContext.asyncAssertSuccess(result -> {
+            testContext.assertEquals(result, "done");
+            testContext.assertEquals(attempts.get(), 3);
+            async.complete();
+        }));
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2018-2020 Olympe S.A.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.reactiverse.neo4j.impl;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.unit.junit.VertxUnitRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.SessionConfig;
+import org.neo4j.driver.async.AsyncSession;
+import org.neo4j.driver.exceptions.ServiceUnavailableException;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@RunWith(VertxUnitRunner.class)
+public class SessionPoolTest {
+
+    private Vertx vertx;
+    private Context context;
+    private Driver driver;
+
+    @Before
+    public void setUp() {
+        vertx = Vertx.vertx();
+        context = vertx.getOrCreateContext();
+        driver = mock(Driver.class);
+        when(driver.asyncSession(any(SessionConfig.class))).thenAnswer(invocation -> {
+            AsyncSession session = mock(AsyncSession.class);
+            when(session.closeAsync()).thenReturn(completedFuture(null));
+            return session;
+        });
+    }
+
+    @After
+    public void tearDown(TestContext testContext) {
+        vertx.close(testContext.asyncAssertSuccess());
+    }
+
+    @Test public void should_reuse_released_session(TestContext testContext) {
+        Async async = testContext.async();
+        SessionPool pool = new SessionPool(context, driver, SessionConfig.defaultConfig(), 2, 0);
+
+        context.runOnContext(v -> {
+            AsyncSession session = pool.acquire();
+            pool.release(session, null);
+            context.runOnContext(released -> {
+                testContext.assertEquals(pool.idleSize(), 1);
+                testContext.assertTrue(pool.acquire() == session);
+                verify(driver, times(1)).asyncSession(any(SessionConfig.class));
+                verify(session, never()).closeAsync();
+                async.complete();
+            });
+        });
+    }
+
+    @Test public void should_close_sessions_beyond_max_idle_or_after_failure(TestContext testContext) {
+        Async async = testContext.async();
+        SessionPool pool = new SessionPool(context, driver, SessionConfig.defaultConfig(), 1, 0);
+
+        context.runOnContext(v -> {
+            AsyncSession first = pool.acquire();
+            AsyncSession second = pool.acquire();
+            AsyncSession failed = pool.acquire();
+            pool.release(first, null);
+            pool.release(second, null);
+            pool.release(failed, new ServiceUnavailableException("Connection lost"));
+            context.runOnContext(released -> {
+                testContext.assertEquals(pool.idleSize(), 1);
+                verify(first, never()).closeAsync();
+                verify(second).closeAsync();
+                verify(failed).closeAsync();
+                async.complete();
+            });
+        });
+    }
+
+    @Test public void should_evict_idle_sessions(TestContext testContext) {
+        Async async = testContext.async();
+        SessionPool pool = new SessionPool(context, driver, SessionConfig.defaultConfig(), 2, 20);
+
+        context.runOnContext(v -> {
+            AsyncSession session = pool.acquire();
+            pool.release(session, null);
+            vertx.setTimer(200, id -> {
+                testContext.assertEquals(pool.idleSize(), 0);
+                verify(session).closeAsync();
+                async.complete();
+            });
+        });
+    }
+
+    @Test public void should_close_every_session_without_context(TestContext testContext) {
+        SessionPool pool = new SessionPool(driver, SessionConfig.defaultConfig());
+
+        AsyncSession session = pool.acquire();
+        pool.release(session, null);
+
+        verify(session).closeAsync();
+        testContext.assertTrue(pool.acquire() != session);
+    }
+}
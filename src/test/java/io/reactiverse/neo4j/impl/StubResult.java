@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2018-2020 Olympe S.A.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.reactiverse.neo4j.impl;
+
+import io.vertx.core.json.JsonObject;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.IntFunction;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The result served by a {@link BoltStubServer} for a query : its fields and records, the counters and the latency
+ * reported in its summary, or the failure of the query.
+ */
+final class StubResult {
+
+    static final String GENERATED_FIELD = "value";
+
+    final List<String> fields;
+    final int rowCount;
+    final IntFunction<List<Object>> rows;
+    final JsonObject stats;
+    final long latencyMillis;
+    final String failureCode;
+    final String failureMessage;
+
+    private StubResult(List<String> fields, int rowCount, IntFunction<List<Object>> rows, JsonObject stats,
+                       long latencyMillis, String failureCode, String failureMessage) {
+        this.fields = fields;
+        this.rowCount = rowCount;
+        this.rows = rows;
+        this.stats = stats;
+        this.latencyMillis = latencyMillis;
+        this.failureCode = failureCode;
+        this.failureMessage = failureMessage;
+    }
+
+    static StubResult empty() {
+        return of(Collections.emptyList(), Collections.emptyList());
+    }
+
+    /**
+     * @param rows  the values of each record, in the order of the fields
+     */
+    static StubResult of(List<String> fields, List<List<Object>> rows) {
+        List<List<Object>> copy = new ArrayList<>(rows);
+        return new StubResult(new ArrayList<>(fields), copy.size(), copy::get, null, 0, null, null);
+    }
+
+    /**
+     * @return a result of {@code rowCount} records with a single {@value #GENERATED_FIELD} field holding a string of
+     * {@code rowSize} characters
+     */
+    static StubResult generated(int rowCount, int rowSize) {
+        if (rowCount < 0 || rowSize < 0) {
+            throw new IllegalArgumentException("Row count and row size must be positive");
+        }
+        StringBuilder value = new StringBuilder(rowSize);
+        for (int i = 0; i < rowSize; i++) {
+            value.append((char) ('a' + i % 26));
+        }
+        List<Object> row = Collections.singletonList(value.toString());
+        return new StubResult(Collections.singletonList(GENERATED_FIELD), rowCount, index -> row, null, 0, null, null);
+    }
+
+    /**
+     * @param code  the Neo4j status code, e.g. {@code Neo.TransientError.Transaction.DeadlockDetected}
+     */
+    static StubResult failure(String code, String message) {
+        return new StubResult(Collections.emptyList(), 0, null, null, 0, requireNonNull(code), requireNonNull(message));
+    }
+
+    /**
+     * @param stats  the counters of the summary, by their Bolt name, e.g. {@code nodes-created}
+     */
+    StubResult withStats(JsonObject stats) {
+        return new StubResult(fields, rowCount, rows, stats.copy(), latencyMillis, failureCode, failureMessage);
+    }
+
+    /**
+     * @param latencyMillis  the delay before the server answers the query, also reported as the time to the first record
+     */
+    StubResult withLatency(long latencyMillis) {
+        if (latencyMillis < 0) {
+            throw new IllegalArgumentException("Latency must be positive");
+        }
+        return new StubResult(fields, rowCount, rows, stats, latencyMillis, failureCode, failureMessage);
+    }
+
+    boolean failed() {
+        return failureCode != null;
+    }
+}
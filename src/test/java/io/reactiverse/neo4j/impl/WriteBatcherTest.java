@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2018-2020 Olympe S.A.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.reactiverse.neo4j.impl;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.unit.junit.VertxUnitRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.neo4j.driver.Query;
+import org.neo4j.driver.summary.ResultSummary;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.mockito.Mockito.mock;
+
+@RunWith(VertxUnitRunner.class)
+public class WriteBatcherTest {
+
+    private Vertx vertx;
+    private Context context;
+    private final List<List<Query>> batches = new CopyOnWriteArrayList<>();
+    private final List<Query> singles = new CopyOnWriteArrayList<>();
+
+    @Before
+    public void setUp() {
+        vertx = Vertx.vertx();
+        context = vertx.getOrCreateContext();
+    }
+
+    @After
+    public void tearDown(TestContext testContext) {
+        vertx.close(testContext.asyncAssertSuccess());
+    }
+
+    @Test public void should_write_batch_when_max_size_is_reached(TestContext testContext) {
+        Async async = testContext.async(3);
+        WriteBatcher batcher = new WriteBatcher(context, 3, 60_000, this::succeedingBatch, this::succeedingSingle);
+
+        context.runOnContext(v -> {
+            for (int i = 0; i < 3; i++) {
+                batcher.write(new Query("CREATE (:Person {id: " + i + "})"), testContext.asyncAssertSuccess(summary -> {
+                    testContext.assertEquals(batches.size(), 1);
+                    testContext.assertEquals(batches.get(0).size(), 3);
+                    testContext.assertTrue(singles.isEmpty());
+                    async.countDown();
+                }));
+            }
+            testContext.assertEquals(batcher.pendingSize(), 0);
+        });
+    }
+
+    @Test public void should_write_batch_when_window_elapses(TestContext testContext) {
+        Async async = testContext.async(2);
+        WriteBatcher batcher = new WriteBatcher(context, 10, 10, this::succeedingBatch, this::succeedingSingle);
+
+        context.runOnContext(v -> {
+            for (int i = 0; i < 2; i++) {
+                batcher.write(new Query("CREATE (:Person)"), testContext.asyncAssertSuccess(summary -> {
+                    testContext.assertEquals(batches.size(), 1);
+                    testContext.assertEquals(batches.get(0).size(), 2);
+                    async.countDown();
+                }));
+            }
+            testContext.assertEquals(batcher.pendingSize(), 2);
+        });
+    }
+
+    @Test public void should_write_lone_query_in_its_own_transaction(TestContext testContext) {
+        Async async = testContext.async();
+        WriteBatcher batcher = new WriteBatcher(context, 10, 10, this::succeedingBatch, this::succeedingSingle);
+
+        context.runOnContext(v -> batcher.write(new Query("CREATE (:Person)"), testContext.asyncAssertSuccess(summary -> {
+            testContext.assertTrue(batches.isEmpty());
+            testContext.assertEquals(singles.size(), 1);
+            async.complete();
+        })));
+    }
+
+    @Test public void should_write_queries_one_by_one_when_batch_fails(TestContext testContext) {
+        Async async = testContext.async(2);
+        Query failing = new Query("CREATE (:Person");
+        WriteBatcher batcher = new WriteBatcher(context, 2, 60_000, queries -> {
+            batches.add(queries);
+            CompletableFuture<List<ResultSummary>> result = new CompletableFuture<>();
+            result.completeExceptionally(new IllegalStateException("boom"));
+            return result;
+        }, query -> {
+            singles.add(query);
+            if (query == failing) {
+                CompletableFuture<ResultSummary> result = new CompletableFuture<>();
+                result.completeExceptionally(new IllegalStateException("boom"));
+                return result;
+            }
+            return completedFuture(mock(ResultSummary.class));
+        });
+
+        context.runOnContext(v -> {
+            batcher.write(new Query("CREATE (:Person)"), testContext.asyncAssertSuccess(summary -> {
+                testContext.assertEquals(batches.size(), 1);
+                async.countDown();
+            }));
+            batcher.write(failing, testContext.asyncAssertFailure(error -> {
+                testContext.assertEquals(batches.size(), 1);
+                testContext.assertEquals(error.getMessage(), "boom");
+                async.countDown();
+            }));
+        });
+    }
+
+    @Test public void should_fail_pending_writes_on_close(TestContext testContext) {
+        Async async = testContext.async();
+        WriteBatcher batcher = new WriteBatcher(context, 10, 60_000, this::succeedingBatch, this::succeedingSingle);
+
+        context.runOnContext(v -> {
+            batcher.write(new Query("CREATE (:Person)"), testContext.asyncAssertFailure(error -> {
+                testContext.assertTrue(error instanceof IllegalStateException);
+                testContext.assertTrue(batches.isEmpty());
+                testContext.assertTrue(singles.isEmpty());
+                async.complete();
+            }));
+            batcher.close();
+        });
+    }
+
+    private CompletionStage<List<ResultSummary>> succeedingBatch(List<Query> queries) {
+        batches.add(queries);
+        List<ResultSummary> summaries = new ArrayList<>();
+        for (int i = 0; i < queries.size(); i++) {
+            summaries.add(mock(ResultSummary.class));
+        }
+        return completedFuture(summaries);
+    }
+
+    private CompletionStage<ResultSummary> succeedingSingle(Query query) {
+        singles.add(query);
+        return completedFuture(mock(ResultSummary.class));
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2018-2020 Olympe S.A.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.reactiverse.neo4j.options;
+
+import io.vertx.core.json.JsonObject;
+import org.junit.Test;
+
+import static io.reactiverse.neo4j.options.BulkLoadOptions.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BulkLoadOptionsTest {
+
+    @Test public void should_have_default_configuration() {
+        // When
+        BulkLoadOptions options = new BulkLoadOptions();
+
+        // Then
+        assertThat(options.getChunkSize()).isEqualTo(DEFAULT_CHUNK_SIZE);
+        assertThat(options.getConcurrency()).isEqualTo(DEFAULT_CONCURRENCY);
+        assertThat(options.getMaxRetries()).isEqualTo(DEFAULT_MAX_RETRIES);
+        assertThat(options.getRetryDelayMillis()).isEqualTo(DEFAULT_RETRY_DELAY_MILLIS);
+    }
+
+    @Test public void should_be_created_from_json() {
+        // Given
+        JsonObject json = new JsonObject()
+                .put("chunkSize", 500)
+                .put("concurrency", 8)
+                .put("maxRetries", 1)
+                .put("retryDelayMillis", 200);
+
+        // When
+        BulkLoadOptions options = new BulkLoadOptions(json);
+
+        // Then
+        assertThat(options.getChunkSize()).isEqualTo(500);
+        assertThat(options.getConcurrency()).isEqualTo(8);
+        assertThat(options.getMaxRetries()).isEqualTo(1);
+        assertThat(options.getRetryDelayMillis()).isEqualTo(200);
+        assertThat(options.toJson()).isEqualTo(json);
+    }
+}
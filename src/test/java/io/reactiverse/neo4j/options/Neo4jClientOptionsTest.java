@@ -21,11 +21,12 @@ import io.vertx.core.json.JsonObject;
 import org.junit.Test;
 import org.neo4j.driver.Config;
 import org.neo4j.driver.Logging;
+import org.neo4j.driver.net.ServerAddress;
 
-import static io.reactiverse.neo4j.options.Neo4jClientOptions.DEFAULT_SINGLE_NODE_HOST;
-import static io.reactiverse.neo4j.options.Neo4jClientOptions.DEFAULT_SINGLE_NODE_PORT;
+import static io.reactiverse.neo4j.options.Neo4jClientOptions.*;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.neo4j.driver.internal.async.pool.PoolSettings.*;
+import static org.neo4j.driver.internal.cluster.RoutingSettings.STALE_ROUTING_TABLE_PURGE_DELAY_MS;
 import static org.neo4j.driver.internal.handlers.pulln.FetchSizeUtil.DEFAULT_FETCH_SIZE;
 
 public class Neo4jClientOptionsTest {
@@ -49,6 +50,27 @@ public class Neo4jClientOptionsTest {
         assertThat(options.getMaxConnectionLifetimeMillis()).isEqualTo(DEFAULT_MAX_CONNECTION_LIFETIME);
         assertThat(options.getIdleTimeBeforeConnectionTest()).isEqualTo(DEFAULT_IDLE_TIME_BEFORE_CONNECTION_TEST);
         assertThat(options.getEventLoopThreads()).isEqualTo(0);
+        assertThat(options.getMaxIdleSessions()).isEqualTo(DEFAULT_MAX_IDLE_SESSIONS);
+        assertThat(options.getIdleSessionTimeoutMillis()).isEqualTo(DEFAULT_IDLE_SESSION_TIMEOUT_MILLIS);
+        assertThat(options.getResultCacheMaxSize()).isEqualTo(DEFAULT_RESULT_CACHE_MAX_SIZE);
+        assertThat(options.getResultCacheTtlMillis()).isEqualTo(DEFAULT_RESULT_CACHE_TTL_MILLIS);
+        assertThat(options.isCoalesceReads()).isEqualTo(DEFAULT_COALESCE_READS);
+        assertThat(options.getLatencyTrackingMaxQueries()).isEqualTo(DEFAULT_LATENCY_TRACKING_MAX_QUERIES);
+        assertThat(options.isLatencyTrackingEnabled()).isEqualTo(DEFAULT_LATENCY_TRACKING_ENABLED);
+        assertThat(options.getRetryJitterFactor()).isEqualTo(DEFAULT_RETRY_JITTER_FACTOR);
+        assertThat(options.getRetryMaxDelayMillis()).isEqualTo(DEFAULT_RETRY_MAX_DELAY_MILLIS);
+        assertThat(options.getRetryInitialDelayMillis()).isEqualTo(DEFAULT_RETRY_INITIAL_DELAY_MILLIS);
+        assertThat(options.getRetryMaxAttempts()).isEqualTo(DEFAULT_RETRY_MAX_ATTEMPTS);
+        assertThat(options.getQueryTimeoutMillis()).isEqualTo(DEFAULT_QUERY_TIMEOUT_MILLIS);
+        assertThat(options.getTransactionMetadata()).isNull();
+        assertThat(options.isAdaptiveInFlightLimit()).isEqualTo(DEFAULT_ADAPTIVE_IN_FLIGHT_LIMIT);
+        assertThat(options.getMaxQueuedRequests()).isEqualTo(DEFAULT_MAX_QUEUED_REQUESTS);
+        assertThat(options.getMaxInFlightRequests()).isEqualTo(DEFAULT_MAX_IN_FLIGHT_REQUESTS);
+        assertThat(options.getWriteBatchMaxSize()).isEqualTo(DEFAULT_WRITE_BATCH_MAX_SIZE);
+        assertThat(options.getWriteBatchWindowMillis()).isEqualTo(DEFAULT_WRITE_BATCH_WINDOW_MILLIS);
+        assertThat(options.getRouters()).isEmpty();
+        assertThat(options.getRoutingTablePurgeDelayMillis()).isEqualTo(STALE_ROUTING_TABLE_PURGE_DELAY_MS);
+        assertThat(options.getConnectionTimeoutMillis()).isEqualTo(Config.defaultConfig().connectionTimeoutMillis());
     }
 
     @Test public void should_check_default_neo4j_config() {
@@ -70,6 +92,26 @@ public class Neo4jClientOptionsTest {
         assertThat(config.connectionAcquisitionTimeoutMillis()).isEqualTo(options.getConnectionAcquisitionTimeoutMillis());
         assertThat(config.maxConnectionLifetimeMillis()).isEqualTo(options.getMaxConnectionLifetimeMillis());
         assertThat(config.idleTimeBeforeConnectionTest()).isEqualTo(options.getIdleTimeBeforeConnectionTest());
+        assertThat(config.connectionTimeoutMillis()).isEqualTo(options.getConnectionTimeoutMillis());
+    }
+
+    @Test public void should_resolve_initial_router_to_configured_routers() {
+        // Given
+        Neo4jClientOptions options = new Neo4jClientOptions()
+                .addRouter("core1.example.com:7687")
+                .addRouter("core2.example.com:7688");
+
+        // When
+        Config config = options.neo4jConfig();
+
+        // Then
+        assertThat(config.resolver().resolve(ServerAddress.of("cluster.example.com", 7687)))
+                .containsExactlyInAnyOrder(ServerAddress.of("core1.example.com", 7687), ServerAddress.of("core2.example.com", 7688));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void should_reject_router_without_port() {
+        new Neo4jClientOptions().addRouter("core1.example.com");
     }
 
     @Test public void should_have_specific_configuration() {
@@ -86,6 +128,27 @@ public class Neo4jClientOptionsTest {
                 .setFetchSize(5000)
                 .setMaxConnectionPoolSize(200)
                 .setEventLoopThreads(12)
+                .setMaxIdleSessions(8)
+                .setIdleSessionTimeoutMillis(30000)
+                .setResultCacheMaxSize(500)
+                .setResultCacheTtlMillis(5000)
+                .setCoalesceReads(true)
+                .setLatencyTrackingMaxQueries(100)
+                .setLatencyTrackingEnabled(true)
+                .setRetryJitterFactor(0.5)
+                .setRetryMaxDelayMillis(2000)
+                .setRetryInitialDelayMillis(50)
+                .setRetryMaxAttempts(5)
+                .setQueryTimeoutMillis(30000)
+                .setTransactionMetadata(new JsonObject().put("service", "billing"))
+                .setAdaptiveInFlightLimit(true)
+                .setMaxQueuedRequests(128)
+                .setMaxInFlightRequests(64)
+                .setWriteBatchMaxSize(50)
+                .setWriteBatchWindowMillis(2)
+                .addRouter("core1.example.com:7687")
+                .setRoutingTablePurgeDelayMillis(10000)
+                .setConnectionTimeoutMillis(2000)
                 .addClusterNodeURI("bolt+routing://198.67.88.11:8888")
                 .addClusterNodeURI("bolt+routing://177.66.1.2:7777")
                 .setAuthOptions(new Neo4jClientAuthOptions())
@@ -107,6 +170,27 @@ public class Neo4jClientOptionsTest {
         assertThat(options.getMaxConnectionPoolSize()).isEqualTo(200);
         assertThat(options.getFetchSize()).isEqualTo(5000);
         assertThat(options.getEventLoopThreads()).isEqualTo(12);
+        assertThat(options.getMaxIdleSessions()).isEqualTo(8);
+        assertThat(options.getIdleSessionTimeoutMillis()).isEqualTo(30000);
+        assertThat(options.getResultCacheMaxSize()).isEqualTo(500);
+        assertThat(options.getResultCacheTtlMillis()).isEqualTo(5000);
+        assertThat(options.isCoalesceReads()).isTrue();
+        assertThat(options.getLatencyTrackingMaxQueries()).isEqualTo(100);
+        assertThat(options.isLatencyTrackingEnabled()).isTrue();
+        assertThat(options.getRetryJitterFactor()).isEqualTo(0.5);
+        assertThat(options.getRetryMaxDelayMillis()).isEqualTo(2000);
+        assertThat(options.getRetryInitialDelayMillis()).isEqualTo(50);
+        assertThat(options.getRetryMaxAttempts()).isEqualTo(5);
+        assertThat(options.getQueryTimeoutMillis()).isEqualTo(30000);
+        assertThat(options.getTransactionMetadata()).isEqualTo(new JsonObject().put("service", "billing"));
+        assertThat(options.isAdaptiveInFlightLimit()).isTrue();
+        assertThat(options.getMaxQueuedRequests()).isEqualTo(128);
+        assertThat(options.getMaxInFlightRequests()).isEqualTo(64);
+        assertThat(options.getWriteBatchMaxSize()).isEqualTo(50);
+        assertThat(options.getWriteBatchWindowMillis()).isEqualTo(2);
+        assertThat(options.getRouters()).containsExactly("core1.example.com:7687");
+        assertThat(options.getRoutingTablePurgeDelayMillis()).isEqualTo(10000);
+        assertThat(options.getConnectionTimeoutMillis()).isEqualTo(2000);
     }
 
     @Test public void should_convert_to_json() {
@@ -123,6 +207,27 @@ public class Neo4jClientOptionsTest {
                 .setFetchSize(6000)
                 .setMaxConnectionPoolSize(200)
                 .setEventLoopThreads(12)
+                .setMaxIdleSessions(8)
+                .setIdleSessionTimeoutMillis(30000)
+                .setResultCacheMaxSize(500)
+                .setResultCacheTtlMillis(5000)
+                .setCoalesceReads(true)
+                .setLatencyTrackingMaxQueries(100)
+                .setLatencyTrackingEnabled(true)
+                .setRetryJitterFactor(0.5)
+                .setRetryMaxDelayMillis(2000)
+                .setRetryInitialDelayMillis(50)
+                .setRetryMaxAttempts(5)
+                .setQueryTimeoutMillis(30000)
+                .setTransactionMetadata(new JsonObject().put("service", "billing"))
+                .setAdaptiveInFlightLimit(true)
+                .setMaxQueuedRequests(128)
+                .setMaxInFlightRequests(64)
+                .setWriteBatchMaxSize(50)
+                .setWriteBatchWindowMillis(2)
+                .addRouter("core1.example.com:7687")
+                .setRoutingTablePurgeDelayMillis(10000)
+                .setConnectionTimeoutMillis(2000)
                 .addClusterNodeURI("bolt+routing://198.67.88.11:8888")
                 .addClusterNodeURI("bolt+routing://177.66.1.2:7777")
                 .setAuthOptions(new Neo4jClientAuthOptions())
@@ -143,6 +248,27 @@ public class Neo4jClientOptionsTest {
         assertThat(jsonObject.getLong("fetchSize")).isEqualTo(6000);
         assertThat(jsonObject.getInteger("maxConnectionPoolSize")).isEqualTo(200);
         assertThat(jsonObject.getInteger("eventLoopThreads")).isEqualTo(12);
+        assertThat(jsonObject.getInteger("maxIdleSessions")).isEqualTo(8);
+        assertThat(jsonObject.getLong("idleSessionTimeoutMillis")).isEqualTo(30000);
+        assertThat(jsonObject.getInteger("resultCacheMaxSize")).isEqualTo(500);
+        assertThat(jsonObject.getLong("resultCacheTtlMillis")).isEqualTo(5000);
+        assertThat(jsonObject.getBoolean("coalesceReads")).isTrue();
+        assertThat(jsonObject.getInteger("latencyTrackingMaxQueries")).isEqualTo(100);
+        assertThat(jsonObject.getBoolean("latencyTrackingEnabled")).isTrue();
+        assertThat(jsonObject.getDouble("retryJitterFactor")).isEqualTo(0.5);
+        assertThat(jsonObject.getLong("retryMaxDelayMillis")).isEqualTo(2000);
+        assertThat(jsonObject.getLong("retryInitialDelayMillis")).isEqualTo(50);
+        assertThat(jsonObject.getInteger("retryMaxAttempts")).isEqualTo(5);
+        assertThat(jsonObject.getLong("queryTimeoutMillis")).isEqualTo(30000);
+        assertThat(jsonObject.getJsonObject("transactionMetadata")).isEqualTo(new JsonObject().put("service", "billing"));
+        assertThat(jsonObject.getBoolean("adaptiveInFlightLimit")).isTrue();
+        assertThat(jsonObject.getInteger("maxQueuedRequests")).isEqualTo(128);
+        assertThat(jsonObject.getInteger("maxInFlightRequests")).isEqualTo(64);
+        assertThat(jsonObject.getInteger("writeBatchMaxSize")).isEqualTo(50);
+        assertThat(jsonObject.getLong("writeBatchWindowMillis")).isEqualTo(2);
+        assertThat(jsonObject.getJsonArray("routers")).containsExactly("core1.example.com:7687");
+        assertThat(jsonObject.getLong("routingTablePurgeDelayMillis")).isEqualTo(10000);
+        assertThat(jsonObject.getLong("connectionTimeoutMillis")).isEqualTo(2000);
         assertThat(jsonObject.getJsonArray("clusterNodeURIs")).containsExactlyInAnyOrder("bolt+routing://198.67.88.11:8888", "bolt+routing://177.66.1.2:7777");
         assertThat(jsonObject.getJsonObject("authOptions")).isNotNull();
         assertThat(jsonObject.getJsonObject("encryptionOptions")).isNotNull();
@@ -162,6 +288,27 @@ public class Neo4jClientOptionsTest {
             .put("fetchSize", 6000)
             .put("maxConnectionPoolSize", 200)
             .put("eventLoopThreads", 12)
+            .put("maxIdleSessions", 8)
+            .put("idleSessionTimeoutMillis", 30000)
+            .put("resultCacheMaxSize", 500)
+            .put("resultCacheTtlMillis", 5000)
+            .put("coalesceReads", true)
+            .put("latencyTrackingMaxQueries", 100)
+            .put("latencyTrackingEnabled", true)
+            .put("retryJitterFactor", 0.5)
+            .put("retryMaxDelayMillis", 2000)
+            .put("retryInitialDelayMillis", 50)
+            .put("retryMaxAttempts", 5)
+            .put("queryTimeoutMillis", 30000)
+            .put("transactionMetadata", new JsonObject().put("service", "billing"))
+            .put("adaptiveInFlightLimit", true)
+            .put("maxQueuedRequests", 128)
+            .put("maxInFlightRequests", 64)
+            .put("writeBatchMaxSize", 50)
+            .put("writeBatchWindowMillis", 2)
+            .put("routers", new JsonArray().add("core1.example.com:7687"))
+            .put("routingTablePurgeDelayMillis", 10000)
+            .put("connectionTimeoutMillis", 2000)
             .put("clusterNodeURIs", new JsonArray().add("bolt+routing://198.67.88.11:8888").add("bolt+routing://177.66.1.2:7777"))
             .put("authOptions", new JsonObject())
             .put("encryptionOptions", new JsonObject());
@@ -185,5 +332,26 @@ public class Neo4jClientOptionsTest {
         assertThat(options.getMaxConnectionPoolSize()).isEqualTo(200);
         assertThat(options.getFetchSize()).isEqualTo(6000);
         assertThat(options.getEventLoopThreads()).isEqualTo(12);
+        assertThat(options.getMaxIdleSessions()).isEqualTo(8);
+        assertThat(options.getIdleSessionTimeoutMillis()).isEqualTo(30000);
+        assertThat(options.getResultCacheMaxSize()).isEqualTo(500);
+        assertThat(options.getResultCacheTtlMillis()).isEqualTo(5000);
+        assertThat(options.isCoalesceReads()).isTrue();
+        assertThat(options.getLatencyTrackingMaxQueries()).isEqualTo(100);
+        assertThat(options.isLatencyTrackingEnabled()).isTrue();
+        assertThat(options.getRetryJitterFactor()).isEqualTo(0.5);
+        assertThat(options.getRetryMaxDelayMillis()).isEqualTo(2000);
+        assertThat(options.getRetryInitialDelayMillis()).isEqualTo(50);
+        assertThat(options.getRetryMaxAttempts()).isEqualTo(5);
+        assertThat(options.getQueryTimeoutMillis()).isEqualTo(30000);
+        assertThat(options.getTransactionMetadata()).isEqualTo(new JsonObject().put("service", "billing"));
+        assertThat(options.isAdaptiveInFlightLimit()).isTrue();
+        assertThat(options.getMaxQueuedRequests()).isEqualTo(128);
+        assertThat(options.getMaxInFlightRequests()).isEqualTo(64);
+        assertThat(options.getWriteBatchMaxSize()).isEqualTo(50);
+        assertThat(options.getWriteBatchWindowMillis()).isEqualTo(2);
+        assertThat(options.getRouters()).containsExactly("core1.example.com:7687");
+        assertThat(options.getRoutingTablePurgeDelayMillis()).isEqualTo(10000);
+        assertThat(options.getConnectionTimeoutMillis()).isEqualTo(2000);
     }
 }
\ No newline at end of file
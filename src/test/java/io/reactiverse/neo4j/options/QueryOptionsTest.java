@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2018-2020 Olympe S.A.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.reactiverse.neo4j.options;
+
+import io.vertx.core.json.JsonObject;
+import org.junit.Test;
+
+import static io.reactiverse.neo4j.options.QueryOptions.DEFAULT_TIMEOUT_MILLIS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class QueryOptionsTest {
+
+    @Test public void should_have_default_configuration() {
+        // When
+        QueryOptions options = new QueryOptions();
+
+        // Then
+        assertThat(options.getTimeoutMillis()).isEqualTo(DEFAULT_TIMEOUT_MILLIS);
+        assertThat(options.getMetadata()).isNull();
+    }
+
+    @Test public void should_be_created_from_json() {
+        // Given
+        JsonObject json = new JsonObject()
+                .put("timeoutMillis", 500)
+                .put("metadata", new JsonObject().put("requestId", "42"));
+
+        // When
+        QueryOptions options = new QueryOptions(json);
+
+        // Then
+        assertThat(options.getTimeoutMillis()).isEqualTo(500L);
+        assertThat(options.getMetadata()).isEqualTo(new JsonObject().put("requestId", "42"));
+        assertThat(options.toJson()).isEqualTo(json);
+    }
+
+    @Test public void should_keep_zero_and_default_timeouts_in_json() {
+        // When
+        QueryOptions options = new QueryOptions(new JsonObject().put("timeoutMillis", 0));
+
+        // Then
+        assertThat(options.getTimeoutMillis()).isZero();
+        assertThat(options.toJson().getLong("timeoutMillis")).isZero();
+        assertThat(new QueryOptions().toJson().getLong("timeoutMillis")).isEqualTo(DEFAULT_TIMEOUT_MILLIS);
+    }
+}